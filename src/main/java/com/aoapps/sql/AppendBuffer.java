@@ -0,0 +1,126 @@
+/*
+ * ao-sql - SQL and JDBC utilities.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql.
+ *
+ * ao-sql is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+/**
+ * Buffers characters for an {@link Appendable}, so that output is written in large blocks instead of one call per
+ * character.  Runs of a repeated character, such as padding and borders, are filled in bulk.
+ *
+ * <p>A {@link Writer} or {@link StringBuilder} is written from the buffer directly.  Any other {@link Appendable} is
+ * given a single {@link Appendable#append(java.lang.CharSequence, int, int)} per block.</p>
+ *
+ * <p>Nothing is written to the {@link Appendable} until the buffer is full or {@link #flush()} is called.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+final class AppendBuffer {
+
+  private static final int BUFFER_SIZE = 8192;
+
+  private final Appendable out;
+
+  private final char[] buf = new char[BUFFER_SIZE];
+
+  private int pos;
+
+  /**
+   * A view of the buffer for any other {@link Appendable}, created when first needed.
+   */
+  private CharBuffer view;
+
+  AppendBuffer(Appendable out) {
+    this.out = out;
+  }
+
+  void append(char ch) throws IOException {
+    if (pos == BUFFER_SIZE) {
+      flush();
+    }
+    buf[pos++] = ch;
+  }
+
+  void append(String str) throws IOException {
+    append(str, 0, str.length());
+  }
+
+  /**
+   * Appends a range of a string.  A range larger than the buffer is written directly.
+   */
+  void append(String str, int start, int end) throws IOException {
+    int len = end - start;
+    if (len > BUFFER_SIZE - pos) {
+      flush();
+      if (len > BUFFER_SIZE) {
+        if (out instanceof Writer) {
+          ((Writer) out).write(str, start, len);
+        } else {
+          out.append(str, start, end);
+        }
+        return;
+      }
+    }
+    str.getChars(start, end, buf, pos);
+    pos += len;
+  }
+
+  /**
+   * Appends a character the given number of times.
+   */
+  void repeat(char ch, int count) throws IOException {
+    while (count > 0) {
+      if (pos == BUFFER_SIZE) {
+        flush();
+      }
+      int len = Math.min(count, BUFFER_SIZE - pos);
+      Arrays.fill(buf, pos, pos + len, ch);
+      pos += len;
+      count -= len;
+    }
+  }
+
+  /**
+   * Writes any buffered characters to the {@link Appendable}.
+   * This does not flush the {@link Appendable} itself.
+   */
+  void flush() throws IOException {
+    if (pos > 0) {
+      if (out instanceof Writer) {
+        ((Writer) out).write(buf, 0, pos);
+      } else if (out instanceof StringBuilder) {
+        ((StringBuilder) out).append(buf, 0, pos);
+      } else {
+        if (view == null) {
+          view = CharBuffer.wrap(buf);
+        }
+        out.append(view, 0, pos);
+      }
+      pos = 0;
+    }
+  }
+}
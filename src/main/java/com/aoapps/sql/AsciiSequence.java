@@ -0,0 +1,122 @@
+/*
+ * ao-sql - SQL and JDBC utilities.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql.
+ *
+ * ao-sql is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * A read-only {@link CharSequence} view of bytes, one {@code char} per byte, used to run the {@link CharSequence}
+ * parsers directly on encoded input without any charset decode.  The parsed formats are entirely ASCII, so any byte of
+ * a multi-byte UTF-8 sequence is simply not a valid character for them.
+ *
+ * <p>{@link #subSequence(int, int)} and {@link #toString()} decode as UTF-8, so messages and any fallback parsing see
+ * the original text.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+abstract class AsciiSequence implements CharSequence {
+
+  /**
+   * Gets a view of a byte array.
+   */
+  static AsciiSequence of(byte[] bytes) {
+    return new Array(bytes);
+  }
+
+  /**
+   * Gets a view of a byte buffer, heap or direct.  Indexes are absolute, from zero to the limit of the buffer, and the
+   * position of the buffer is not used or changed.
+   */
+  static AsciiSequence of(ByteBuffer buffer) {
+    return new Buffer(buffer);
+  }
+
+  private static final class Array extends AsciiSequence {
+
+    private final byte[] bytes;
+
+    private Array(byte[] bytes) {
+      this.bytes = Objects.requireNonNull(bytes);
+    }
+
+    @Override
+    public int length() {
+      return bytes.length;
+    }
+
+    @Override
+    public char charAt(int index) {
+      return (char) (bytes[index] & 0xFF);
+    }
+
+    @Override
+    public String subSequence(int start, int end) {
+      Objects.checkFromToIndex(start, end, bytes.length);
+      return new String(bytes, start, end - start, StandardCharsets.UTF_8);
+    }
+  }
+
+  private static final class Buffer extends AsciiSequence {
+
+    private final ByteBuffer buffer;
+
+    private Buffer(ByteBuffer buffer) {
+      this.buffer = Objects.requireNonNull(buffer);
+    }
+
+    @Override
+    public int length() {
+      return buffer.limit();
+    }
+
+    @Override
+    public char charAt(int index) {
+      return (char) (buffer.get(index) & 0xFF);
+    }
+
+    @Override
+    public String subSequence(int start, int end) {
+      Objects.checkFromToIndex(start, end, buffer.limit());
+      byte[] bytes = new byte[end - start];
+      for (int i = 0; i < bytes.length; i++) {
+        bytes[i] = buffer.get(start + i);
+      }
+      return new String(bytes, StandardCharsets.UTF_8);
+    }
+  }
+
+  private AsciiSequence() {
+    // Only the nested implementations
+  }
+
+  @Override
+  public abstract String subSequence(int start, int end);
+
+  @Override
+  public String toString() {
+    return subSequence(0, length());
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * ao-sql - SQL and JDBC utilities.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql.
+ *
+ * ao-sql is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql;
+
+import java.util.BitSet;
+import java.util.Objects;
+
+/**
+ * Parses whole columns of values into primitive arrays, without any objects per value.
+ * Each value that fails to parse is recorded in a {@link BitSet} by its destination index, leaving its destination
+ * unchanged, and parsing continues with the next value.
+ *
+ * @author  AO Industries, Inc.
+ */
+final class Columns {
+
+  /** Make no instances. */
+  private Columns() {
+    throw new AssertionError();
+  }
+
+  /**
+   * Parses a single value into a destination index.
+   */
+  @FunctionalInterface
+  interface FieldParser {
+    /**
+     * @throws  IllegalArgumentException  when the value is invalid, in which case the destination must be unchanged
+     */
+    void parse(CharSequence value, int offset, int length, int index) throws IllegalArgumentException;
+  }
+
+  /**
+   * Parses a column of values.  A {@code null} value is an error.
+   *
+   * @return  The number of errors
+   *
+   * @throws  IndexOutOfBoundsException  when either range is out of bounds, in which case nothing is parsed
+   */
+  static int parse(CharSequence[] src, int srcOff, int destOff, int destLength, int len, BitSet errors, FieldParser parser) {
+    Objects.checkFromIndexSize(srcOff, len, src.length);
+    Objects.checkFromIndexSize(destOff, len, destLength);
+    Objects.requireNonNull(errors);
+    int errorCount = 0;
+    for (int i = 0; i < len; i++) {
+      int index = destOff + i;
+      CharSequence value = src[srcOff + i];
+      try {
+        if (value == null) {
+          throw new IllegalArgumentException("null value");
+        }
+        parser.parse(value, 0, value.length(), index);
+      } catch (IllegalArgumentException e) {
+        errors.set(index);
+        errorCount++;
+      }
+    }
+    return errorCount;
+  }
+
+  /**
+   * Parses each delimited field in a region of a buffer, in order, into consecutive destination indexes.
+   * An empty region has no fields, otherwise there is one more field than the number of delimiters.
+   * An empty field is an error.
+   *
+   * @return  The number of fields
+   *
+   * @throws  IndexOutOfBoundsException  when the region is out of bounds, or when the fields do not fit in the
+   *                                     destination, in which case the fields that fit have already been parsed
+   */
+  static int parse(CharSequence buf, int off, int len, char delimiter, int destOff, int destLength, BitSet errors, FieldParser parser) {
+    Objects.checkFromIndexSize(off, len, buf.length());
+    Objects.requireNonNull(errors);
+    if (len == 0) {
+      return 0;
+    }
+    final int end = off + len;
+    int index = destOff;
+    int start = off;
+    while (true) {
+      int pos = start;
+      while (pos < end && buf.charAt(pos) != delimiter) {
+        pos++;
+      }
+      Objects.checkIndex(index, destLength);
+      try {
+        parser.parse(buf, start, pos - start, index);
+      } catch (IllegalArgumentException e) {
+        errors.set(index);
+      }
+      index++;
+      if (pos == end) {
+        return index - destOff;
+      }
+      start = pos + 1;
+    }
+  }
+}
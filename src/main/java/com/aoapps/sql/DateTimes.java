@@ -0,0 +1,530 @@
+/*
+ * ao-sql - SQL and JDBC utilities.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql.
+ *
+ * ao-sql is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql;
+
+import static com.aoapps.sql.FixedPoint.DIGIT_ONES;
+import static com.aoapps.sql.FixedPoint.DIGIT_TENS;
+
+import com.aoapps.lang.util.CalendarUtils;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.GregorianCalendar;
+import java.util.Objects;
+import java.util.TimeZone;
+
+/**
+ * Formats and parses dates and times without {@link GregorianCalendar}, using only the time zone offset and integer
+ * arithmetic on the epoch day.  The results are identical to {@link CalendarUtils}.
+ * Formatting first checks the {@link DayCache} for the time zone.
+ *
+ * <p>Only years 1583 through 9999 are handled directly.  This is after the default Gregorian cutover of
+ * {@link GregorianCalendar}, so the proleptic Gregorian arithmetic here agrees with it, and all years are exactly four
+ * digits.  Anything outside this range falls back to {@link GregorianCalendar}.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+final class DateTimes {
+
+  /** Make no instances. */
+  private DateTimes() {
+    throw new AssertionError();
+  }
+
+  static final long MILLIS_PER_DAY = 24L * 60 * 60 * 1000;
+
+  static final int DATE_LENGTH = "YYYY-MM-DD".length();
+
+  static final int TIME_LENGTH = "HH:MM:SS".length();
+
+  static final int DATE_TIME_LENGTH = DATE_LENGTH + 1 + TIME_LENGTH;
+
+  /**
+   * The first epoch day handled directly: 1583-01-01.
+   */
+  static final long MIN_EPOCH_DAY = toEpochDay(1583, 1, 1);
+
+  /**
+   * The last epoch day handled directly: 9999-12-31.
+   */
+  static final long MAX_EPOCH_DAY = toEpochDay(9999, 12, 31);
+
+  /**
+   * The value returned by the canonical parsers when the input is not in canonical form.
+   */
+  static final long NOT_CANONICAL = Long.MIN_VALUE;
+
+  /**
+   * Gets the given time zone or the default time zone when {@code null}.
+   * The default time zone is shared through {@link DayCache#getDefault()} and must not be modified.
+   */
+  static TimeZone resolve(TimeZone timeZone) {
+    return timeZone == null ? DayCache.getDefault().getTimeZone() : timeZone;
+  }
+
+  /**
+   * A working buffer per thread, so formatting a single time allocates nothing beyond its result.
+   */
+  private static final ThreadLocal<char[]> buffers = ThreadLocal.withInitial(() -> new char[DATE_TIME_LENGTH]);
+
+  /**
+   * Gets the number of days since 1970-01-01 for a date in the proleptic Gregorian calendar.
+   * Only valid for years after 0.
+   *
+   * <p>See <a href="https://howardhinnant.github.io/date_algorithms.html#days_from_civil">days_from_civil</a>.</p>
+   */
+  static long toEpochDay(int year, int month, int day) {
+    int y = month <= 2 ? year - 1 : year;
+    int era = y / 400;
+    int yoe = y - era * 400;
+    int doy = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+    int doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+    return era * 146097L + doe - 719468;
+  }
+
+  /**
+   * Writes an epoch day as <code>YYYY-MM-DD</code>.
+   * The epoch day must be in the range {@link #MIN_EPOCH_DAY} through {@link #MAX_EPOCH_DAY}.
+   *
+   * <p>See <a href="https://howardhinnant.github.io/date_algorithms.html#civil_from_days">civil_from_days</a>.</p>
+   */
+  static void writeDate(long epochDay, char[] buf, int offset) {
+    assert epochDay >= MIN_EPOCH_DAY && epochDay <= MAX_EPOCH_DAY;
+    int z = (int) (epochDay + 719468);
+    int era = z / 146097;
+    int doe = z - era * 146097;
+    int yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+    int doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+    int mp = (5 * doy + 2) / 153;
+    int day = doy - (153 * mp + 2) / 5 + 1;
+    int month = mp < 10 ? mp + 3 : mp - 9;
+    int year = yoe + era * 400 + (month <= 2 ? 1 : 0);
+    int hi = year / 100;
+    int lo = year - hi * 100;
+    buf[offset] = DIGIT_TENS[hi];
+    buf[offset + 1] = DIGIT_ONES[hi];
+    buf[offset + 2] = DIGIT_TENS[lo];
+    buf[offset + 3] = DIGIT_ONES[lo];
+    buf[offset + 4] = '-';
+    buf[offset + 5] = DIGIT_TENS[month];
+    buf[offset + 6] = DIGIT_ONES[month];
+    buf[offset + 7] = '-';
+    buf[offset + 8] = DIGIT_TENS[day];
+    buf[offset + 9] = DIGIT_ONES[day];
+  }
+
+  /**
+   * Writes a millisecond of day as <code>HH:MM:SS</code>.
+   */
+  static void writeTime(int millisOfDay, char[] buf, int offset) {
+    int secondOfDay = millisOfDay / 1000;
+    int hour = secondOfDay / 3600;
+    int minuteOfDay = secondOfDay / 60;
+    int minute = minuteOfDay - hour * 60;
+    int second = secondOfDay - minuteOfDay * 60;
+    buf[offset] = DIGIT_TENS[hour];
+    buf[offset + 1] = DIGIT_ONES[hour];
+    buf[offset + 2] = ':';
+    buf[offset + 3] = DIGIT_TENS[minute];
+    buf[offset + 4] = DIGIT_ONES[minute];
+    buf[offset + 5] = ':';
+    buf[offset + 6] = DIGIT_TENS[second];
+    buf[offset + 7] = DIGIT_ONES[second];
+  }
+
+  private static GregorianCalendar newGregorianCalendar(long time, TimeZone timeZone) {
+    GregorianCalendar gcal = new GregorianCalendar(timeZone);
+    gcal.setTimeInMillis(time);
+    return gcal;
+  }
+
+  /**
+   * The formats supported by {@link #write(com.aoapps.sql.DateTimes.Format, long, java.util.TimeZone, com.aoapps.sql.DayCache, char[], int)}.
+   */
+  enum Format {
+    /**
+     * @see  CalendarUtils#formatDate(java.util.Calendar)
+     */
+    DATE(DATE_LENGTH) {
+      @Override
+      String fallback(long time, TimeZone timeZone) {
+        return CalendarUtils.formatDate(newGregorianCalendar(time, timeZone));
+      }
+    },
+
+    /**
+     * @see  CalendarUtils#formatDateTime(java.util.Calendar)
+     */
+    DATE_TIME(DATE_TIME_LENGTH) {
+      @Override
+      String fallback(long time, TimeZone timeZone) {
+        return CalendarUtils.formatDateTime(newGregorianCalendar(time, timeZone));
+      }
+    },
+
+    /**
+     * @see  CalendarUtils#formatTime(java.util.Calendar)
+     */
+    TIME(TIME_LENGTH) {
+      @Override
+      String fallback(long time, TimeZone timeZone) {
+        return CalendarUtils.formatTime(newGregorianCalendar(time, timeZone));
+      }
+    };
+
+    /**
+     * The number of characters written.
+     */
+    final int length;
+
+    private Format(int length) {
+      this.length = length;
+    }
+
+    /**
+     * Formats through {@link GregorianCalendar}, for times out of the range handled directly.
+     */
+    abstract String fallback(long time, TimeZone timeZone);
+  }
+
+  /**
+   * Writes a time in the given format, using the cache when possible.
+   * Exactly {@link Format#length} characters are written.
+   *
+   * @return  {@code true} when written or {@code false} when out of the range handled directly, in which case
+   *          {@link Format#fallback(long, java.util.TimeZone)} must be used instead
+   */
+  static boolean write(Format format, long time, TimeZone timeZone, DayCache cache, char[] buf, int offset) {
+    long dayStart;
+    DayCache.Day day = cache.get(time);
+    if (day != null) {
+      dayStart = day.start;
+      if (format != Format.TIME) {
+        day.writeDate(buf, offset);
+      }
+    } else {
+      long local = time + timeZone.getOffset(time);
+      long epochDay = Math.floorDiv(local, MILLIS_PER_DAY);
+      if (epochDay < MIN_EPOCH_DAY || epochDay > MAX_EPOCH_DAY) {
+        return false;
+      }
+      dayStart = time - (local - epochDay * MILLIS_PER_DAY);
+      if (format != Format.TIME) {
+        writeDate(epochDay, buf, offset);
+      }
+    }
+    switch (format) {
+      case DATE:
+        break;
+      case DATE_TIME:
+        buf[offset + DATE_LENGTH] = ' ';
+        writeTime((int) (time - dayStart), buf, offset + DATE_LENGTH + 1);
+        break;
+      case TIME:
+        writeTime((int) (time - dayStart), buf, offset);
+        break;
+      default:
+        throw new AssertionError();
+    }
+    return true;
+  }
+
+  /**
+   * Formats a time into a new {@link String}.
+   */
+  static String format(Format format, long time, TimeZone timeZone) {
+    char[] buf = buffers.get();
+    if (write(format, time, timeZone, DayCache.getInstance(timeZone), buf, 0)) {
+      return new String(buf, 0, format.length);
+    }
+    return format.fallback(time, timeZone);
+  }
+
+  /**
+   * Formats a time, writing ASCII into the given buffer at its position, then advancing its position.
+   * The time is formatted into the working buffer of the thread, then each character is put at its absolute index.
+   *
+   * @return  The number of bytes written
+   *
+   * @throws  BufferOverflowException  when the buffer does not have enough room, in which case nothing is written
+   */
+  static int format(Format format, long time, TimeZone timeZone, ByteBuffer buf) throws BufferOverflowException {
+    char[] chars = buffers.get();
+    int position = buf.position();
+    int len;
+    if (write(format, time, timeZone, DayCache.getInstance(timeZone), chars, 0)) {
+      len = format.length;
+      if (buf.limit() - position < len) {
+        throw new BufferOverflowException();
+      }
+      for (int i = 0; i < len; i++) {
+        buf.put(position + i, (byte) chars[i]);
+      }
+    } else {
+      String value = format.fallback(time, timeZone);
+      len = value.length();
+      if (buf.limit() - position < len) {
+        throw new BufferOverflowException();
+      }
+      for (int i = 0; i < len; i++) {
+        buf.put(position + i, (byte) value.charAt(i));
+      }
+    }
+    buf.position(position + len);
+    return len;
+  }
+
+  /**
+   * Formats a column of times into a column of new {@link String}.
+   * The cache and a working buffer are looked-up once and shared by the whole batch.
+   */
+  static void format(Format format, long[] src, int srcOff, String[] dest, int destOff, int len, TimeZone timeZone) {
+    Objects.checkFromIndexSize(srcOff, len, src.length);
+    Objects.checkFromIndexSize(destOff, len, dest.length);
+    DayCache cache = DayCache.getInstance(timeZone);
+    char[] buf = new char[format.length];
+    for (int i = 0; i < len; i++) {
+      long time = src[srcOff + i];
+      dest[destOff + i] = write(format, time, timeZone, cache, buf, 0) ? new String(buf) : format.fallback(time, timeZone);
+    }
+  }
+
+  /**
+   * Formats a column of times, appending directly to the given {@link StringBuilder} with a separator between each
+   * value.  The cache and a working buffer are looked-up once and shared by the whole batch.
+   */
+  static void format(Format format, long[] src, int srcOff, int len, TimeZone timeZone, CharSequence separator, StringBuilder sb) {
+    Objects.checkFromIndexSize(srcOff, len, src.length);
+    DayCache cache = DayCache.getInstance(timeZone);
+    char[] buf = new char[format.length];
+    for (int i = 0; i < len; i++) {
+      if (i > 0) {
+        sb.append(separator);
+      }
+      long time = src[srcOff + i];
+      if (write(format, time, timeZone, cache, buf, 0)) {
+        sb.append(buf);
+      } else {
+        sb.append(format.fallback(time, timeZone));
+      }
+    }
+  }
+
+  /**
+   * Gets the number of days in a month, for a year in the range handled directly.
+   */
+  private static int daysInMonth(int year, int month) {
+    if (month == 2) {
+      return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+    }
+    return (month == 4 || month == 6 || month == 9 || month == 11) ? 30 : 31;
+  }
+
+  /**
+   * Gets the value of a two-digit field.  Any non-digit results in a negative value.
+   */
+  private static int twoDigits(CharSequence value, int pos) {
+    int tens = value.charAt(pos) - '0';
+    int ones = value.charAt(pos + 1) - '0';
+    // Negative when either is not a digit
+    int invalid = tens | (9 - tens) | ones | (9 - ones);
+    return invalid < 0 ? -1 : (tens * 10 + ones);
+  }
+
+  /**
+   * Gets the epoch day of a canonical <code>YYYY-MM-DD</code> date at the given position.
+   *
+   * @return  The epoch day or {@link #NOT_CANONICAL} when not a valid date in the range handled directly
+   */
+  private static long parseCanonicalEpochDay(CharSequence value, int pos) {
+    int century = twoDigits(value, pos);
+    int yearOfCentury = twoDigits(value, pos + 2);
+    int month = twoDigits(value, pos + 5);
+    int day = twoDigits(value, pos + 8);
+    if (
+        century < 0 || yearOfCentury < 0 || month < 1 || month > 12 || day < 1
+            || value.charAt(pos + 4) != '-' || value.charAt(pos + 7) != '-'
+    ) {
+      return NOT_CANONICAL;
+    }
+    int year = century * 100 + yearOfCentury;
+    if (year < 1583 || day > daysInMonth(year, month)) {
+      return NOT_CANONICAL;
+    }
+    return toEpochDay(year, month, day);
+  }
+
+  /**
+   * Converts a local time to UTC.  This is only done when the time zone offset is the same one day before and one
+   * day after the local time, and at the resulting UTC time.  Any local time near an offset transition, such as a
+   * daylight saving time gap or overlap, is left to {@link GregorianCalendar} to resolve.
+   *
+   * @return  The UTC time or {@link #NOT_CANONICAL} when near an offset transition
+   */
+  private static long toUtcMillis(long localMillis, TimeZone timeZone) {
+    int offset = timeZone.getOffset(localMillis - MILLIS_PER_DAY);
+    if (offset != timeZone.getOffset(localMillis + MILLIS_PER_DAY)) {
+      return NOT_CANONICAL;
+    }
+    long utcMillis = localMillis - offset;
+    if (offset != timeZone.getOffset(utcMillis)) {
+      return NOT_CANONICAL;
+    }
+    return utcMillis;
+  }
+
+  /**
+   * Parses a date in canonical <code>YYYY-MM-DD</code> form.
+   *
+   * @return  The time in milliseconds of the start of the day or {@link #NOT_CANONICAL} when the value is not
+   *          canonical or should be handled by {@link GregorianCalendar}
+   */
+  static long parseCanonicalDate(CharSequence value, int offset, int length, TimeZone timeZone) {
+    if (length != DATE_LENGTH) {
+      return NOT_CANONICAL;
+    }
+    long epochDay = parseCanonicalEpochDay(value, offset);
+    if (epochDay == NOT_CANONICAL) {
+      return NOT_CANONICAL;
+    }
+    return toUtcMillis(epochDay * MILLIS_PER_DAY, timeZone);
+  }
+
+  /**
+   * Parses the seconds of a date and time in canonical <code>YYYY-MM-DD HH:MM:SS[.fffffffff]</code> form,
+   * with one to nine fractional digits.
+   *
+   * @return  The number of seconds since the Epoch or {@link #NOT_CANONICAL} when the value is not canonical or should
+   *          be handled by {@link GregorianCalendar}
+   *
+   * @see  #parseCanonicalNanos(java.lang.CharSequence, int, int)
+   */
+  static long parseCanonicalSeconds(CharSequence value, int offset, int length, TimeZone timeZone) {
+    if (length != DATE_TIME_LENGTH && (length < DATE_TIME_LENGTH + 2 || length > DATE_TIME_LENGTH + 10)) {
+      return NOT_CANONICAL;
+    }
+    long epochDay = parseCanonicalEpochDay(value, offset);
+    if (epochDay == NOT_CANONICAL) {
+      return NOT_CANONICAL;
+    }
+    int hour = twoDigits(value, offset + 11);
+    int minute = twoDigits(value, offset + 14);
+    int second = twoDigits(value, offset + 17);
+    if (
+        hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59
+            || value.charAt(offset + 10) != ' ' || value.charAt(offset + 13) != ':' || value.charAt(offset + 16) != ':'
+    ) {
+      return NOT_CANONICAL;
+    }
+    if (length > DATE_TIME_LENGTH) {
+      if (value.charAt(offset + DATE_TIME_LENGTH) != '.') {
+        return NOT_CANONICAL;
+      }
+      int invalid = 0;
+      for (int pos = offset + DATE_TIME_LENGTH + 1, end = offset + length; pos < end; pos++) {
+        int digit = value.charAt(pos) - '0';
+        invalid |= digit | (9 - digit);
+      }
+      if (invalid < 0) {
+        return NOT_CANONICAL;
+      }
+    }
+    long utcMillis = toUtcMillis(epochDay * MILLIS_PER_DAY + ((hour * 60 + minute) * 60 + second) * 1000L, timeZone);
+    return utcMillis == NOT_CANONICAL ? NOT_CANONICAL : Math.floorDiv(utcMillis, 1000);
+  }
+
+  /**
+   * Parses the nanoseconds of a date and time already accepted by
+   * {@link #parseCanonicalSeconds(java.lang.CharSequence, int, int, java.util.TimeZone)}.
+   */
+  static int parseCanonicalNanos(CharSequence value, int offset, int length) {
+    int nanos = 0;
+    int digits = length - (DATE_TIME_LENGTH + 1);
+    for (int pos = offset + DATE_TIME_LENGTH + 1, end = offset + length; pos < end; pos++) {
+      nanos = nanos * 10 + (value.charAt(pos) - '0');
+    }
+    for (int i = digits; i < 9; i++) {
+      nanos *= 10;
+    }
+    return nanos;
+  }
+
+  /**
+   * Parses a date, using the canonical fast path when possible.
+   *
+   * @see  CalendarUtils#parseDate(java.lang.String, java.util.TimeZone)
+   */
+  static Date parseDate(CharSequence value, int offset, int length, TimeZone timeZone) throws IllegalArgumentException {
+    Objects.checkFromIndexSize(offset, length, value.length());
+    TimeZone tz = resolve(timeZone);
+    long millis = parseCanonicalDate(value, offset, length, tz);
+    if (millis == NOT_CANONICAL) {
+      millis = CalendarUtils.parseDate(value.subSequence(offset, offset + length).toString(), tz).getTimeInMillis();
+    }
+    return new Date(millis);
+  }
+
+  /**
+   * Parses a date and time, using the canonical fast path when possible.
+   *
+   * @see  CalendarUtils#parseDateTime(java.lang.String, java.util.TimeZone, com.aoapps.lang.util.CalendarUtils.DateTimeProducer)
+   */
+  static Timestamp parseDateTime(CharSequence value, int offset, int length, TimeZone timeZone) throws IllegalArgumentException {
+    Objects.checkFromIndexSize(offset, length, value.length());
+    TimeZone tz = resolve(timeZone);
+    long seconds = parseCanonicalSeconds(value, offset, length, tz);
+    if (seconds != NOT_CANONICAL) {
+      return SQLUtility.newTimestamp(seconds, parseCanonicalNanos(value, offset, length));
+    }
+    return CalendarUtils.parseDateTime(
+        value.subSequence(offset, offset + length).toString(),
+        tz,
+        (GregorianCalendar gcal, int nanos) -> SQLUtility.newTimestamp(Math.floorDiv(gcal.getTimeInMillis(), 1000), nanos)
+    );
+  }
+
+  /**
+   * Parses a date and time into the given index of parallel arrays of seconds and nanoseconds, using the canonical
+   * fast path when possible.  Nothing is written when the value is invalid.
+   *
+   * @param  timeZone  The resolved time zone
+   *
+   * @see  #parseDateTime(java.lang.CharSequence, int, int, java.util.TimeZone)
+   */
+  static void parseDateTime(CharSequence value, int offset, int length, TimeZone timeZone, long[] seconds, int[] nanos, int index)
+      throws IllegalArgumentException {
+    long s = parseCanonicalSeconds(value, offset, length, timeZone);
+    int n;
+    if (s != NOT_CANONICAL) {
+      n = parseCanonicalNanos(value, offset, length);
+    } else {
+      Timestamp ts = parseDateTime(value, offset, length, timeZone);
+      s = Math.floorDiv(ts.getTime(), 1000);
+      n = ts.getNanos();
+    }
+    seconds[index] = s;
+    nanos[index] = n;
+  }
+}
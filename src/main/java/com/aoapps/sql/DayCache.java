@@ -0,0 +1,269 @@
+/*
+ * ao-sql - SQL and JDBC utilities.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql.
+ *
+ * ao-sql is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql;
+
+import static com.aoapps.sql.DateTimes.DATE_LENGTH;
+import static com.aoapps.sql.DateTimes.MAX_EPOCH_DAY;
+import static com.aoapps.sql.DateTimes.MILLIS_PER_DAY;
+import static com.aoapps.sql.DateTimes.MIN_EPOCH_DAY;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A small cache of recently formatted days for a single time zone.  Timestamps are typically clustered within a
+ * handful of days, so each day's pre-rendered <code>YYYY-MM-DD</code> and its UTC offset are kept, reducing the
+ * formatting of a date and time to copying the date and the arithmetic of the time of day.
+ *
+ * <p>The cache is direct-mapped by local epoch day into a fixed number of slots, with a newer day simply replacing
+ * whatever day was in its slot.  The local day is first estimated from the raw offset of the time zone, then its
+ * neighbors are checked, since daylight saving time may shift the actual local day by one.</p>
+ *
+ * <p>It is lock-free: each {@link Day} is immutable, so a racing reader sees either a complete day or a previous one,
+ * and at worst computes a day again.</p>
+ *
+ * <p>A day is only cached on its second miss, so that widely scattered timestamps do not pay to build days that will
+ * not be used again.  Days with an offset transition, such as the start or end of daylight saving time, are not
+ * cached.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+final class DayCache {
+
+  /**
+   * The number of days cached per time zone.  Must be a power of two.
+   */
+  private static final int SLOTS = 64;
+
+  /**
+   * The maximum number of time zones cached.  When exceeded, one time zone is discarded.
+   */
+  static final int MAX_TIME_ZONES = 64;
+
+  /**
+   * The caches by time zone ID.  A time zone only uses the cache for its ID when it matches, so a time zone with the
+   * same ID but different rules replaces it.
+   */
+  private static final ConcurrentMap<String, DayCache> caches = new ConcurrentHashMap<>();
+
+  /**
+   * The cache of the default time zone when last resolved.
+   */
+  private static volatile DayCache defaultCache;
+
+  private static final LongAdder hits = new LongAdder();
+  private static final LongAdder misses = new LongAdder();
+
+  /**
+   * Gets the cache for the given time zone.
+   *
+   * <p>The time zones of the JDK are matched by {@link TimeZone#hasSameRules(java.util.TimeZone)}, which compares all of
+   * their rules, and are copied when first cached, so later changes to the given time zone do not affect the cache.
+   * Any other {@link TimeZone} subclass is matched by identity instead, since the default
+   * {@link TimeZone#hasSameRules(java.util.TimeZone)} only compares the raw offset and whether daylight saving time is
+   * used.</p>
+   */
+  static DayCache getInstance(TimeZone timeZone) {
+    String id = timeZone.getID();
+    DayCache cache = caches.get(id);
+    if (cache == null || !cache.matches(timeZone)) {
+      boolean comparable = isRulesComparable(timeZone);
+      cache = new DayCache(comparable ? (TimeZone) timeZone.clone() : timeZone, comparable);
+      if (caches.size() >= MAX_TIME_ZONES && !caches.containsKey(id)) {
+        Iterator<String> iter = caches.keySet().iterator();
+        if (iter.hasNext()) {
+          iter.next();
+          iter.remove();
+        }
+      }
+      caches.put(id, cache);
+    }
+    return cache;
+  }
+
+  /**
+   * Gets the cache for the default time zone.  The cache is remembered and only checked against the current default
+   * time zone, by its ID and then the same as {@link #getInstance(java.util.TimeZone)}, so the caches are not looked-up
+   * on each use of the default time zone.  This still calls {@link TimeZone#getDefault()}, since it is the only way to
+   * see {@link TimeZone#setDefault(java.util.TimeZone)}, but the copy it returns is only compared and then discarded.
+   */
+  static DayCache getDefault() {
+    TimeZone current = TimeZone.getDefault();
+    DayCache cache = defaultCache;
+    if (cache == null || !cache.timeZone.getID().equals(current.getID()) || !cache.matches(current)) {
+      cache = getInstance(current);
+      defaultCache = cache;
+    }
+    return cache;
+  }
+
+  /**
+   * Determines if a time zone is one of the JDK, which compare all of their rules in
+   * {@link TimeZone#hasSameRules(java.util.TimeZone)}.
+   */
+  private static boolean isRulesComparable(TimeZone timeZone) {
+    return timeZone.getClass().getClassLoader() == null;
+  }
+
+  /**
+   * Gets the number of time zones currently cached.
+   */
+  static int getTimeZoneCount() {
+    return caches.size();
+  }
+
+  /**
+   * Gets the total number of cache hits across all time zones.
+   */
+  static long getHits() {
+    return hits.sum();
+  }
+
+  /**
+   * Gets the total number of cache misses across all time zones.
+   */
+  static long getMisses() {
+    return misses.sum();
+  }
+
+  /**
+   * A single local day with a constant UTC offset.
+   */
+  static final class Day {
+
+    /**
+     * The UTC time of the start of the day, inclusive.
+     */
+    final long start;
+
+    /**
+     * The UTC time of the end of the day, exclusive.
+     */
+    final long end;
+
+    /**
+     * The pre-rendered <code>YYYY-MM-DD</code>.
+     */
+    private final char[] date;
+
+    private Day(long start, long end, char[] date) {
+      this.start = start;
+      this.end = end;
+      this.date = date;
+    }
+
+    /**
+     * Copies the pre-rendered <code>YYYY-MM-DD</code> into the given buffer.
+     */
+    void writeDate(char[] buf, int offset) {
+      System.arraycopy(date, 0, buf, offset, DATE_LENGTH);
+    }
+  }
+
+  private final TimeZone timeZone;
+
+  private final int rawOffset;
+
+  private final Day[] days = new Day[SLOTS];
+
+  /**
+   * The estimated day of the most recent miss in each slot, used to only cache a day on its second miss.
+   */
+  private final long[] candidates = new long[SLOTS];
+
+  /**
+   * When the time zone is matched by its rules instead of by identity.
+   */
+  private final boolean rulesComparable;
+
+  private DayCache(TimeZone timeZone, boolean rulesComparable) {
+    this.timeZone = timeZone;
+    this.rulesComparable = rulesComparable;
+    this.rawOffset = timeZone.getRawOffset();
+    Arrays.fill(candidates, Long.MIN_VALUE);
+  }
+
+  /**
+   * Gets the time zone of this cache.  For the time zones of the JDK, this is the copy made when first cached, so
+   * it must not be modified.
+   */
+  TimeZone getTimeZone() {
+    return timeZone;
+  }
+
+  private boolean matches(TimeZone other) {
+    return other == timeZone || (rulesComparable && timeZone.hasSameRules(other));
+  }
+
+  private Day find(long time, long epochDay) {
+    Day day = days[(int) epochDay & (SLOTS - 1)];
+    return (day != null && time >= day.start && time < day.end) ? day : null;
+  }
+
+  /**
+   * Gets the day containing the given time.
+   *
+   * @return  The day or {@code null} when not yet cached, when the day has an offset transition, or when out of the
+   *          range handled directly by {@link DateTimes}
+   */
+  Day get(long time) {
+    long estimate = Math.floorDiv(time + rawOffset, MILLIS_PER_DAY);
+    Day day = find(time, estimate);
+    if (day == null) {
+      day = find(time, estimate + 1);
+      if (day == null) {
+        day = find(time, estimate - 1);
+      }
+    }
+    if (day != null) {
+      hits.increment();
+      return day;
+    }
+    misses.increment();
+    int slot = (int) estimate & (SLOTS - 1);
+    if (candidates[slot] != estimate) {
+      candidates[slot] = estimate;
+      return null;
+    }
+    int offset = timeZone.getOffset(time);
+    long epochDay = Math.floorDiv(time + offset, MILLIS_PER_DAY);
+    if (epochDay < MIN_EPOCH_DAY || epochDay > MAX_EPOCH_DAY) {
+      return null;
+    }
+    long start = epochDay * MILLIS_PER_DAY - offset;
+    long end = start + MILLIS_PER_DAY;
+    if (timeZone.getOffset(start) != offset || timeZone.getOffset(end - 1) != offset) {
+      return null;
+    }
+    char[] date = new char[DATE_LENGTH];
+    DateTimes.writeDate(epochDay, date, 0);
+    day = new Day(start, end, date);
+    days[(int) epochDay & (SLOTS - 1)] = day;
+    return day;
+  }
+}
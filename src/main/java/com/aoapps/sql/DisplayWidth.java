@@ -0,0 +1,214 @@
+/*
+ * ao-sql - SQL and JDBC utilities.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql.
+ *
+ * ao-sql is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql;
+
+import java.util.Arrays;
+
+/**
+ * Gets the number of terminal columns used to display each code point, similar to <code>wcwidth</code>:
+ * <ul>
+ *   <li>Zero for combining and other non-spacing marks, enclosing marks, format characters (such as zero-width space
+ *       and joiners), and the medial and final Hangul jamo, all of which combine with the preceding character.</li>
+ *   <li>Two for East Asian Wide and Fullwidth characters, such as CJK ideographs, kana, Hangul syllables, fullwidth
+ *       forms, and emoji presentation characters.</li>
+ *   <li>One for everything else.</li>
+ * </ul>
+ *
+ * <p>The widths of the Basic Multilingual Plane are precomputed into a table of two bits per code point.  Other
+ * planes are rare enough to compute on each call.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+final class DisplayWidth {
+
+  /** Make no instances. */
+  private DisplayWidth() {
+    throw new AssertionError();
+  }
+
+  /**
+   * The inclusive ranges of East Asian Wide (W) and Fullwidth (F) code points, in order.
+   */
+  private static final int[] WIDE = {
+      0x1100, 0x115F,
+      0x231A, 0x231B,
+      0x2329, 0x232A,
+      0x23E9, 0x23EC,
+      0x23F0, 0x23F0,
+      0x23F3, 0x23F3,
+      0x25FD, 0x25FE,
+      0x2614, 0x2615,
+      0x2648, 0x2653,
+      0x267F, 0x267F,
+      0x2693, 0x2693,
+      0x26A1, 0x26A1,
+      0x26AA, 0x26AB,
+      0x26BD, 0x26BE,
+      0x26C4, 0x26C5,
+      0x26CE, 0x26CE,
+      0x26D4, 0x26D4,
+      0x26EA, 0x26EA,
+      0x26F2, 0x26F3,
+      0x26F5, 0x26F5,
+      0x26FA, 0x26FA,
+      0x26FD, 0x26FD,
+      0x2705, 0x2705,
+      0x270A, 0x270B,
+      0x2728, 0x2728,
+      0x274C, 0x274C,
+      0x274E, 0x274E,
+      0x2753, 0x2755,
+      0x2757, 0x2757,
+      0x2795, 0x2797,
+      0x27B0, 0x27B0,
+      0x27BF, 0x27BF,
+      0x2B1B, 0x2B1C,
+      0x2B50, 0x2B50,
+      0x2B55, 0x2B55,
+      0x2E80, 0x303E,
+      0x3041, 0x33FF,
+      0x3400, 0x4DBF,
+      0x4E00, 0x9FFF,
+      0xA000, 0xA4CF,
+      0xA960, 0xA97F,
+      0xAC00, 0xD7A3,
+      0xF900, 0xFAFF,
+      0xFE10, 0xFE19,
+      0xFE30, 0xFE6F,
+      0xFF00, 0xFF60,
+      0xFFE0, 0xFFE6,
+      0x16FE0, 0x16FE4,
+      0x16FF0, 0x16FF1,
+      0x17000, 0x18CD5,
+      0x18D00, 0x18D08,
+      0x1AFF0, 0x1B2FB,
+      0x1F004, 0x1F004,
+      0x1F0CF, 0x1F0CF,
+      0x1F18E, 0x1F18E,
+      0x1F191, 0x1F19A,
+      0x1F200, 0x1F202,
+      0x1F210, 0x1F23B,
+      0x1F240, 0x1F248,
+      0x1F250, 0x1F251,
+      0x1F260, 0x1F265,
+      0x1F300, 0x1F320,
+      0x1F32D, 0x1F335,
+      0x1F337, 0x1F37C,
+      0x1F37E, 0x1F393,
+      0x1F3A0, 0x1F3CA,
+      0x1F3CF, 0x1F3D3,
+      0x1F3E0, 0x1F3F0,
+      0x1F3F4, 0x1F3F4,
+      0x1F3F8, 0x1F43E,
+      0x1F440, 0x1F440,
+      0x1F442, 0x1F4FC,
+      0x1F4FF, 0x1F53D,
+      0x1F54B, 0x1F54E,
+      0x1F550, 0x1F567,
+      0x1F57A, 0x1F57A,
+      0x1F595, 0x1F596,
+      0x1F5A4, 0x1F5A4,
+      0x1F5FB, 0x1F64F,
+      0x1F680, 0x1F6C5,
+      0x1F6CC, 0x1F6CC,
+      0x1F6D0, 0x1F6D2,
+      0x1F6D5, 0x1F6D7,
+      0x1F6DC, 0x1F6DF,
+      0x1F6EB, 0x1F6EC,
+      0x1F6F4, 0x1F6FC,
+      0x1F7E0, 0x1F7EB,
+      0x1F7F0, 0x1F7F0,
+      0x1F90C, 0x1F93A,
+      0x1F93C, 0x1F945,
+      0x1F947, 0x1F9FF,
+      0x1FA70, 0x1FA7C,
+      0x1FA80, 0x1FA88,
+      0x1FA90, 0x1FABD,
+      0x1FABF, 0x1FAC5,
+      0x1FACE, 0x1FADB,
+      0x1FAE0, 0x1FAE8,
+      0x1FAF0, 0x1FAF8,
+      0x20000, 0x2FFFD,
+      0x30000, 0x3FFFD
+  };
+
+  /**
+   * The widths of the Basic Multilingual Plane, two bits per code point.
+   */
+  private static final long[] BMP = new long[(Character.MAX_VALUE + 1) / 32];
+
+  static {
+    // Set the wide ranges, then everything else that is not zero width to one
+    for (int i = 0; i < WIDE.length && WIDE[i] <= Character.MAX_VALUE; i += 2) {
+      for (int codePoint = WIDE[i], end = WIDE[i + 1]; codePoint <= end; codePoint++) {
+        BMP[codePoint >>> 5] |= 2L << ((codePoint & 31) << 1);
+      }
+    }
+    for (int codePoint = 0; codePoint <= Character.MAX_VALUE; codePoint++) {
+      int shift = (codePoint & 31) << 1;
+      if (isZeroWidth(codePoint)) {
+        BMP[codePoint >>> 5] &= ~(3L << shift);
+      } else if ((BMP[codePoint >>> 5] & (2L << shift)) == 0) {
+        BMP[codePoint >>> 5] |= 1L << shift;
+      }
+    }
+  }
+
+  private static boolean isWide(int codePoint) {
+    int index = Arrays.binarySearch(WIDE, codePoint);
+    // Found at any range boundary, or between the start (even index) and end of a range
+    return index >= 0 || ((-index - 1) & 1) == 1;
+  }
+
+  private static boolean isZeroWidth(int codePoint) {
+    switch (Character.getType(codePoint)) {
+      case Character.NON_SPACING_MARK:
+      case Character.ENCLOSING_MARK:
+        return true;
+      case Character.FORMAT:
+        // The soft hyphen is displayed
+        return codePoint != 0x00AD;
+      default:
+        // Hangul Jungseong and Jongseong combine with the preceding Choseong
+        return codePoint >= 0x1160 && codePoint <= 0x11FF;
+    }
+  }
+
+  private static int compute(int codePoint) {
+    if (isZeroWidth(codePoint)) {
+      return 0;
+    }
+    return isWide(codePoint) ? 2 : 1;
+  }
+
+  /**
+   * Gets the display width of a code point, zero, one, or two.
+   */
+  static int of(int codePoint) {
+    if (codePoint <= Character.MAX_VALUE) {
+      return (int) (BMP[codePoint >>> 5] >>> ((codePoint & 31) << 1)) & 3;
+    }
+    return compute(codePoint);
+  }
+}
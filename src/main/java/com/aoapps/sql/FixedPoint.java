@@ -0,0 +1,744 @@
+/*
+ * ao-sql - SQL and JDBC utilities.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql.
+ *
+ * ao-sql is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Parses and formats fixed-point decimal values stored in a {@code long}, such as a SQL <code>numeric(?,scale)</code>
+ * held as its unscaled value.  For example, <code>12.34</code> at scale 2 is stored as <code>1234</code>.
+ *
+ * <p>Any scale from {@link #MIN_SCALE} through {@link #MAX_SCALE} is supported.  The formatted representation matches
+ * {@link BigDecimal#toPlainString()} of {@link BigDecimal#valueOf(long, int)}.</p>
+ *
+ * <p>Parsing is lenient about missing digits, accepting forms like <code>2</code>, <code>2.</code>, <code>.3</code>,
+ * and <code>-.5</code>.  The rules for values that do not fit are:</p>
+ * <ul>
+ * <li>Any value outside the range of the result type throws {@link NumberFormatException}.</li>
+ * <li>More fractional digits than the scale throws {@link NumberFormatException}, unless a {@link RoundingMode} is
+ *     given, in which case the value is rounded the same as {@link BigDecimal#setScale(int, java.math.RoundingMode)}.
+ *     {@link RoundingMode#UNNECESSARY} throws {@link ArithmeticException} when any discarded digit is non-zero.</li>
+ * </ul>
+ *
+ * <p>Arrays, buffers, and {@link StringBuilder} are written in place, filled from right to left once the exact length
+ * is known.  Any other {@link Appendable} is given each character in order, or all the characters at once through a
+ * working buffer owned by the caller.  Only the batches into new {@link String} create a working buffer, shared by
+ * the whole batch.  None of the parsing methods create any intermediate objects.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public final class FixedPoint {
+
+  /** Make no instances. */
+  private FixedPoint() {
+    throw new AssertionError();
+  }
+
+  /**
+   * The minimum supported scale.
+   */
+  public static final int MIN_SCALE = 0;
+
+  /**
+   * The maximum supported scale.  This is the largest power of ten that fits in a {@code long}.
+   */
+  public static final int MAX_SCALE = 18;
+
+  /**
+   * The maximum number of characters written by any of the formatting methods.
+   * This is the length of {@link Long#MIN_VALUE} with a sign and a decimal point.
+   */
+  public static final int MAX_LENGTH = 21;
+
+  /**
+   * Powers of ten, indexed by exponent, up to the largest that fits in a {@code long}.
+   */
+  private static final long[] POW10 = new long[MAX_SCALE + 1];
+
+  /**
+   * The tens and ones digits for each value 0 through 99, used to write two digits at a time.
+   */
+  static final char[] DIGIT_TENS = new char[100];
+  static final char[] DIGIT_ONES = new char[100];
+
+  static {
+    long pow = 1;
+    for (int i = 0; i < POW10.length; i++) {
+      POW10[i] = pow;
+      pow *= 10;
+    }
+    for (int i = 0; i < 100; i++) {
+      DIGIT_TENS[i] = (char) ('0' + i / 10);
+      DIGIT_ONES[i] = (char) ('0' + i % 10);
+    }
+  }
+
+  private static void checkScale(int scale) throws IllegalArgumentException {
+    if (scale < MIN_SCALE || scale > MAX_SCALE) {
+      throw new IllegalArgumentException("scale out of range (" + MIN_SCALE + " - " + MAX_SCALE + "): " + scale);
+    }
+  }
+
+  /**
+   * Gets the number of digits in a non-negative value, which is at least one.
+   * The digit count is estimated from the bit length (1233 / 4096 is just over log<sub>10</sub>(2)), then corrected
+   * by a single comparison against the powers of ten, without any loops or data-dependent branches.
+   *
+   * <p>The lowest bit is set so that zero is counted as one digit.  This does not affect any other value, since no
+   * odd number is a power of ten greater than one.</p>
+   */
+  static int digitCount(long value) {
+    assert value >= 0;
+    long v = value | 1;
+    int estimate = ((Long.SIZE - Long.numberOfLeadingZeros(v)) * 1233) >>> 12;
+    return estimate + (v >= POW10[estimate] ? 1 : 0);
+  }
+
+  /**
+   * Gets the number of characters a value will be when formatted.
+   *
+   * @throws  IllegalArgumentException  when scale is out of range
+   */
+  public static int length(long value, int scale) throws IllegalArgumentException {
+    checkScale(scale);
+    return length0(value, scale);
+  }
+
+  private static int length0(long value, int scale) {
+    long whole = value / POW10[scale];
+    // The magnitude of Long.MIN_VALUE does not fit, but has the same number of digits as Long.MAX_VALUE
+    int wholeDigits = digitCount(whole == Long.MIN_VALUE ? Long.MAX_VALUE : Math.abs(whole));
+    return (value < 0 ? 1 : 0) + wholeDigits + (scale == 0 ? 0 : (1 + scale));
+  }
+
+  /**
+   * Formats a value into a new {@link String}.
+   * The exact length is computed up front, so the output is sized only once.
+   *
+   * @throws  IllegalArgumentException  when scale is out of range
+   */
+  public static String format(long value, int scale) throws IllegalArgumentException {
+    checkScale(scale);
+    char[] buf = new char[length0(value, scale)];
+    format0(value, scale, buf, 0);
+    return new String(buf);
+  }
+
+  /**
+   * Formats a value, writing directly into the given buffer.
+   * At most {@link #MAX_LENGTH} characters are written.
+   *
+   * @return  The number of characters written
+   *
+   * @throws  IllegalArgumentException  when scale is out of range
+   * @throws  IndexOutOfBoundsException  when the buffer does not have enough room, in which case nothing is written
+   */
+  public static int format(long value, int scale, char[] buf, int offset) throws IllegalArgumentException, IndexOutOfBoundsException {
+    checkScale(scale);
+    return format0(value, scale, buf, offset);
+  }
+
+  /**
+   * Gets the whole part of a value as a non-positive number, since the magnitude of {@link Long#MIN_VALUE} at scale 0
+   * does not fit.  The whole and fractional parts are split before removing the sign, so {@link Long#MIN_VALUE} is
+   * handled without overflow at any scale.
+   */
+  private static long negWhole(long value, long pow) {
+    long whole = value / pow;
+    return value < 0 ? whole : -whole;
+  }
+
+  /**
+   * Gets the magnitude of the fractional part of a value.
+   */
+  private static long fraction(long value, long pow) {
+    long fraction = value % pow;
+    return value < 0 ? -fraction : fraction;
+  }
+
+  /**
+   * Writes a value into the given buffer, filling it from right to left.
+   */
+  private static int format0(long value, int scale, char[] buf, int offset) throws IndexOutOfBoundsException {
+    int len = length0(value, scale);
+    Objects.checkFromIndexSize(offset, len, buf.length);
+    long pow = POW10[scale];
+    long negWhole = negWhole(value, pow);
+    long fraction = fraction(value, pow);
+    int pos = offset + len;
+    if (scale != 0) {
+      // Fractional digits, two at a time
+      int remaining = scale;
+      while (remaining >= 2) {
+        int pair = (int) (fraction % 100);
+        fraction /= 100;
+        buf[--pos] = DIGIT_ONES[pair];
+        buf[--pos] = DIGIT_TENS[pair];
+        remaining -= 2;
+      }
+      if (remaining == 1) {
+        buf[--pos] = (char) ('0' + fraction);
+      }
+      buf[--pos] = '.';
+    }
+    // Whole digits, two at a time
+    while (negWhole <= -100) {
+      int pair = (int) -(negWhole % 100);
+      negWhole /= 100;
+      buf[--pos] = DIGIT_ONES[pair];
+      buf[--pos] = DIGIT_TENS[pair];
+    }
+    int pair = (int) -negWhole;
+    buf[--pos] = DIGIT_ONES[pair];
+    if (pair >= 10) {
+      buf[--pos] = DIGIT_TENS[pair];
+    }
+    if (value < 0) {
+      buf[--pos] = '-';
+    }
+    assert pos == offset;
+    return len;
+  }
+
+  /**
+   * Writes a value as ASCII into the given buffer, filling it from right to left.
+   * This is the same as {@link #format0(long, int, char[], int)}, one byte per character.
+   */
+  private static int format0(long value, int scale, byte[] buf, int offset) throws IndexOutOfBoundsException {
+    int len = length0(value, scale);
+    Objects.checkFromIndexSize(offset, len, buf.length);
+    long pow = POW10[scale];
+    long negWhole = negWhole(value, pow);
+    long fraction = fraction(value, pow);
+    int pos = offset + len;
+    if (scale != 0) {
+      int remaining = scale;
+      while (remaining >= 2) {
+        int pair = (int) (fraction % 100);
+        fraction /= 100;
+        buf[--pos] = (byte) DIGIT_ONES[pair];
+        buf[--pos] = (byte) DIGIT_TENS[pair];
+        remaining -= 2;
+      }
+      if (remaining == 1) {
+        buf[--pos] = (byte) ('0' + fraction);
+      }
+      buf[--pos] = '.';
+    }
+    while (negWhole <= -100) {
+      int pair = (int) -(negWhole % 100);
+      negWhole /= 100;
+      buf[--pos] = (byte) DIGIT_ONES[pair];
+      buf[--pos] = (byte) DIGIT_TENS[pair];
+    }
+    int pair = (int) -negWhole;
+    buf[--pos] = (byte) DIGIT_ONES[pair];
+    if (pair >= 10) {
+      buf[--pos] = (byte) DIGIT_TENS[pair];
+    }
+    if (value < 0) {
+      buf[--pos] = '-';
+    }
+    assert pos == offset;
+    return len;
+  }
+
+  /**
+   * Writes a value as ASCII at the given absolute index of a buffer without an accessible array, filling it from
+   * right to left.  This is the same as {@link #format0(long, int, char[], int)}, one byte per character.
+   */
+  private static void format0(long value, int scale, ByteBuffer buf, int index, int len) {
+    long pow = POW10[scale];
+    long negWhole = negWhole(value, pow);
+    long fraction = fraction(value, pow);
+    int pos = index + len;
+    if (scale != 0) {
+      int remaining = scale;
+      while (remaining >= 2) {
+        int pair = (int) (fraction % 100);
+        fraction /= 100;
+        buf.put(--pos, (byte) DIGIT_ONES[pair]);
+        buf.put(--pos, (byte) DIGIT_TENS[pair]);
+        remaining -= 2;
+      }
+      if (remaining == 1) {
+        buf.put(--pos, (byte) ('0' + fraction));
+      }
+      buf.put(--pos, (byte) '.');
+    }
+    while (negWhole <= -100) {
+      int pair = (int) -(negWhole % 100);
+      negWhole /= 100;
+      buf.put(--pos, (byte) DIGIT_ONES[pair]);
+      buf.put(--pos, (byte) DIGIT_TENS[pair]);
+    }
+    int pair = (int) -negWhole;
+    buf.put(--pos, (byte) DIGIT_ONES[pair]);
+    if (pair >= 10) {
+      buf.put(--pos, (byte) DIGIT_TENS[pair]);
+    }
+    if (value < 0) {
+      buf.put(--pos, (byte) '-');
+    }
+    assert pos == index;
+  }
+
+  /**
+   * Appends a value in place, extending the length of the {@link StringBuilder} to fit, then filling the new
+   * characters from right to left.  This is the same as {@link #format0(long, int, char[], int)}.
+   */
+  private static int format0(long value, int scale, StringBuilder sb) {
+    int len = length0(value, scale);
+    int start = sb.length();
+    sb.setLength(start + len);
+    long pow = POW10[scale];
+    long negWhole = negWhole(value, pow);
+    long fraction = fraction(value, pow);
+    int pos = start + len;
+    if (scale != 0) {
+      int remaining = scale;
+      while (remaining >= 2) {
+        int pair = (int) (fraction % 100);
+        fraction /= 100;
+        sb.setCharAt(--pos, DIGIT_ONES[pair]);
+        sb.setCharAt(--pos, DIGIT_TENS[pair]);
+        remaining -= 2;
+      }
+      if (remaining == 1) {
+        sb.setCharAt(--pos, (char) ('0' + fraction));
+      }
+      sb.setCharAt(--pos, '.');
+    }
+    while (negWhole <= -100) {
+      int pair = (int) -(negWhole % 100);
+      negWhole /= 100;
+      sb.setCharAt(--pos, DIGIT_ONES[pair]);
+      sb.setCharAt(--pos, DIGIT_TENS[pair]);
+    }
+    int pair = (int) -negWhole;
+    sb.setCharAt(--pos, DIGIT_ONES[pair]);
+    if (pair >= 10) {
+      sb.setCharAt(--pos, DIGIT_TENS[pair]);
+    }
+    if (value < 0) {
+      sb.setCharAt(--pos, '-');
+    }
+    assert pos == start;
+    return len;
+  }
+
+  /**
+   * Appends a value one character at a time, from left to right, taking each digit by its power of ten.
+   * This is only used for an {@link Appendable} that cannot be written in place and without a working buffer.
+   */
+  private static int append0(long value, int scale, Appendable out) throws IOException {
+    long pow = POW10[scale];
+    long negWhole = negWhole(value, pow);
+    long fraction = fraction(value, pow);
+    if (value < 0) {
+      out.append('-');
+    }
+    // The magnitude of Long.MIN_VALUE does not fit, but has the same number of digits as Long.MAX_VALUE
+    for (int i = digitCount(negWhole == Long.MIN_VALUE ? Long.MAX_VALUE : -negWhole) - 1; i >= 0; i--) {
+      out.append((char) ('0' - (negWhole / POW10[i]) % 10));
+    }
+    if (scale != 0) {
+      out.append('.');
+      for (int i = scale - 1; i >= 0; i--) {
+        out.append((char) ('0' + (fraction / POW10[i]) % 10));
+      }
+    }
+    return length0(value, scale);
+  }
+
+  /**
+   * Formats a value, writing ASCII directly into the given buffer.
+   * At most {@link #MAX_LENGTH} bytes are written.
+   *
+   * @return  The number of bytes written
+   *
+   * @throws  IllegalArgumentException  when scale is out of range
+   * @throws  IndexOutOfBoundsException  when the buffer does not have enough room, in which case nothing is written
+   */
+  public static int format(long value, int scale, byte[] buf, int offset) throws IllegalArgumentException, IndexOutOfBoundsException {
+    checkScale(scale);
+    return format0(value, scale, buf, offset);
+  }
+
+  /**
+   * Formats a value, writing ASCII into the given buffer at its position, then advancing its position.
+   * A buffer with an accessible array is written through its array, otherwise each character is put at its absolute
+   * index, so heap and direct buffers alike are written in place.
+   * At most {@link #MAX_LENGTH} bytes are written.
+   *
+   * @return  The number of bytes written
+   *
+   * @throws  IllegalArgumentException  when scale is out of range
+   * @throws  BufferOverflowException  when the buffer does not have enough room, in which case nothing is written
+   */
+  public static int format(long value, int scale, ByteBuffer buf) throws IllegalArgumentException, BufferOverflowException {
+    checkScale(scale);
+    int position = buf.position();
+    int len = length0(value, scale);
+    if (buf.limit() - position < len) {
+      throw new BufferOverflowException();
+    }
+    if (buf.hasArray()) {
+      format0(value, scale, buf.array(), buf.arrayOffset() + position);
+    } else {
+      format0(value, scale, buf, position, len);
+    }
+    buf.position(position + len);
+    return len;
+  }
+
+  /**
+   * Formats a value, appending in place to the given {@link StringBuilder}, without any working buffer.
+   *
+   * @return  The number of characters written
+   *
+   * @throws  IllegalArgumentException  when scale is out of range
+   */
+  public static int format(long value, int scale, StringBuilder sb) throws IllegalArgumentException {
+    checkScale(scale);
+    return format0(value, scale, sb);
+  }
+
+  /**
+   * Formats a value, appending to the given {@link Appendable}, without any working buffer.
+   * A {@link StringBuilder} is appended in place, and any other {@link Appendable} is given each character in order.
+   *
+   * @return  The number of characters written
+   *
+   * @throws  IllegalArgumentException  when scale is out of range
+   *
+   * @see  #format(long, int, java.lang.Appendable, char[])
+   */
+  public static int format(long value, int scale, Appendable out) throws IllegalArgumentException, IOException {
+    checkScale(scale);
+    if (out instanceof StringBuilder) {
+      return format0(value, scale, (StringBuilder) out);
+    }
+    return append0(value, scale, out);
+  }
+
+  /**
+   * Formats a value, appending to the given {@link Appendable} through a working buffer owned by the caller, which
+   * may be reused for any number of calls.  A {@link StringBuilder} is appended in place without the working buffer,
+   * and a {@link Writer} is given all the characters in a single call.
+   *
+   * @param  buf  The working buffer, of at least {@link #MAX_LENGTH} characters
+   *
+   * @return  The number of characters written
+   *
+   * @throws  IllegalArgumentException  when scale is out of range or the working buffer is too small
+   */
+  public static int format(long value, int scale, Appendable out, char[] buf) throws IllegalArgumentException, IOException {
+    checkScale(scale);
+    if (buf.length < MAX_LENGTH) {
+      throw new IllegalArgumentException("buf.length < " + MAX_LENGTH + ": " + buf.length);
+    }
+    if (out instanceof StringBuilder) {
+      return format0(value, scale, (StringBuilder) out);
+    }
+    int len = format0(value, scale, buf, 0);
+    if (out instanceof Writer) {
+      ((Writer) out).write(buf, 0, len);
+    } else {
+      for (int i = 0; i < len; i++) {
+        out.append(buf[i]);
+      }
+    }
+    return len;
+  }
+
+  /**
+   * Formats a column of values into a column of new {@link String}.
+   * A single working buffer is shared by the whole batch, so the only allocation per value is its {@link String}.
+   *
+   * @throws  IllegalArgumentException  when scale is out of range
+   * @throws  IndexOutOfBoundsException  when either range is out of bounds, in which case nothing is written
+   */
+  public static void format(long[] src, int srcOff, String[] dest, int destOff, int len, int scale)
+      throws IllegalArgumentException, IndexOutOfBoundsException {
+    checkScale(scale);
+    Objects.checkFromIndexSize(srcOff, len, src.length);
+    Objects.checkFromIndexSize(destOff, len, dest.length);
+    char[] buf = new char[MAX_LENGTH];
+    for (int i = 0; i < len; i++) {
+      dest[destOff + i] = new String(buf, 0, format0(src[srcOff + i], scale, buf, 0));
+    }
+  }
+
+  /**
+   * Formats a column of values into a column of new {@link String}.
+   * A single working buffer is shared by the whole batch, so the only allocation per value is its {@link String}.
+   *
+   * @throws  IllegalArgumentException  when scale is out of range
+   * @throws  IndexOutOfBoundsException  when either range is out of bounds, in which case nothing is written
+   */
+  public static void format(int[] src, int srcOff, String[] dest, int destOff, int len, int scale)
+      throws IllegalArgumentException, IndexOutOfBoundsException {
+    checkScale(scale);
+    Objects.checkFromIndexSize(srcOff, len, src.length);
+    Objects.checkFromIndexSize(destOff, len, dest.length);
+    char[] buf = new char[MAX_LENGTH];
+    for (int i = 0; i < len; i++) {
+      dest[destOff + i] = new String(buf, 0, format0(src[srcOff + i], scale, buf, 0));
+    }
+  }
+
+  /**
+   * Formats a column of values, appending in place to the given {@link StringBuilder} with a separator between each
+   * value.  No working buffer or {@link String} is created.
+   *
+   * @throws  IllegalArgumentException  when scale is out of range
+   * @throws  IndexOutOfBoundsException  when the range is out of bounds, in which case nothing is written
+   */
+  public static void format(long[] src, int srcOff, int len, int scale, CharSequence separator, StringBuilder sb)
+      throws IllegalArgumentException, IndexOutOfBoundsException {
+    checkScale(scale);
+    Objects.checkFromIndexSize(srcOff, len, src.length);
+    for (int i = 0; i < len; i++) {
+      if (i > 0) {
+        sb.append(separator);
+      }
+      format0(src[srcOff + i], scale, sb);
+    }
+  }
+
+  /**
+   * Formats a column of values, appending in place to the given {@link StringBuilder} with a separator between each
+   * value.  No working buffer or {@link String} is created.
+   *
+   * @throws  IllegalArgumentException  when scale is out of range
+   * @throws  IndexOutOfBoundsException  when the range is out of bounds, in which case nothing is written
+   */
+  public static void format(int[] src, int srcOff, int len, int scale, CharSequence separator, StringBuilder sb)
+      throws IllegalArgumentException, IndexOutOfBoundsException {
+    checkScale(scale);
+    Objects.checkFromIndexSize(srcOff, len, src.length);
+    for (int i = 0; i < len; i++) {
+      if (i > 0) {
+        sb.append(separator);
+      }
+      format0(src[srcOff + i], scale, sb);
+    }
+  }
+
+  /**
+   * Parses a value, not allowing more fractional digits than the scale.
+   *
+   * @throws  IllegalArgumentException  when scale is out of range
+   * @throws  NumberFormatException  when the value is not a valid decimal, has more fractional digits than the scale,
+   *                                 or is out of range of a {@code long}
+   */
+  public static long parse(CharSequence value, int scale) throws IllegalArgumentException, NumberFormatException {
+    return parse(value, 0, value.length(), scale);
+  }
+
+  /**
+   * Parses a region of a {@link CharSequence}, not allowing more fractional digits than the scale.
+   *
+   * @throws  IllegalArgumentException  when scale is out of range
+   * @throws  NumberFormatException  when the value is not a valid decimal, has more fractional digits than the scale,
+   *                                 or is out of range of a {@code long}
+   */
+  public static long parse(CharSequence value, int offset, int length, int scale) throws IllegalArgumentException, NumberFormatException {
+    checkScale(scale);
+    return parse0(value, offset, length, scale, null, Long.MIN_VALUE, Long.MAX_VALUE);
+  }
+
+  /**
+   * Parses a value, rounding any fractional digits beyond the scale.
+   *
+   * @throws  IllegalArgumentException  when scale is out of range
+   * @throws  NumberFormatException  when the value is not a valid decimal or is out of range of a {@code long}
+   * @throws  ArithmeticException  when {@link RoundingMode#UNNECESSARY} and rounding is necessary
+   */
+  public static long parse(CharSequence value, int scale, RoundingMode roundingMode) throws IllegalArgumentException, NumberFormatException, ArithmeticException {
+    return parse(value, 0, value.length(), scale, roundingMode);
+  }
+
+  /**
+   * Parses a region of a {@link CharSequence}, rounding any fractional digits beyond the scale.
+   *
+   * @throws  IllegalArgumentException  when scale is out of range
+   * @throws  NumberFormatException  when the value is not a valid decimal or is out of range of a {@code long}
+   * @throws  ArithmeticException  when {@link RoundingMode#UNNECESSARY} and rounding is necessary
+   */
+  public static long parse(CharSequence value, int offset, int length, int scale, RoundingMode roundingMode) throws IllegalArgumentException, NumberFormatException, ArithmeticException {
+    checkScale(scale);
+    return parse0(value, offset, length, scale, Objects.requireNonNull(roundingMode), Long.MIN_VALUE, Long.MAX_VALUE);
+  }
+
+  /**
+   * Parses a region of a {@link CharSequence}, not allowing more fractional digits than the scale, and checking the
+   * result is within the given bounds.
+   *
+   * @param  min  The minimum allowed result, inclusive
+   * @param  max  The maximum allowed result, inclusive
+   *
+   * @throws  NumberFormatException  when the value is not a valid decimal, has more fractional digits than the scale,
+   *                                 or is out of range
+   */
+  static long parse(CharSequence value, int offset, int length, int scale, long min, long max) throws NumberFormatException {
+    return parse0(value, offset, length, scale, null, min, max);
+  }
+
+  /**
+   * Parses a decimal value in a single pass, without any intermediate objects.
+   * The digits are accumulated as a negative number so the full range down to {@code min} may be represented,
+   * then any missing fractional digits are filled-in with zeros.
+   *
+   * @param  roundingMode  How to round digits beyond the scale or {@code null} to not allow them
+   * @param  min  The minimum allowed result, inclusive
+   * @param  max  The maximum allowed result, inclusive
+   */
+  private static long parse0(CharSequence value, int offset, int length, int scale, RoundingMode roundingMode, long min, long max)
+      throws NumberFormatException, ArithmeticException {
+    Objects.checkFromIndexSize(offset, length, value.length());
+    int pos = offset;
+    final int end = offset + length;
+    // Get the sign first, treat as negative, then apply the sign
+    boolean isNegative = false;
+    if (pos < end) {
+      char ch = value.charAt(pos);
+      if (ch == '-') {
+        isNegative = true;
+        pos++;
+      } else if (ch == '+') {
+        pos++;
+      }
+    }
+    if (pos == end) {
+      throw newNumberFormatException(value, offset, end);
+    }
+    final long limit = isNegative ? min : -max;
+    final long multmin = limit / 10;
+    long result = 0;
+    // -1 until the decimal point is found
+    int fractionDigits = -1;
+    // The first digit beyond the scale, and whether any later digit is non-zero
+    int discarded = 0;
+    boolean sticky = false;
+    while (pos < end) {
+      char ch = value.charAt(pos++);
+      if (ch == '.') {
+        if (fractionDigits != -1) {
+          throw newNumberFormatException(value, offset, end);
+        }
+        fractionDigits = 0;
+      } else {
+        int digit = ch - '0';
+        if (digit < 0 || digit > 9) {
+          throw newNumberFormatException(value, offset, end);
+        }
+        if (fractionDigits != -1) {
+          if (fractionDigits >= scale) {
+            if (roundingMode == null) {
+              throw newNumberFormatException(value, offset, end);
+            }
+            if (fractionDigits == scale) {
+              discarded = digit;
+            } else if (digit != 0) {
+              sticky = true;
+            }
+            fractionDigits++;
+            continue;
+          }
+          fractionDigits++;
+        }
+        if (result < multmin) {
+          throw newOutOfRangeException();
+        }
+        result *= 10;
+        if (result < limit + digit) {
+          throw newOutOfRangeException();
+        }
+        result -= digit;
+      }
+    }
+    // Allow for incomplete data like 2, 2., and 2.3
+    for (int i = Math.max(fractionDigits, 0); i < scale; i++) {
+      if (result < multmin) {
+        throw newOutOfRangeException();
+      }
+      result *= 10;
+    }
+    if ((discarded != 0 || sticky) && roundUp(roundingMode, isNegative, discarded, sticky, (result & 1) != 0)) {
+      if (result == limit) {
+        throw newOutOfRangeException();
+      }
+      result--;
+    }
+    return isNegative ? result : -result;
+  }
+
+  /**
+   * Determines if the magnitude of a value should be rounded away from zero, given its discarded digits.
+   * At least one discarded digit must be non-zero.
+   *
+   * @param  discarded  The first discarded digit
+   * @param  sticky  When any digit after the first discarded digit is non-zero
+   * @param  odd  When the last kept digit is odd
+   */
+  private static boolean roundUp(RoundingMode roundingMode, boolean isNegative, int discarded, boolean sticky, boolean odd)
+      throws ArithmeticException {
+    switch (roundingMode) {
+      case UP:
+        return true;
+      case DOWN:
+        return false;
+      case CEILING:
+        return !isNegative;
+      case FLOOR:
+        return isNegative;
+      case HALF_UP:
+        return discarded >= 5;
+      case HALF_DOWN:
+        return discarded > 5 || (discarded == 5 && sticky);
+      case HALF_EVEN:
+        return discarded > 5 || (discarded == 5 && (sticky || odd));
+      case UNNECESSARY:
+        throw new ArithmeticException("Rounding necessary");
+      default:
+        throw new AssertionError("Unexpected rounding mode: " + roundingMode);
+    }
+  }
+
+  private static NumberFormatException newNumberFormatException(CharSequence value, int start, int end) {
+    return new NumberFormatException("For input string: \"" + value.subSequence(start, end) + '"');
+  }
+
+  private static NumberFormatException newOutOfRangeException() {
+    return new NumberFormatException("Out of range during conversion");
+  }
+}
@@ -0,0 +1,212 @@
+/*
+ * ao-sql - SQL and JDBC utilities.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql.
+ *
+ * ao-sql is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.TimeZone;
+
+/**
+ * Formats the values of a {@link ResultSet} for {@link SQLUtility#printTable(java.sql.ResultSet, java.lang.Appendable, boolean)}.
+ * The column metadata is read once, then each value is formatted from the typed getter for its column type.
+ *
+ * @author  AO Industries, Inc.
+ */
+final class ResultSetTable {
+
+  private final ResultSet results;
+  private final int numCols;
+  private final String[] titles;
+  private final int[] types;
+  private final boolean[] alignRights;
+
+  // Buffers reused for each value
+  private final StringBuilder value = new StringBuilder();
+  private final TimeZone timeZone = DateTimes.resolve(null);
+  private final DayCache dayCache = DayCache.getInstance(timeZone);
+  private final char[] dateTime = new char[DateTimes.DATE_TIME_LENGTH];
+
+  ResultSetTable(ResultSet results) throws SQLException {
+    this.results = results;
+    ResultSetMetaData metaData = results.getMetaData();
+    numCols = metaData.getColumnCount();
+    titles = new String[numCols];
+    types = new int[numCols];
+    alignRights = new boolean[numCols];
+    for (int col = 0; col < numCols; col++) {
+      titles[col] = metaData.getColumnLabel(col + 1);
+      int type = metaData.getColumnType(col + 1);
+      types[col] = type;
+      alignRights[col] = isNumeric(type);
+    }
+  }
+
+  private static boolean isNumeric(int type) {
+    switch (type) {
+      case Types.TINYINT:
+      case Types.SMALLINT:
+      case Types.INTEGER:
+      case Types.BIGINT:
+      case Types.REAL:
+      case Types.FLOAT:
+      case Types.DOUBLE:
+      case Types.DECIMAL:
+      case Types.NUMERIC:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  int getColumnCount() {
+    return numCols;
+  }
+
+  String[] getTitles() {
+    return titles;
+  }
+
+  boolean[] getAlignRights() {
+    return alignRights;
+  }
+
+  /**
+   * Appends the value of a column of the current row.
+   *
+   * @param  col  The zero-based column index
+   *
+   * @return  {@code false} when the value is {@code null}, in which case nothing is appended
+   */
+  boolean appendValue(int col, StringBuilder sb) throws SQLException {
+    int columnIndex = col + 1;
+    switch (types[col]) {
+      case Types.TINYINT:
+      case Types.SMALLINT:
+      case Types.INTEGER:
+      case Types.BIGINT:
+        long l = results.getLong(columnIndex);
+        if (results.wasNull()) {
+          return false;
+        }
+        sb.append(l);
+        return true;
+      case Types.REAL:
+        float f = results.getFloat(columnIndex);
+        if (results.wasNull()) {
+          return false;
+        }
+        sb.append(f);
+        return true;
+      case Types.FLOAT:
+      case Types.DOUBLE:
+        double d = results.getDouble(columnIndex);
+        if (results.wasNull()) {
+          return false;
+        }
+        sb.append(d);
+        return true;
+      case Types.DECIMAL:
+      case Types.NUMERIC:
+        BigDecimal bd = results.getBigDecimal(columnIndex);
+        if (bd == null) {
+          return false;
+        }
+        appendDecimal(bd, sb);
+        return true;
+      case Types.TIMESTAMP:
+        Timestamp ts = results.getTimestamp(columnIndex);
+        if (ts == null) {
+          return false;
+        }
+        appendTimestamp(ts, sb);
+        return true;
+      default:
+        String s = results.getString(columnIndex);
+        if (s == null) {
+          return false;
+        }
+        sb.append(s);
+        return true;
+    }
+  }
+
+  /**
+   * Appends a decimal the same as {@link BigDecimal#toPlainString()}.  When its unscaled value fits in a {@code long}
+   * at a scale supported by {@link FixedPoint}, it is formatted by {@link FixedPoint} without creating a {@link String}.
+   */
+  private static void appendDecimal(BigDecimal bd, StringBuilder sb) {
+    int scale = bd.scale();
+    if (
+        scale >= FixedPoint.MIN_SCALE
+            && scale <= FixedPoint.MAX_SCALE
+            && bd.precision() <= FixedPoint.MAX_SCALE
+    ) {
+      FixedPoint.format(bd.unscaledValue().longValue(), scale, sb);
+    } else {
+      sb.append(bd.toPlainString());
+    }
+  }
+
+  /**
+   * Appends a timestamp in <code>YYYY-MM-DD HH:MM:SS[.fffffffff]</code> form, without trailing zeros in the
+   * fractional seconds.
+   */
+  private void appendTimestamp(Timestamp ts, StringBuilder sb) {
+    long time = ts.getTime();
+    if (DateTimes.write(DateTimes.Format.DATE_TIME, time, timeZone, dayCache, dateTime, 0)) {
+      sb.append(dateTime);
+    } else {
+      sb.append(DateTimes.Format.DATE_TIME.fallback(time, timeZone));
+    }
+    int nanos = ts.getNanos();
+    if (nanos != 0) {
+      int digits = 9;
+      while (nanos % 10 == 0) {
+        nanos /= 10;
+        digits--;
+      }
+      sb.append('.');
+      for (int i = FixedPoint.digitCount(nanos); i < digits; i++) {
+        sb.append('0');
+      }
+      sb.append(nanos);
+    }
+  }
+
+  /**
+   * Converts the current row to cells for the given renderer.
+   */
+  TableRenderer.Cell[] toCells(TableRenderer renderer) throws SQLException {
+    TableRenderer.Cell[] cells = new TableRenderer.Cell[numCols];
+    for (int col = 0; col < numCols; col++) {
+      value.setLength(0);
+      cells[col] = renderer.toCell(col, appendValue(col, value) ? value.toString() : null);
+    }
+    return cells;
+  }
+}
@@ -26,11 +26,23 @@ package com.aoapps.sql;
 import com.aoapps.hodgepodge.io.stream.Streamable;
 import com.aoapps.hodgepodge.io.stream.StreamableInput;
 import com.aoapps.hodgepodge.io.stream.StreamableOutput;
+import java.io.DataInput;
 import java.io.DataInputStream;
+import java.io.DataOutput;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.sql.Timestamp;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * Functions for sending SQL-related objects in support of {@link Streamable}.
@@ -86,6 +98,108 @@ public final class SQLStreamables {
     return in.readBoolean() ? readUnmodifiableTimestamp(in) : null;
   }
 
+  /**
+   * Reads an {@link UnmodifiableTimestamp}, sharing equal timestamps through the given pool.
+   *
+   * <p>See  {@link SQLStreamables#writeTimestamp(java.sql.Timestamp, java.io.DataOutputStream)} for wire protocol details.</p>
+   *
+   * @param  pool  The pool of shared timestamps or {@code null} to always create a new timestamp
+   */
+  public static UnmodifiableTimestamp readUnmodifiableTimestamp(DataInputStream in, TimestampPool pool) throws IOException {
+    if (pool == null) {
+      return readUnmodifiableTimestamp(in);
+    }
+    long seconds = in.readLong();
+    int nanos = StreamableInput.readCompressedInt(in);
+    return pool.intern(seconds, nanos, IOException::new);
+  }
+
+  /**
+   * Reads a possibly-{@code null} {@link UnmodifiableTimestamp}, sharing equal timestamps through the given pool.
+   *
+   * @see  SQLStreamables#readUnmodifiableTimestamp(java.io.DataInputStream, com.aoapps.sql.TimestampPool)
+   */
+  public static UnmodifiableTimestamp readNullUnmodifiableTimestamp(DataInputStream in, TimestampPool pool) throws IOException {
+    return in.readBoolean() ? readUnmodifiableTimestamp(in, pool) : null;
+  }
+
+  /**
+   * The maximum nanoseconds of a timestamp.
+   */
+  private static final int MAX_NANOS = 999999999;
+
+  /**
+   * Reads nanoseconds, checking their range.
+   */
+  private static int readNanos(DataInputStream in) throws IOException {
+    int nanos = StreamableInput.readCompressedInt(in);
+    if (nanos < 0 || nanos > MAX_NANOS) {
+      throw new IOException("nanos out of range: " + nanos);
+    }
+    return nanos;
+  }
+
+  /**
+   * Reads a {@link Timestamp} into an existing timestamp, to decode many timestamps without allocation.
+   * When the timestamp read is out of range, the existing timestamp is unchanged.
+   *
+   * <p>See  {@link SQLStreamables#writeTimestamp(java.sql.Timestamp, java.io.DataOutputStream)} for wire protocol details.</p>
+   *
+   * @param  reuse  The timestamp to set
+   *
+   * @return  The given timestamp
+   */
+  public static Timestamp readTimestamp(DataInputStream in, Timestamp reuse) throws IOException {
+    long seconds = in.readLong();
+    int nanos = readNanos(in);
+    SQLUtility.toTimestamp(seconds, nanos, reuse, IOException::new);
+    return reuse;
+  }
+
+  /**
+   * Reads a possibly-{@code null} {@link Timestamp} into an existing timestamp.
+   *
+   * @return  The given timestamp or {@code null} when {@code null} was read, in which case the given timestamp is
+   *          unchanged
+   *
+   * @see  SQLStreamables#readTimestamp(java.io.DataInputStream, java.sql.Timestamp)
+   */
+  public static Timestamp readNullTimestamp(DataInputStream in, Timestamp reuse) throws IOException {
+    return in.readBoolean() ? readTimestamp(in, reuse) : null;
+  }
+
+  /**
+   * Reads a timestamp as its number of seconds and nanoseconds, without creating any {@link Timestamp}.
+   * The seconds are not limited to the range of {@link Timestamp}.
+   *
+   * <p>See  {@link SQLStreamables#writeTimestamp(java.sql.Timestamp, java.io.DataOutputStream)} for wire protocol details.</p>
+   *
+   * @param  seconds  Receives the seconds at the given index
+   * @param  nanos    Receives the nanoseconds at the given index
+   */
+  public static void readTimestamp(DataInputStream in, long[] seconds, int[] nanos, int index) throws IOException {
+    long s = in.readLong();
+    nanos[index] = readNanos(in);
+    seconds[index] = s;
+  }
+
+  /**
+   * Reads a possibly-{@code null} timestamp as its number of seconds and nanoseconds.
+   *
+   * @return  {@code true} when a timestamp was read, or {@code false} when {@code null} was read, in which case the
+   *          arrays are unchanged
+   *
+   * @see  SQLStreamables#readTimestamp(java.io.DataInputStream, long[], int[], int)
+   */
+  public static boolean readNullTimestamp(DataInputStream in, long[] seconds, int[] nanos, int index) throws IOException {
+    if (in.readBoolean()) {
+      readTimestamp(in, seconds, nanos, index);
+      return true;
+    } else {
+      return false;
+    }
+  }
+
   /**
    * Writes a {@link Timestamp}, maintaining the full nanosecond precision.
    * Time zone offset is not maintained.
@@ -116,4 +230,828 @@ public final class SQLStreamables {
       writeTimestamp(ts, out);
     }
   }
+
+  /**
+   * Creates an {@link Instant}, checking the range of both its seconds and nanoseconds.
+   */
+  private static Instant newInstant(long seconds, int nanos) throws IOException {
+    if (nanos < 0 || nanos > MAX_NANOS) {
+      throw new IOException("nanos out of range: " + nanos);
+    }
+    if (seconds < Instant.MIN.getEpochSecond() || seconds > Instant.MAX.getEpochSecond()) {
+      throw new IOException("seconds out of range: " + seconds);
+    }
+    return Instant.ofEpochSecond(seconds, nanos);
+  }
+
+  /**
+   * Reads an {@link Instant}, in the same wire protocol as {@link Timestamp}.  Unlike a {@link Timestamp}, an
+   * {@link Instant} has no fields beyond its seconds and nanoseconds, and is immutable.
+   *
+   * <p>See  {@link SQLStreamables#writeTimestamp(java.sql.Timestamp, java.io.DataOutputStream)} for wire protocol details.</p>
+   */
+  public static Instant readInstant(DataInputStream in) throws IOException {
+    long seconds = in.readLong();
+    int nanos = StreamableInput.readCompressedInt(in);
+    return newInstant(seconds, nanos);
+  }
+
+  /**
+   * Reads a possibly-{@code null} {@link Instant}.
+   *
+   * @see  SQLStreamables#readInstant(java.io.DataInputStream)
+   */
+  public static Instant readNullInstant(DataInputStream in) throws IOException {
+    return in.readBoolean() ? readInstant(in) : null;
+  }
+
+  /**
+   * Writes an {@link Instant}, in the same wire protocol as {@link Timestamp}.
+   *
+   * @see  SQLStreamables#writeTimestamp(java.sql.Timestamp, java.io.DataOutputStream)
+   */
+  public static void writeInstant(Instant instant, DataOutputStream out) throws IOException {
+    out.writeLong(instant.getEpochSecond());
+    StreamableOutput.writeCompressedInt(instant.getNano(), out);
+  }
+
+  /**
+   * Writes a possibly-{@code null} {@link Instant}.
+   *
+   * @see  SQLStreamables#writeInstant(java.time.Instant, java.io.DataOutputStream)
+   */
+  public static void writeNullInstant(Instant instant, DataOutputStream out) throws IOException {
+    out.writeBoolean(instant != null);
+    if (instant != null) {
+      writeInstant(instant, out);
+    }
+  }
+
+  /**
+   * Writes a {@link StreamableOutput#writeCompressedInt(int, java.io.DataOutputStream) compressed int}, byte-for-byte
+   * the same, to any {@link DataOutput}.  A {@link DataOutputStream} is written by
+   * {@link StreamableOutput#writeCompressedInt(int, java.io.DataOutputStream)} itself.
+   */
+  static void writeCompressedInt(int i, DataOutput out) throws IOException {
+    if (out instanceof DataOutputStream) {
+      StreamableOutput.writeCompressedInt(i, (DataOutputStream) out);
+      return;
+    }
+    int t;
+    if (i < -0x200000 || i >= 0x200000) {
+      if (i < -0x40000000 || i >= 0x40000000) {
+        throw new IOException("Value out of range: " + i);
+      }
+      t = (i & 0x3fffffff) | 0x80000000 | (i < 0 ? 0x40000000 : 0);
+      out.writeInt(t);
+    } else if (i < -0x1000 || i >= 0x1000) {
+      t = (i & 0x1fffff) | 0x400000 | (i < 0 ? 0x200000 : 0);
+      out.write(t >>> 16);
+      out.writeShort(t);
+    } else if (i < -0x10 || i >= 0x10) {
+      t = (i & 0xfff) | 0x2000 | (i < 0 ? 0x1000 : 0);
+      out.writeShort(t);
+    } else {
+      t = (i & 0xf) | (i < 0 ? 0x10 : 0);
+      out.write(t);
+    }
+  }
+
+  /**
+   * Reads a {@link StreamableInput#readCompressedInt(java.io.DataInputStream) compressed int} from any
+   * {@link DataInput}.  A {@link DataInputStream} is read by
+   * {@link StreamableInput#readCompressedInt(java.io.DataInputStream)} itself.
+   */
+  static int readCompressedInt(DataInput in) throws IOException {
+    if (in instanceof DataInputStream) {
+      return StreamableInput.readCompressedInt((DataInputStream) in);
+    }
+    int b1 = in.readUnsignedByte();
+    if ((b1 & 0x80) != 0) {
+      int b234 = in.readUnsignedShort() << 8 | in.readUnsignedByte();
+      return ((b1 & 0x40) == 0 ? 0 : 0xc0000000) | ((b1 & 0x3f) << 24) | b234;
+    } else if ((b1 & 0x40) != 0) {
+      return ((b1 & 0x20) == 0 ? 0 : 0xffe00000) | ((b1 & 0x1f) << 16) | in.readUnsignedShort();
+    } else if ((b1 & 0x20) != 0) {
+      return ((b1 & 0x10) == 0 ? 0 : 0xfffff000) | ((b1 & 0x0f) << 8) | in.readUnsignedByte();
+    } else {
+      return ((b1 & 0x10) == 0 ? 0 : 0xfffffff0) | (b1 & 0x0f);
+    }
+  }
+
+  /**
+   * Writes a {@link StreamableOutput#writeCompressedInt(int, java.io.DataOutputStream) compressed int} at the
+   * position of a buffer, in big-endian order regardless of the order of the buffer.
+   */
+  static void writeCompressedInt(int i, ByteBuffer buf) {
+    assert i >= -0x40000000 && i < 0x40000000 : "Value out of range: " + i;
+    int t;
+    if (i < -0x200000 || i >= 0x200000) {
+      t = (i & 0x3fffffff) | 0x80000000 | (i < 0 ? 0x40000000 : 0);
+      buf.put((byte) (t >>> 24)).put((byte) (t >>> 16)).put((byte) (t >>> 8)).put((byte) t);
+    } else if (i < -0x1000 || i >= 0x1000) {
+      t = (i & 0x1fffff) | 0x400000 | (i < 0 ? 0x200000 : 0);
+      buf.put((byte) (t >>> 16)).put((byte) (t >>> 8)).put((byte) t);
+    } else if (i < -0x10 || i >= 0x10) {
+      t = (i & 0xfff) | 0x2000 | (i < 0 ? 0x1000 : 0);
+      buf.put((byte) (t >>> 8)).put((byte) t);
+    } else {
+      t = (i & 0xf) | (i < 0 ? 0x10 : 0);
+      buf.put((byte) t);
+    }
+  }
+
+  /**
+   * Reads a {@link StreamableInput#readCompressedInt(java.io.DataInputStream) compressed int} at the position of a
+   * buffer.
+   */
+  static int readCompressedInt(ByteBuffer buf) {
+    int b1 = buf.get() & 0xff;
+    if ((b1 & 0x80) != 0) {
+      int b234 = (buf.get() & 0xff) << 16 | (buf.get() & 0xff) << 8 | (buf.get() & 0xff);
+      return ((b1 & 0x40) == 0 ? 0 : 0xc0000000) | ((b1 & 0x3f) << 24) | b234;
+    } else if ((b1 & 0x40) != 0) {
+      int b23 = (buf.get() & 0xff) << 8 | (buf.get() & 0xff);
+      return ((b1 & 0x20) == 0 ? 0 : 0xffe00000) | ((b1 & 0x1f) << 16) | b23;
+    } else if ((b1 & 0x20) != 0) {
+      return ((b1 & 0x10) == 0 ? 0 : 0xfffff000) | ((b1 & 0x0f) << 8) | (buf.get() & 0xff);
+    } else {
+      return ((b1 & 0x10) == 0 ? 0 : 0xfffffff0) | (b1 & 0x0f);
+    }
+  }
+
+  /**
+   * Gets the number of bytes of a {@link StreamableOutput#writeCompressedInt(int, java.io.DataOutputStream) compressed int}.
+   */
+  static int compressedIntSize(int i) {
+    if (i < -0x200000 || i >= 0x200000) {
+      return 4;
+    } else if (i < -0x1000 || i >= 0x1000) {
+      return 3;
+    } else if (i < -0x10 || i >= 0x10) {
+      return 2;
+    } else {
+      return 1;
+    }
+  }
+
+  /**
+   * Reads a {@code long} at the position of a buffer, in big-endian order regardless of the order of the buffer.
+   */
+  private static long getLong(ByteBuffer buf) {
+    long value = buf.getLong();
+    return buf.order() == ByteOrder.BIG_ENDIAN ? value : Long.reverseBytes(value);
+  }
+
+  /**
+   * Writes a {@code long} at the position of a buffer, in big-endian order regardless of the order of the buffer.
+   */
+  private static void putLong(long value, ByteBuffer buf) {
+    buf.putLong(buf.order() == ByteOrder.BIG_ENDIAN ? value : Long.reverseBytes(value));
+  }
+
+  /**
+   * Reads a {@link Timestamp} from any {@link DataInput}, such as a {@link java.io.RandomAccessFile}, in the same
+   * wire protocol as {@link SQLStreamables#readTimestamp(java.io.DataInputStream)}.
+   */
+  public static Timestamp readTimestamp(DataInput in) throws IOException {
+    long seconds = in.readLong();
+    int nanos = readCompressedInt(in);
+    return SQLUtility.newTimestamp(seconds, nanos, IOException::new);
+  }
+
+  /**
+   * Reads a possibly-{@code null} {@link Timestamp} from any {@link DataInput}.
+   *
+   * @see  SQLStreamables#readTimestamp(java.io.DataInput)
+   */
+  public static Timestamp readNullTimestamp(DataInput in) throws IOException {
+    return in.readBoolean() ? readTimestamp(in) : null;
+  }
+
+  /**
+   * Reads an {@link UnmodifiableTimestamp} from any {@link DataInput}, in the same wire protocol as
+   * {@link SQLStreamables#readUnmodifiableTimestamp(java.io.DataInputStream)}.
+   */
+  public static UnmodifiableTimestamp readUnmodifiableTimestamp(DataInput in) throws IOException {
+    long seconds = in.readLong();
+    int nanos = readCompressedInt(in);
+    return SQLUtility.newUnmodifiableTimestamp(seconds, nanos, IOException::new);
+  }
+
+  /**
+   * Reads a possibly-{@code null} {@link UnmodifiableTimestamp} from any {@link DataInput}.
+   *
+   * @see  SQLStreamables#readUnmodifiableTimestamp(java.io.DataInput)
+   */
+  public static UnmodifiableTimestamp readNullUnmodifiableTimestamp(DataInput in) throws IOException {
+    return in.readBoolean() ? readUnmodifiableTimestamp(in) : null;
+  }
+
+  /**
+   * Writes a {@link Timestamp} to any {@link DataOutput}, in the same wire protocol as
+   * {@link SQLStreamables#writeTimestamp(java.sql.Timestamp, java.io.DataOutputStream)}.
+   */
+  public static void writeTimestamp(Timestamp ts, DataOutput out) throws IOException {
+    out.writeLong(Math.floorDiv(ts.getTime(), 1000));
+    writeCompressedInt(ts.getNanos(), out);
+  }
+
+  /**
+   * Writes a possibly-{@code null} {@link Timestamp} to any {@link DataOutput}.
+   *
+   * @see  SQLStreamables#writeTimestamp(java.sql.Timestamp, java.io.DataOutput)
+   */
+  public static void writeNullTimestamp(Timestamp ts, DataOutput out) throws IOException {
+    out.writeBoolean(ts != null);
+    if (ts != null) {
+      writeTimestamp(ts, out);
+    }
+  }
+
+  /**
+   * Reads a {@link Timestamp} at the position of a buffer, in the same wire protocol as
+   * {@link SQLStreamables#readTimestamp(java.io.DataInputStream)}, regardless of the order of the buffer.
+   * The position is advanced past the timestamp.
+   *
+   * @throws  BufferUnderflowException  when the buffer has too few bytes remaining, in which case the position is
+   *                                    unchanged
+   * @throws  IOException  when the nanoseconds are out of range
+   */
+  public static Timestamp readTimestamp(ByteBuffer buf) throws BufferUnderflowException, IOException {
+    int start = buf.position();
+    long seconds;
+    int nanos;
+    try {
+      seconds = getLong(buf);
+      nanos = readCompressedInt(buf);
+    } catch (BufferUnderflowException e) {
+      buf.position(start);
+      throw e;
+    }
+    return SQLUtility.newTimestamp(seconds, nanos, IOException::new);
+  }
+
+  /**
+   * Reads a possibly-{@code null} {@link Timestamp} at the position of a buffer.
+   * When the buffer has too few bytes remaining, the position is unchanged.
+   *
+   * @see  SQLStreamables#readTimestamp(java.nio.ByteBuffer)
+   */
+  public static Timestamp readNullTimestamp(ByteBuffer buf) throws BufferUnderflowException, IOException {
+    int start = buf.position();
+    if (buf.get() == 0) {
+      return null;
+    }
+    try {
+      return readTimestamp(buf);
+    } catch (BufferUnderflowException e) {
+      buf.position(start);
+      throw e;
+    }
+  }
+
+  /**
+   * Reads an {@link UnmodifiableTimestamp} at the position of a buffer, in the same wire protocol as
+   * {@link SQLStreamables#readUnmodifiableTimestamp(java.io.DataInputStream)}, regardless of the order of the buffer.
+   *
+   * @see  SQLStreamables#readTimestamp(java.nio.ByteBuffer)
+   */
+  public static UnmodifiableTimestamp readUnmodifiableTimestamp(ByteBuffer buf) throws BufferUnderflowException, IOException {
+    int start = buf.position();
+    long seconds;
+    int nanos;
+    try {
+      seconds = getLong(buf);
+      nanos = readCompressedInt(buf);
+    } catch (BufferUnderflowException e) {
+      buf.position(start);
+      throw e;
+    }
+    return SQLUtility.newUnmodifiableTimestamp(seconds, nanos, IOException::new);
+  }
+
+  /**
+   * Reads a possibly-{@code null} {@link UnmodifiableTimestamp} at the position of a buffer.
+   * When the buffer has too few bytes remaining, the position is unchanged.
+   *
+   * @see  SQLStreamables#readUnmodifiableTimestamp(java.nio.ByteBuffer)
+   */
+  public static UnmodifiableTimestamp readNullUnmodifiableTimestamp(ByteBuffer buf) throws BufferUnderflowException, IOException {
+    int start = buf.position();
+    if (buf.get() == 0) {
+      return null;
+    }
+    try {
+      return readUnmodifiableTimestamp(buf);
+    } catch (BufferUnderflowException e) {
+      buf.position(start);
+      throw e;
+    }
+  }
+
+  /**
+   * Writes a {@link Timestamp} at the position of a buffer, in the same wire protocol as
+   * {@link SQLStreamables#writeTimestamp(java.sql.Timestamp, java.io.DataOutputStream)}, regardless of the order of the
+   * buffer.  This is at most twelve bytes.  The position is advanced past the timestamp.
+   *
+   * @throws  BufferOverflowException  when the buffer does not have enough room, in which case nothing is written
+   */
+  public static void writeTimestamp(Timestamp ts, ByteBuffer buf) throws BufferOverflowException {
+    int nanos = ts.getNanos();
+    if (buf.remaining() < Long.BYTES + compressedIntSize(nanos)) {
+      throw new BufferOverflowException();
+    }
+    putLong(Math.floorDiv(ts.getTime(), 1000), buf);
+    writeCompressedInt(nanos, buf);
+  }
+
+  /**
+   * Writes a possibly-{@code null} {@link Timestamp} at the position of a buffer.  This is at most thirteen bytes.
+   * When the buffer does not have enough room, nothing is written.
+   *
+   * @see  SQLStreamables#writeTimestamp(java.sql.Timestamp, java.nio.ByteBuffer)
+   */
+  public static void writeNullTimestamp(Timestamp ts, ByteBuffer buf) throws BufferOverflowException {
+    if (ts == null) {
+      buf.put((byte) 0);
+    } else {
+      int nanos = ts.getNanos();
+      if (buf.remaining() < 1 + Long.BYTES + compressedIntSize(nanos)) {
+        throw new BufferOverflowException();
+      }
+      buf.put((byte) 1);
+      putLong(Math.floorDiv(ts.getTime(), 1000), buf);
+      writeCompressedInt(nanos, buf);
+    }
+  }
+
+  /**
+   * The maximum number of bytes in each chunk of a block of timestamps.
+   */
+  private static final int CHUNK_SIZE = 8192;
+
+  /**
+   * The maximum number of bytes of a single timestamp in a block: a ten-byte varint of seconds and a five-byte varint
+   * of nanoseconds.
+   */
+  private static final int MAX_TIMESTAMP_BYTES = 15;
+
+  /**
+   * The block flag for when the null bitmap follows the flags.
+   */
+  private static final int FLAG_NULLS = 0x01;
+
+  /**
+   * The block flag for when seconds are written as delta-of-delta instead of delta.
+   */
+  private static final int FLAG_DELTA_OF_DELTA = 0x02;
+
+  /**
+   * The shift of the nanosecond precision in the block flags.
+   */
+  private static final int PRECISION_SHIFT = 2;
+
+  private static final int PRECISION_ZERO = 0;
+  private static final int PRECISION_MILLIS = 1;
+  private static final int PRECISION_MICROS = 2;
+  private static final int PRECISION_NANOS = 3;
+
+  /**
+   * The number of nanoseconds per unit written, by precision.
+   */
+  private static final int[] PRECISION_UNITS = {0, 1000000, 1000, 1};
+
+  private static long zigZag(long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  private static long unZigZag(long value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  /**
+   * Gets the number of bytes of an unsigned varint.
+   */
+  private static int varLongSize(long value) {
+    return (63 - Long.numberOfLeadingZeros(value | 1)) / 7 + 1;
+  }
+
+  /**
+   * Writes a block in chunks, each a {@link StreamableOutput#writeCompressedInt(int, java.io.DataOutputStream) compressed int}
+   * length followed by that many bytes.  A single timestamp is never split across chunks.
+   */
+  private static final class ChunkOutput {
+
+    private final DataOutputStream out;
+    private final byte[] buf = new byte[CHUNK_SIZE];
+    private int pos;
+
+    private ChunkOutput(DataOutputStream out) {
+      this.out = out;
+    }
+
+    /**
+     * Ensures room for the given number of bytes in the current chunk, starting a new chunk as needed.
+     */
+    private void ensure(int bytes) throws IOException {
+      if (pos > CHUNK_SIZE - bytes) {
+        flush();
+      }
+    }
+
+    private void writeByte(int b) throws IOException {
+      ensure(1);
+      buf[pos++] = (byte) b;
+    }
+
+    /**
+     * Writes an unsigned varint without checking for room.
+     */
+    private void writeVarLong(long value) {
+      while ((value & ~0x7FL) != 0) {
+        buf[pos++] = (byte) ((value & 0x7F) | 0x80);
+        value >>>= 7;
+      }
+      buf[pos++] = (byte) value;
+    }
+
+    private void flush() throws IOException {
+      if (pos > 0) {
+        StreamableOutput.writeCompressedInt(pos, out);
+        out.write(buf, 0, pos);
+        pos = 0;
+      }
+    }
+  }
+
+  /**
+   * Reads a block written by {@link ChunkOutput}, one chunk at a time.
+   */
+  private static final class ChunkInput {
+
+    private final DataInputStream in;
+    private final byte[] buf = new byte[CHUNK_SIZE];
+    private int pos;
+    private int limit;
+
+    private ChunkInput(DataInputStream in) {
+      this.in = in;
+    }
+
+    /**
+     * Reads the next chunk once the current chunk is consumed.  Must be called before each timestamp or byte.
+     */
+    private void next() throws IOException {
+      if (pos == limit) {
+        int len = StreamableInput.readCompressedInt(in);
+        if (len < 1 || len > CHUNK_SIZE) {
+          throw new IOException("Invalid chunk length: " + len);
+        }
+        in.readFully(buf, 0, len);
+        pos = 0;
+        limit = len;
+      }
+    }
+
+    private int readByte() throws IOException {
+      next();
+      return buf[pos++] & 0xFF;
+    }
+
+    /**
+     * Reads an unsigned varint from within the current chunk.
+     */
+    private long readVarLong() throws IOException {
+      long value = 0;
+      for (int shift = 0; shift < 64; shift += 7) {
+        if (pos == limit) {
+          throw new IOException("Varint split across chunks");
+        }
+        byte b = buf[pos++];
+        value |= (long) (b & 0x7F) << shift;
+        if (b >= 0) {
+          return value;
+        }
+      }
+      throw new IOException("Varint too long");
+    }
+
+    /**
+     * Verifies the block ended at the end of its last chunk.
+     */
+    private void end() throws IOException {
+      if (pos != limit) {
+        throw new IOException("Unexpected data at end of block: " + (limit - pos) + " bytes");
+      }
+    }
+  }
+
+  /**
+   * Writes a block of possibly-{@code null} {@link Timestamp}, maintaining the full nanosecond precision.
+   * Time zone offset is not maintained.
+   *
+   * <p>This is much more compact than {@link SQLStreamables#writeNullTimestamp(java.sql.Timestamp, java.io.DataOutputStream)}
+   * per value when timestamps are close together, such as sorted event logs.  The list is iterated twice: first to
+   * choose the encoding, then to write.</p>
+   *
+   * <p>The wire protocol is a {@link StreamableOutput#writeCompressedInt(int) compressed int} number of timestamps.
+   * When not zero, this is followed by chunks, each a compressed int length followed by that many bytes, with a single
+   * timestamp never split across chunks.  The bytes of the chunks are:</p>
+   * <ol>
+   *   <li>A byte of flags:
+   *     <ul>
+   *       <li>Bit 0: set when there is a null bitmap</li>
+   *       <li>Bit 1: set when seconds are delta-of-delta instead of delta</li>
+   *       <li>Bits 2-3: the precision of nanoseconds: 0 when all zero, 1 for milliseconds, 2 for microseconds, and 3
+   *           for nanoseconds</li>
+   *     </ul>
+   *   </li>
+   *   <li>When there is a null bitmap, one bit per timestamp, eight per byte starting from the low bit, set for each
+   *       non-{@code null} timestamp.</li>
+   *   <li>For each non-{@code null} timestamp, a zig-zag varint of its seconds minus the previous seconds, or of that
+   *       delta minus the previous delta, starting from zero.  When the precision is not zero, followed by an unsigned
+   *       varint of its nanoseconds divided by the precision.</li>
+   * </ol>
+   *
+   * <p>Whichever of delta and delta-of-delta is smaller is used, and the coarsest precision that represents every
+   * timestamp exactly.</p>
+   */
+  public static void writeTimestamps(List<? extends Timestamp> timestamps, DataOutputStream out) throws IOException {
+    writeTimestamps(timestamps, ts -> Math.floorDiv(ts.getTime(), 1000), Timestamp::getNanos, out);
+  }
+
+  /**
+   * Writes a block of possibly-{@code null} timestamps, given how to get the seconds and nanoseconds of each.
+   */
+  private static <T> void writeTimestamps(
+      List<? extends T> timestamps,
+      ToLongFunction<? super T> getSeconds,
+      ToIntFunction<? super T> getNanos,
+      DataOutputStream out
+  ) throws IOException {
+    int count = timestamps.size();
+    StreamableOutput.writeCompressedInt(count, out);
+    if (count == 0) {
+      return;
+    }
+    // Find nulls, precision, and the smaller encoding of seconds
+    boolean hasNulls = false;
+    int precision = PRECISION_ZERO;
+    long deltaSize = 0;
+    long deltaOfDeltaSize = 0;
+    long prevSeconds = 0;
+    long prevDelta = 0;
+    for (T ts : timestamps) {
+      if (ts == null) {
+        hasNulls = true;
+      } else {
+        long seconds = getSeconds.applyAsLong(ts);
+        int nanos = getNanos.applyAsInt(ts);
+        if (nanos != 0 && precision != PRECISION_NANOS) {
+          int p = (nanos % 1000) != 0 ? PRECISION_NANOS : (nanos % 1000000) != 0 ? PRECISION_MICROS : PRECISION_MILLIS;
+          if (p > precision) {
+            precision = p;
+          }
+        }
+        long delta = seconds - prevSeconds;
+        deltaSize += varLongSize(zigZag(delta));
+        deltaOfDeltaSize += varLongSize(zigZag(delta - prevDelta));
+        prevSeconds = seconds;
+        prevDelta = delta;
+      }
+    }
+    boolean deltaOfDelta = deltaOfDeltaSize < deltaSize;
+    ChunkOutput chunks = new ChunkOutput(out);
+    chunks.writeByte(
+        (hasNulls ? FLAG_NULLS : 0)
+            | (deltaOfDelta ? FLAG_DELTA_OF_DELTA : 0)
+            | (precision << PRECISION_SHIFT)
+    );
+    if (hasNulls) {
+      int bits = 0;
+      int i = 0;
+      for (T ts : timestamps) {
+        if (ts != null) {
+          bits |= 1 << (i & 7);
+        }
+        if ((i & 7) == 7) {
+          chunks.writeByte(bits);
+          bits = 0;
+        }
+        i++;
+      }
+      if ((i & 7) != 0) {
+        chunks.writeByte(bits);
+      }
+    }
+    int unit = PRECISION_UNITS[precision];
+    prevSeconds = 0;
+    prevDelta = 0;
+    for (T ts : timestamps) {
+      if (ts != null) {
+        long seconds = getSeconds.applyAsLong(ts);
+        long delta = seconds - prevSeconds;
+        chunks.ensure(MAX_TIMESTAMP_BYTES);
+        chunks.writeVarLong(zigZag(deltaOfDelta ? (delta - prevDelta) : delta));
+        if (unit != 0) {
+          chunks.writeVarLong(getNanos.applyAsInt(ts) / unit);
+        }
+        prevSeconds = seconds;
+        prevDelta = delta;
+      }
+    }
+    chunks.flush();
+  }
+
+  /**
+   * Writes a block of possibly-{@code null} {@link Timestamp}.
+   *
+   * @see  SQLStreamables#writeTimestamps(java.util.List, java.io.DataOutputStream)
+   */
+  public static void writeTimestamps(Timestamp[] timestamps, DataOutputStream out) throws IOException {
+    writeTimestamps(Arrays.asList(timestamps), out);
+  }
+
+  /**
+   * Receives each non-{@code null} timestamp of a block, as its number of seconds and nanoseconds.
+   *
+   * @see  SQLStreamables#readTimestamps(java.io.DataInputStream, com.aoapps.sql.SQLStreamables.TimestampConsumer)
+   */
+  @FunctionalInterface
+  public interface TimestampConsumer {
+    /**
+     * Receives a single timestamp.
+     *
+     * @param  index    The index of the timestamp within the block, counting {@code null} timestamps
+     * @param  seconds  The seconds, not limited to the range of {@link Timestamp}
+     * @param  nanos    The nanoseconds, already checked to be in the range 0 to 999,999,999
+     */
+    void accept(int index, long seconds, int nanos) throws IOException;
+  }
+
+  /**
+   * Reads the number of timestamps of a block.
+   */
+  private static int readTimestampsCount(DataInputStream in) throws IOException {
+    int count = StreamableInput.readCompressedInt(in);
+    if (count < 0) {
+      throw new IOException("count < 0: " + count);
+    }
+    return count;
+  }
+
+  /**
+   * Reads the timestamps of a block, after its count.
+   */
+  private static void readTimestamps(DataInputStream in, int count, TimestampConsumer consumer) throws IOException {
+    if (count == 0) {
+      return;
+    }
+    ChunkInput chunks = new ChunkInput(in);
+    int flags = chunks.readByte();
+    if ((flags & ~(FLAG_NULLS | FLAG_DELTA_OF_DELTA | (3 << PRECISION_SHIFT))) != 0) {
+      throw new IOException("Unexpected flags: 0x" + Integer.toHexString(flags));
+    }
+    byte[] nulls = null;
+    if ((flags & FLAG_NULLS) != 0) {
+      int nullsLength = (count + 7) >>> 3;
+      // Grown as read, since the count is not trusted until the data is read
+      nulls = new byte[Math.min(nullsLength, CHUNK_SIZE)];
+      for (int i = 0; i < nullsLength; i++) {
+        if (i == nulls.length) {
+          nulls = Arrays.copyOf(nulls, (int) Math.min(nullsLength, 2L * nulls.length));
+        }
+        nulls[i] = (byte) chunks.readByte();
+      }
+    }
+    boolean deltaOfDelta = (flags & FLAG_DELTA_OF_DELTA) != 0;
+    int unit = PRECISION_UNITS[(flags >>> PRECISION_SHIFT) & 3];
+    long seconds = 0;
+    long delta = 0;
+    for (int i = 0; i < count; i++) {
+      if (nulls == null || (nulls[i >>> 3] & (1 << (i & 7))) != 0) {
+        chunks.next();
+        long value = unZigZag(chunks.readVarLong());
+        if (deltaOfDelta) {
+          delta += value;
+        } else {
+          delta = value;
+        }
+        seconds += delta;
+        int nanos;
+        if (unit == 0) {
+          nanos = 0;
+        } else {
+          long units = chunks.readVarLong();
+          if (units > MAX_NANOS / unit) {
+            throw new IOException("nanos out of range: " + units + " * " + unit);
+          }
+          nanos = (int) units * unit;
+        }
+        consumer.accept(i, seconds, nanos);
+      }
+    }
+    chunks.end();
+  }
+
+  /**
+   * Reads a block of possibly-{@code null} timestamps as their number of seconds and nanoseconds, without creating
+   * any {@link Timestamp}.
+   *
+   * <p>See {@link SQLStreamables#writeTimestamps(java.util.List, java.io.DataOutputStream)} for wire protocol details.</p>
+   *
+   * @param  consumer  Called for each non-{@code null} timestamp, in order
+   *
+   * @return  The number of timestamps in the block, including {@code null} timestamps
+   */
+  public static int readTimestamps(DataInputStream in, TimestampConsumer consumer) throws IOException {
+    int count = readTimestampsCount(in);
+    readTimestamps(in, count, consumer);
+    return count;
+  }
+
+  /**
+   * Creates a timestamp from its seconds and nanoseconds.
+   */
+  @FunctionalInterface
+  private interface TimestampFactory<T> {
+    T newTimestamp(long seconds, int nanos) throws IOException;
+  }
+
+  /**
+   * Reads a block into an array.  The timestamps are collected as decoded, and the array is only created once the
+   * whole block has been read, since a corrupt or malicious count must not allocate more than the data itself.
+   */
+  private static <T> T[] readTimestamps(DataInputStream in, IntFunction<T[]> newArray, TimestampFactory<T> factory) throws IOException {
+    int count = readTimestampsCount(in);
+    List<T> timestamps = new ArrayList<>(Math.min(count, CHUNK_SIZE));
+    readTimestamps(in, count, (index, seconds, nanos) -> {
+      while (timestamps.size() < index) {
+        timestamps.add(null);
+      }
+      timestamps.add(factory.newTimestamp(seconds, nanos));
+    });
+    T[] array = newArray.apply(count);
+    return timestamps.toArray(array);
+  }
+
+  /**
+   * Reads a block of possibly-{@code null} {@link Timestamp}.
+   *
+   * <p>See {@link SQLStreamables#writeTimestamps(java.util.List, java.io.DataOutputStream)} for wire protocol details.</p>
+   */
+  public static Timestamp[] readTimestamps(DataInputStream in) throws IOException {
+    return readTimestamps(in, Timestamp[]::new, (seconds, nanos) -> SQLUtility.newTimestamp(seconds, nanos, IOException::new));
+  }
+
+  /**
+   * Reads a block of possibly-{@code null} {@link UnmodifiableTimestamp}.
+   *
+   * <p>See {@link SQLStreamables#writeTimestamps(java.util.List, java.io.DataOutputStream)} for wire protocol details.</p>
+   */
+  public static UnmodifiableTimestamp[] readUnmodifiableTimestamps(DataInputStream in) throws IOException {
+    return readTimestamps(in, UnmodifiableTimestamp[]::new, (seconds, nanos) -> SQLUtility.newUnmodifiableTimestamp(seconds, nanos, IOException::new));
+  }
+
+  /**
+   * Reads a block of possibly-{@code null} {@link UnmodifiableTimestamp}, sharing equal timestamps through the given
+   * pool.
+   *
+   * <p>See {@link SQLStreamables#writeTimestamps(java.util.List, java.io.DataOutputStream)} for wire protocol details.</p>
+   *
+   * @param  pool  The pool of shared timestamps or {@code null} to always create new timestamps
+   */
+  public static UnmodifiableTimestamp[] readUnmodifiableTimestamps(DataInputStream in, TimestampPool pool) throws IOException {
+    if (pool == null) {
+      return readUnmodifiableTimestamps(in);
+    }
+    return readTimestamps(in, UnmodifiableTimestamp[]::new, (seconds, nanos) -> pool.intern(seconds, nanos, IOException::new));
+  }
+
+  /**
+   * Writes a block of possibly-{@code null} {@link Instant}, in the same wire protocol as
+   * {@link SQLStreamables#writeTimestamps(java.util.List, java.io.DataOutputStream)}.
+   */
+  public static void writeInstants(List<? extends Instant> instants, DataOutputStream out) throws IOException {
+    writeTimestamps(instants, Instant::getEpochSecond, Instant::getNano, out);
+  }
+
+  /**
+   * Writes a block of possibly-{@code null} {@link Instant}.
+   *
+   * @see  SQLStreamables#writeInstants(java.util.List, java.io.DataOutputStream)
+   */
+  public static void writeInstants(Instant[] instants, DataOutputStream out) throws IOException {
+    writeInstants(Arrays.asList(instants), out);
+  }
+
+  /**
+   * Reads a block of possibly-{@code null} {@link Instant}.
+   *
+   * <p>See {@link SQLStreamables#writeTimestamps(java.util.List, java.io.DataOutputStream)} for wire protocol details.</p>
+   */
+  public static Instant[] readInstants(DataInputStream in) throws IOException {
+    return readTimestamps(in, Instant[]::new, SQLStreamables::newInstant);
+  }
 }
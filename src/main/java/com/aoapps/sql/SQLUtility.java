@@ -1,6 +1,6 @@
 /*
  * ao-sql - SQL and JDBC utilities.
- * Copyright (C) 2000, 2001, 2002, 2003, 2004, 2005, 2006, 2007, 2008, 2009, 2013, 2016, 2018, 2019, 2020, 2021, 2022, 2024, 2025  AO Industries, Inc.
+ * Copyright (C) 2000, 2001, 2002, 2003, 2004, 2005, 2006, 2007, 2008, 2009, 2013, 2016, 2018, 2019, 2020, 2021, 2022, 2024, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -27,13 +27,20 @@ import com.aoapps.lang.Throwables;
 import com.aoapps.lang.util.CalendarUtils;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.util.BitSet;
 import java.util.Collection;
-import java.util.GregorianCalendar;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.TimeZone;
 import java.util.function.Function;
 
@@ -50,28 +57,55 @@ public final class SQLUtility {
   }
 
   /**
-   * Enables the printing of unicode based tables instead of ASCII.
-   * This is hard-coded for now, but this decision might be affected
-   * later when readline is integrated.  There may be a way to automatically
-   * determine which table format is best instead of assuming UNICODE.
+   * @param timeZone  The time zone to use or {@code null} to use the default time zone
+   *
+   * @see  CalendarUtils#formatDate(java.util.Calendar)
+   */
+  public static String formatDate(long time, TimeZone timeZone) {
+    return DateTimes.format(DateTimes.Format.DATE, time, DateTimes.resolve(timeZone));
+  }
+
+  /**
+   * Formats a date, writing ASCII directly into the given buffer at its position, then advancing its position.
    *
-   * <p>When true, is similar to <code>psql</code> with <code>\pset linestyle unicode</code>
-   * and <code>\pset border 2</code></p>
+   * @param timeZone  The time zone to use or {@code null} to use the default time zone
+   *
+   * @return  The number of bytes written
    *
-   * <p>When false, is similar to <code>psql</code> with <code>\pset linestyle old-ascii</code>
-   * and <code>\pset border 1</code></p>
+   * @throws  BufferOverflowException  when the buffer does not have enough room, in which case nothing is written
+   *
+   * @see  CalendarUtils#formatDate(java.util.Calendar)
    */
-  private static final boolean UNICODE_TABLES = true;
+  public static int formatDate(long time, TimeZone timeZone, ByteBuffer buf) throws BufferOverflowException {
+    return DateTimes.format(DateTimes.Format.DATE, time, DateTimes.resolve(timeZone), buf);
+  }
 
   /**
+   * Formats a column of times into a column of new {@link String}.
+   * The time zone and its cache are resolved once for the whole batch.
+   *
    * @param timeZone  The time zone to use or {@code null} to use the default time zone
    *
+   * @throws  IndexOutOfBoundsException  when either range is out of bounds, in which case nothing is written
+   *
    * @see  CalendarUtils#formatDate(java.util.Calendar)
    */
-  public static String formatDate(long time, TimeZone timeZone) {
-    GregorianCalendar gcal = timeZone == null ? new GregorianCalendar() : new GregorianCalendar(timeZone);
-    gcal.setTimeInMillis(time);
-    return CalendarUtils.formatDate(gcal);
+  public static void formatDate(long[] src, int srcOff, String[] dest, int destOff, int len, TimeZone timeZone) throws IndexOutOfBoundsException {
+    DateTimes.format(DateTimes.Format.DATE, src, srcOff, dest, destOff, len, DateTimes.resolve(timeZone));
+  }
+
+  /**
+   * Formats a column of times, appending directly to the given {@link StringBuilder} with a separator between each
+   * value.  The time zone and its cache are resolved once for the whole batch.
+   *
+   * @param timeZone  The time zone to use or {@code null} to use the default time zone
+   *
+   * @throws  IndexOutOfBoundsException  when the range is out of bounds, in which case nothing is written
+   *
+   * @see  CalendarUtils#formatDate(java.util.Calendar)
+   */
+  public static void formatDate(long[] src, int srcOff, int len, TimeZone timeZone, CharSequence separator, StringBuilder sb) throws IndexOutOfBoundsException {
+    DateTimes.format(DateTimes.Format.DATE, src, srcOff, len, DateTimes.resolve(timeZone), separator, sb);
   }
 
   /**
@@ -123,7 +157,20 @@ public final class SQLUtility {
     if (yyyy_mm_dd == null) {
       return null;
     }
-    return new Date(CalendarUtils.parseDate(yyyy_mm_dd, timeZone).getTimeInMillis());
+    return DateTimes.parseDate(yyyy_mm_dd, 0, yyyy_mm_dd.length(), timeZone);
+  }
+
+  /**
+   * Parses a region of a {@link CharSequence} as a date.
+   * Canonical <code>YYYY-MM-DD</code> input is read directly, without any intermediate objects.
+   * Any other input falls back to {@link CalendarUtils#parseDate(java.lang.String, java.util.TimeZone)}.
+   *
+   * @param timeZone  The time zone to use or {@code null} to use the default time zone
+   *
+   * @see  CalendarUtils#parseDate(java.lang.String, java.util.TimeZone)
+   */
+  public static Date parseDate(CharSequence value, int offset, int length, TimeZone timeZone) throws IllegalArgumentException {
+    return DateTimes.parseDate(value, offset, length, timeZone);
   }
 
   /**
@@ -141,9 +188,50 @@ public final class SQLUtility {
    * @see  CalendarUtils#formatDateTime(java.util.Calendar)
    */
   public static String formatDateTime(long time, TimeZone timeZone) {
-    GregorianCalendar gcal = timeZone == null ? new GregorianCalendar() : new GregorianCalendar(timeZone);
-    gcal.setTimeInMillis(time);
-    return CalendarUtils.formatDateTime(gcal);
+    return DateTimes.format(DateTimes.Format.DATE_TIME, time, DateTimes.resolve(timeZone));
+  }
+
+  /**
+   * Formats a date and time, writing ASCII directly into the given buffer at its position, then advancing its position.
+   *
+   * @param timeZone  The time zone to use or {@code null} to use the default time zone
+   *
+   * @return  The number of bytes written
+   *
+   * @throws  BufferOverflowException  when the buffer does not have enough room, in which case nothing is written
+   *
+   * @see  CalendarUtils#formatDateTime(java.util.Calendar)
+   */
+  public static int formatDateTime(long time, TimeZone timeZone, ByteBuffer buf) throws BufferOverflowException {
+    return DateTimes.format(DateTimes.Format.DATE_TIME, time, DateTimes.resolve(timeZone), buf);
+  }
+
+  /**
+   * Formats a column of times into a column of new {@link String}.
+   * The time zone and its cache are resolved once for the whole batch.
+   *
+   * @param timeZone  The time zone to use or {@code null} to use the default time zone
+   *
+   * @throws  IndexOutOfBoundsException  when either range is out of bounds, in which case nothing is written
+   *
+   * @see  CalendarUtils#formatDateTime(java.util.Calendar)
+   */
+  public static void formatDateTime(long[] src, int srcOff, String[] dest, int destOff, int len, TimeZone timeZone) throws IndexOutOfBoundsException {
+    DateTimes.format(DateTimes.Format.DATE_TIME, src, srcOff, dest, destOff, len, DateTimes.resolve(timeZone));
+  }
+
+  /**
+   * Formats a column of times, appending directly to the given {@link StringBuilder} with a separator between each
+   * value.  The time zone and its cache are resolved once for the whole batch.
+   *
+   * @param timeZone  The time zone to use or {@code null} to use the default time zone
+   *
+   * @throws  IndexOutOfBoundsException  when the range is out of bounds, in which case nothing is written
+   *
+   * @see  CalendarUtils#formatDateTime(java.util.Calendar)
+   */
+  public static void formatDateTime(long[] src, int srcOff, int len, TimeZone timeZone, CharSequence separator, StringBuilder sb) throws IndexOutOfBoundsException {
+    DateTimes.format(DateTimes.Format.DATE_TIME, src, srcOff, len, DateTimes.resolve(timeZone), separator, sb);
   }
 
   /**
@@ -194,18 +282,118 @@ public final class SQLUtility {
     if (dateTime == null) {
       return null;
     }
-    return CalendarUtils.parseDateTime(
-        dateTime,
-        timeZone,
-        (GregorianCalendar gcal, int nanos) -> {
-          long millis = gcal.getTimeInMillis();
-          long seconds = millis / 1000;
-          if ((millis % 1000) < 0) {
-            seconds--;
-          }
-          return newTimestamp(seconds, nanos);
-        }
-    );
+    return DateTimes.parseDateTime(dateTime, 0, dateTime.length(), timeZone);
+  }
+
+  /**
+   * Parses a region of a {@link CharSequence} as a date and time.
+   * Canonical <code>YYYY-MM-DD HH:MM:SS[.fffffffff]</code> input is read directly, without any intermediate objects
+   * other than the resulting {@link Timestamp}.
+   * Any other input falls back to
+   * {@link CalendarUtils#parseDateTime(java.lang.String, java.util.TimeZone, com.aoapps.lang.util.CalendarUtils.DateTimeProducer)}.
+   *
+   * @param timeZone  The time zone to use or {@code null} to use the default time zone
+   *
+   * @see  CalendarUtils#parseDateTime(java.lang.String, java.util.TimeZone, com.aoapps.lang.util.CalendarUtils.DateTimeProducer)
+   */
+  public static Timestamp parseDateTime(CharSequence value, int offset, int length, TimeZone timeZone) throws IllegalArgumentException {
+    return DateTimes.parseDateTime(value, offset, length, timeZone);
+  }
+
+  /**
+   * Parses a region of an ASCII or UTF-8 encoded buffer as a date and time, without any charset decode.
+   * Canonical <code>YYYY-MM-DD HH:MM:SS[.fffffffff]</code> input is read directly, through a small view of the bytes,
+   * without any other intermediate objects than the resulting {@link Timestamp}.
+   *
+   * @param timeZone  The time zone to use or {@code null} to use the default time zone
+   *
+   * @see  #parseDateTime(java.lang.CharSequence, int, int, java.util.TimeZone)
+   */
+  public static Timestamp parseDateTime(byte[] buf, int offset, int length, TimeZone timeZone) throws IllegalArgumentException {
+    return parseDateTime(AsciiSequence.of(buf), offset, length, timeZone);
+  }
+
+  /**
+   * Parses a region of an ASCII or UTF-8 encoded buffer as a date and time, without any charset decode.
+   * Canonical <code>YYYY-MM-DD HH:MM:SS[.fffffffff]</code> input is read directly, through a small view of the bytes,
+   * without any other intermediate objects than the resulting {@link Timestamp}.
+   * The buffer may be heap or direct, including memory-mapped.
+   *
+   * @param  index  The absolute index of the first byte.  The position of the buffer is not used or changed.
+   * @param timeZone  The time zone to use or {@code null} to use the default time zone
+   *
+   * @see  #parseDateTime(java.lang.CharSequence, int, int, java.util.TimeZone)
+   */
+  public static Timestamp parseDateTime(ByteBuffer buf, int index, int length, TimeZone timeZone) throws IllegalArgumentException {
+    return parseDateTime(AsciiSequence.of(buf), index, length, timeZone);
+  }
+
+  /**
+   * Parses a column of dates and times into parallel arrays of seconds and nanoseconds, without any objects per
+   * canonical value.  A {@code null} value is an error.
+   *
+   * @param timeZone  The time zone to use or {@code null} to use the default time zone
+   * @param  errors  The destination index of each value that fails to parse is set, leaving its destinations unchanged
+   *
+   * @return  The number of errors
+   *
+   * @throws  IndexOutOfBoundsException  when either range is out of bounds, in which case nothing is parsed
+   *
+   * @see  #parseDateTime(java.lang.CharSequence, int, int, java.util.TimeZone)
+   */
+  public static int parseDateTime(CharSequence[] src, int srcOff, long[] seconds, int[] nanos, int destOff, int len, TimeZone timeZone, BitSet errors)
+      throws IndexOutOfBoundsException {
+    TimeZone tz = DateTimes.resolve(timeZone);
+    return Columns.parse(src, srcOff, destOff, Math.min(seconds.length, nanos.length), len, errors,
+        (value, offset, length, index) -> DateTimes.parseDateTime(value, offset, length, tz, seconds, nanos, index));
+  }
+
+  /**
+   * Parses each delimited field in a region of a buffer as a date and time, in order, into consecutive indexes of
+   * parallel arrays of seconds and nanoseconds, without any objects per canonical value.
+   * An empty region has no fields, otherwise there is one more field than the number of delimiters.
+   * An empty field is an error.
+   *
+   * @param timeZone  The time zone to use or {@code null} to use the default time zone
+   * @param  errors  The destination index of each field that fails to parse is set, leaving its destinations unchanged
+   *
+   * @return  The number of fields
+   *
+   * @throws  IndexOutOfBoundsException  when the region is out of bounds, or when the fields do not fit in the
+   *                                     destination, in which case the fields that fit have already been parsed
+   *
+   * @see  #parseDateTime(java.lang.CharSequence, int, int, java.util.TimeZone)
+   */
+  public static int parseDateTime(char[] buf, int off, int len, char delimiter, long[] seconds, int[] nanos, int destOff, TimeZone timeZone, BitSet errors)
+      throws IndexOutOfBoundsException {
+    TimeZone tz = DateTimes.resolve(timeZone);
+    return Columns.parse(CharBuffer.wrap(buf), off, len, delimiter, destOff, Math.min(seconds.length, nanos.length), errors,
+        (value, offset, length, index) -> DateTimes.parseDateTime(value, offset, length, tz, seconds, nanos, index));
+  }
+
+  /**
+   * Parses each delimited field in a region of an ASCII or UTF-8 encoded buffer as a date and time, in order, into
+   * consecutive indexes of parallel arrays of seconds and nanoseconds, without any charset decode or objects per
+   * canonical value.
+   * An empty region has no fields, otherwise there is one more field than the number of delimiters.
+   * An empty field is an error.
+   *
+   * @param  delimiter  The delimiter, which must be an ASCII character
+   * @param timeZone  The time zone to use or {@code null} to use the default time zone
+   * @param  errors  The destination index of each field that fails to parse is set, leaving its destinations unchanged
+   *
+   * @return  The number of fields
+   *
+   * @throws  IndexOutOfBoundsException  when the region is out of bounds, or when the fields do not fit in the
+   *                                     destination, in which case the fields that fit have already been parsed
+   *
+   * @see  #parseDateTime(java.lang.CharSequence, int, int, java.util.TimeZone)
+   */
+  public static int parseDateTime(byte[] buf, int off, int len, char delimiter, long[] seconds, int[] nanos, int destOff, TimeZone timeZone, BitSet errors)
+      throws IndexOutOfBoundsException {
+    TimeZone tz = DateTimes.resolve(timeZone);
+    return Columns.parse(AsciiSequence.of(buf), off, len, delimiter, destOff, Math.min(seconds.length, nanos.length), errors,
+        (value, offset, length, index) -> DateTimes.parseDateTime(value, offset, length, tz, seconds, nanos, index));
   }
 
   /**
@@ -221,9 +409,50 @@ public final class SQLUtility {
    * @see  CalendarUtils#formatTime(java.util.Calendar)
    */
   public static String formatTime(long time, TimeZone timeZone) {
-    GregorianCalendar gcal = timeZone == null ? new GregorianCalendar() : new GregorianCalendar(timeZone);
-    gcal.setTimeInMillis(time);
-    return CalendarUtils.formatTime(gcal);
+    return DateTimes.format(DateTimes.Format.TIME, time, DateTimes.resolve(timeZone));
+  }
+
+  /**
+   * Formats a time, writing ASCII directly into the given buffer at its position, then advancing its position.
+   *
+   * @param timeZone  The time zone to use or {@code null} to use the default time zone
+   *
+   * @return  The number of bytes written
+   *
+   * @throws  BufferOverflowException  when the buffer does not have enough room, in which case nothing is written
+   *
+   * @see  CalendarUtils#formatTime(java.util.Calendar)
+   */
+  public static int formatTime(long time, TimeZone timeZone, ByteBuffer buf) throws BufferOverflowException {
+    return DateTimes.format(DateTimes.Format.TIME, time, DateTimes.resolve(timeZone), buf);
+  }
+
+  /**
+   * Formats a column of times into a column of new {@link String}.
+   * The time zone and its cache are resolved once for the whole batch.
+   *
+   * @param timeZone  The time zone to use or {@code null} to use the default time zone
+   *
+   * @throws  IndexOutOfBoundsException  when either range is out of bounds, in which case nothing is written
+   *
+   * @see  CalendarUtils#formatTime(java.util.Calendar)
+   */
+  public static void formatTime(long[] src, int srcOff, String[] dest, int destOff, int len, TimeZone timeZone) throws IndexOutOfBoundsException {
+    DateTimes.format(DateTimes.Format.TIME, src, srcOff, dest, destOff, len, DateTimes.resolve(timeZone));
+  }
+
+  /**
+   * Formats a column of times, appending directly to the given {@link StringBuilder} with a separator between each
+   * value.  The time zone and its cache are resolved once for the whole batch.
+   *
+   * @param timeZone  The time zone to use or {@code null} to use the default time zone
+   *
+   * @throws  IndexOutOfBoundsException  when the range is out of bounds, in which case nothing is written
+   *
+   * @see  CalendarUtils#formatTime(java.util.Calendar)
+   */
+  public static void formatTime(long[] src, int srcOff, int len, TimeZone timeZone, CharSequence separator, StringBuilder sb) throws IndexOutOfBoundsException {
+    DateTimes.format(DateTimes.Format.TIME, src, srcOff, len, DateTimes.resolve(timeZone), separator, sb);
   }
 
   /**
@@ -265,553 +494,925 @@ public final class SQLUtility {
     return date == null ? null : formatTime(date.getTime());
   }
 
+  /**
+   * Gets the number of times {@link #formatDate(long, java.util.TimeZone)}, {@link #formatDateTime(long, java.util.TimeZone)},
+   * and {@link #formatTime(long, java.util.TimeZone)} found their day already cached, across all time zones.
+   * Each time zone caches a small number of recently used days, along with the day's pre-rendered date and its UTC
+   * offset.
+   *
+   * @see  #getDateCacheMisses()
+   */
+  public static long getDateCacheHits() {
+    return DayCache.getHits();
+  }
+
+  /**
+   * Gets the number of times {@link #formatDate(long, java.util.TimeZone)}, {@link #formatDateTime(long, java.util.TimeZone)},
+   * and {@link #formatTime(long, java.util.TimeZone)} did not find their day already cached, across all time zones.
+   * This includes days with an offset transition and years outside 1583 through 9999, which are never cached.
+   *
+   * @see  #getDateCacheHits()
+   */
+  public static long getDateCacheMisses() {
+    return DayCache.getMisses();
+  }
+
   /**
    * Converts a number of pennies into decimal representation.
    */
   public static String formatDecimal2(int pennies) {
-    StringBuilder sb = new StringBuilder(12);
-    if (pennies < 0) {
-      sb.append('-');
-      pennies = -pennies;
-    }
-    sb
-        .append(pennies / 100)
-        .append('.');
-    pennies %= 100;
-    if (pennies < 10) {
-      sb.append('0');
-    }
-    return sb
-        .append(pennies)
-        .toString();
+    return formatDecimal2((long) pennies);
   }
 
   /**
    * Converts a number of pennies into decimal representation.
    */
   public static String formatDecimal2(long pennies) {
-    StringBuilder sb = new StringBuilder(21);
-    if (pennies < 0) {
-      sb.append('-');
-      pennies = -pennies;
-    }
-    sb
-        .append(pennies / 100)
-        .append('.');
-    int i = (int) (pennies % 100);
-    if (i < 10) {
-      sb.append('0');
-    }
-    return sb
-        .append(i)
-        .toString();
+    return FixedPoint.format(pennies, 2);
   }
 
   /**
-   * Gets the number of pennies represented by a <code>String</code> containing a decimal(?,2) type.
+   * Converts a column of pennies into a column of decimal representations.
+   * A single working buffer is shared by the whole batch, so the only allocation per value is its {@link String}.
+   *
+   * @throws  IndexOutOfBoundsException  when either range is out of bounds, in which case nothing is written
    */
-  // TODO: Parse in a way with less/no internal string concatenation
-  public static int parseDecimal2(String decimal2) {
-    // Get the sign first, treat as negative, then apply the sign
-    boolean isNegative;
-    if (decimal2.length() > 0 && decimal2.charAt(0) == '-') {
-      isNegative = true;
-      decimal2 = decimal2.substring(1);
-    } else {
-      isNegative = false;
-    }
-
-    // Add zero to beginning if starts with .
-    if (decimal2.length() > 0 && decimal2.charAt(0) == '.') {
-      decimal2 = '0' + decimal2;
-    }
-
-    // Allow for incomplete data like 2, 2., and 2.3
-    if (decimal2.indexOf('.') == -1) {
-      decimal2 += ".00";
-    } else if (decimal2.charAt(decimal2.length() - 1) == '.') {
-      decimal2 += "00";
-    } else if (decimal2.length() >= 2 && decimal2.charAt(decimal2.length() - 2) == '.') {
-      decimal2 += '0';
-    }
-
-    int len = decimal2.length();
-    int dollars = Integer.parseInt(decimal2.substring(0, len - 3));
-    int pennies = Integer.parseInt(decimal2.substring(len - 2));
-    long result = (isNegative ? -1L : 1L) * (dollars * 100L + pennies);
-    if (result < Integer.MIN_VALUE || result > Integer.MAX_VALUE) {
-      throw new NumberFormatException("Out of range during conversion");
-    }
-    return (int) result;
+  public static void formatDecimal2(long[] src, int srcOff, String[] dest, int destOff, int len) throws IndexOutOfBoundsException {
+    FixedPoint.format(src, srcOff, dest, destOff, len, 2);
   }
 
   /**
-   * Gets the number of pennies represented by a <code>String</code> containing a decimal(?,2) type.
+   * Converts a column of pennies into a column of decimal representations.
+   * A single working buffer is shared by the whole batch, so the only allocation per value is its {@link String}.
+   *
+   * @throws  IndexOutOfBoundsException  when either range is out of bounds, in which case nothing is written
    */
-  // TODO: Parse in a way with less/no internal string concatenation
-  public static long parseLongDecimal2(String decimal2) {
-    // Get the sign first, treat as negative, then apply the sign
-    boolean isNegative;
-    if (decimal2.length() > 0 && decimal2.charAt(0) == '-') {
-      isNegative = true;
-      decimal2 = decimal2.substring(1);
-    } else {
-      isNegative = false;
-    }
-
-    // Add zero to beginning if starts with .
-    if (decimal2.length() > 0 && decimal2.charAt(0) == '.') {
-      decimal2 = '0' + decimal2;
-    }
-
-    // Allow for incomplete data like 2, 2., and 2.3
-    if (decimal2.indexOf('.') == -1) {
-      decimal2 += ".00";
-    } else if (decimal2.charAt(decimal2.length() - 1) == '.') {
-      decimal2 += "00";
-    } else if (decimal2.length() >= 2 && decimal2.charAt(decimal2.length() - 2) == '.') {
-      decimal2 += '0';
-    }
-
-    int len = decimal2.length();
-    long dollars = Long.parseLong(decimal2.substring(0, len - 3));
-    int pennies = Integer.parseInt(decimal2.substring(len - 2));
-    return (isNegative ? -1 : 1) * (dollars * 100 + pennies);
+  public static void formatDecimal2(int[] src, int srcOff, String[] dest, int destOff, int len) throws IndexOutOfBoundsException {
+    FixedPoint.format(src, srcOff, dest, destOff, len, 2);
   }
 
   /**
-   * Converts a number of millis into decimal representation.
+   * Converts a column of pennies into decimal representations, appending directly to the given {@link StringBuilder}
+   * with a separator between each value.  No {@link String} is created.
+   *
+   * @throws  IndexOutOfBoundsException  when the range is out of bounds, in which case nothing is written
    */
-  public static String formatDecimal3(int millis) {
-    StringBuilder sb = new StringBuilder(10);
-    if (millis < 0) {
-      sb.append('-');
-      millis = -millis;
-    }
-    sb
-        .append(millis / 1000)
-        .append('.');
-    millis %= 1000;
-    if (millis < 10) {
-      sb.append("00");
-    } else if (millis < 100) {
-      sb.append('0');
-    }
-    return sb
-        .append(millis)
-        .toString();
+  public static void formatDecimal2(long[] src, int srcOff, int len, CharSequence separator, StringBuilder sb) throws IndexOutOfBoundsException {
+    FixedPoint.format(src, srcOff, len, 2, separator, sb);
   }
 
   /**
-   * Converts a number of millis into decimal representation.
+   * Converts a column of pennies into decimal representations, appending directly to the given {@link StringBuilder}
+   * with a separator between each value.  No {@link String} is created.
+   *
+   * @throws  IndexOutOfBoundsException  when the range is out of bounds, in which case nothing is written
    */
-  public static String formatDecimal3(long millis) {
-    StringBuilder sb = new StringBuilder(10);
-    if (millis < 0) {
-      sb.append('-');
-      millis = -millis;
-    }
-    sb
-        .append(millis / 1000)
-        .append('.');
-    millis %= 1000;
-    if (millis < 10) {
-      sb.append("00");
-    } else if (millis < 100) {
-      sb.append('0');
-    }
-    return sb
-        .append(millis)
-        .toString();
+  public static void formatDecimal2(int[] src, int srcOff, int len, CharSequence separator, StringBuilder sb) throws IndexOutOfBoundsException {
+    FixedPoint.format(src, srcOff, len, 2, separator, sb);
   }
 
   /**
-   * Gets the number of millis represented by a <code>String</code> containing a decimal(?,3) type.
+   * Converts a number of pennies into decimal representation, appending directly to the given {@link Appendable}.
+   * No intermediate {@link String} is created.
+   *
+   * @return  The number of characters written
    */
-  // TODO: Parse in a way with less/no internal string concatenation
-  public static int parseDecimal3(String decimal3) {
-    // Get the sign first, treat as negative, then apply the sign
-    boolean isNegative;
-    if (decimal3.length() > 0 && decimal3.charAt(0) == '-') {
-      isNegative = true;
-      decimal3 = decimal3.substring(1);
-    } else {
-      isNegative = false;
-    }
-
-    // Add zero to beginning if starts with .
-    if (decimal3.length() > 0 && decimal3.charAt(0) == '.') {
-      decimal3 = '0' + decimal3;
-    }
-
-    // Allow for incomplete data like 2, 2., 2.3, and 2.34
-    if (decimal3.indexOf('.') == -1) {
-      decimal3 += ".000";
-    } else if (decimal3.charAt(decimal3.length() - 1) == '.') {
-      decimal3 += "000";
-    } else if (decimal3.length() >= 2 && decimal3.charAt(decimal3.length() - 2) == '.') {
-      decimal3 += "00";
-    } else if (decimal3.length() >= 3 && decimal3.charAt(decimal3.length() - 3) == '.') {
-      decimal3 += '0';
-    }
-
-    int len = decimal3.length();
-    int whole = Integer.parseInt(decimal3.substring(0, len - 4));
-    int millis = Integer.parseInt(decimal3.substring(len - 3));
-    long result = (isNegative ? -1L : 1L) * (whole * 1000L + millis);
-    if (result < Integer.MIN_VALUE || result > Integer.MAX_VALUE) {
-      throw new NumberFormatException("Out of range during conversion");
-    }
-    return (int) result;
+  public static int formatDecimal2(long pennies, Appendable out) throws IOException {
+    return FixedPoint.format(pennies, 2, out);
   }
 
   /**
-   * Gets the number of millis represented by a <code>String</code> containing a decimal(?,3) type.
+   * Converts a number of pennies into decimal representation, appending directly to the given {@link StringBuilder}.
+   * No intermediate {@link String} is created.
+   *
+   * @return  The number of characters written
    */
-  // TODO: Parse in a way with less/no internal string concatenation
-  public static long parseLongDecimal3(String decimal3) {
-    // Get the sign first, treat as negative, then apply the sign
-    boolean isNegative;
-    if (decimal3.length() > 0 && decimal3.charAt(0) == '-') {
-      isNegative = true;
-      decimal3 = decimal3.substring(1);
-    } else {
-      isNegative = false;
-    }
+  public static int formatDecimal2(long pennies, StringBuilder sb) {
+    return FixedPoint.format(pennies, 2, sb);
+  }
 
-    // Add zero to beginning if starts with .
-    if (decimal3.length() > 0 && decimal3.charAt(0) == '.') {
-      decimal3 = '0' + decimal3;
-    }
+  /**
+   * Converts a number of pennies into decimal representation, writing directly into the given buffer.
+   * At most {@value #MAX_DECIMAL_LENGTH} characters are written.
+   *
+   * @return  The number of characters written
+   *
+   * @throws  IndexOutOfBoundsException  when the buffer does not have enough room, in which case nothing is written
+   */
+  public static int formatDecimal2(long pennies, char[] buf, int offset) throws IndexOutOfBoundsException {
+    return FixedPoint.format(pennies, 2, buf, offset);
+  }
 
-    // Allow for incomplete data like 2, 2., 2.3, and 2.34
-    if (decimal3.indexOf('.') == -1) {
-      decimal3 += ".000";
-    } else if (decimal3.charAt(decimal3.length() - 1) == '.') {
-      decimal3 += "000";
-    } else if (decimal3.length() >= 2 && decimal3.charAt(decimal3.length() - 2) == '.') {
-      decimal3 += "00";
-    } else if (decimal3.length() >= 3 && decimal3.charAt(decimal3.length() - 3) == '.') {
-      decimal3 += '0';
-    }
+  /**
+   * Converts a number of pennies into decimal representation, writing ASCII directly into the given buffer.
+   * At most {@value #MAX_DECIMAL_LENGTH} bytes are written.
+   *
+   * @return  The number of bytes written
+   *
+   * @throws  IndexOutOfBoundsException  when the buffer does not have enough room, in which case nothing is written
+   */
+  public static int formatDecimal2(long pennies, byte[] buf, int offset) throws IndexOutOfBoundsException {
+    return FixedPoint.format(pennies, 2, buf, offset);
+  }
 
-    int len = decimal3.length();
-    long whole = Long.parseLong(decimal3.substring(0, len - 4));
-    int millis = Integer.parseInt(decimal3.substring(len - 3));
-    return (isNegative ? -1L : 1L) * (whole * 1000L + millis);
+  /**
+   * Converts a number of pennies into decimal representation, writing ASCII directly into the given buffer at its
+   * position, then advancing its position.
+   *
+   * @return  The number of bytes written
+   *
+   * @throws  BufferOverflowException  when the buffer does not have enough room, in which case nothing is written
+   */
+  public static int formatDecimal2(long pennies, ByteBuffer buf) throws BufferOverflowException {
+    return FixedPoint.format(pennies, 2, buf);
   }
 
-  private static final String EOL = System.lineSeparator();
+  /**
+   * Gets the number of pennies represented by a <code>String</code> containing a decimal(?,2) type.
+   *
+   * @see  #parseDecimal2(java.lang.CharSequence, int, int)
+   */
+  public static int parseDecimal2(String decimal2) throws NumberFormatException {
+    return parseDecimal2(decimal2, 0, decimal2.length());
+  }
 
   /**
-   * Gets the width for a string, handling newlines.
+   * Gets the number of pennies represented by a <code>CharSequence</code> containing a decimal(?,2) type.
+   *
+   * @see  #parseDecimal2(java.lang.CharSequence, int, int)
    */
-  private static int getWidth(String value) {
-    int widest = 0;
-    if (value != null) {
-      int width = 0;
-      for (int i = 0, len = value.length(), codePoint; i < len; i += Character.charCount(codePoint)) {
-        codePoint = value.codePointAt(i);
-        if (codePoint != '\r') {
-          if (codePoint == '\n') {
-            if (width > widest) {
-              widest = width;
-            }
-            width = 0;
-          } else {
-            width++;
-          }
-        }
-      }
-      if (width > widest) {
-        widest = width;
-      }
-    }
-    return widest;
-  }
-
-  /**
-   * Prints a single row of interactive output.
-   *
-   * @param  alignRights Will print all cells centered when this is {@code null} (used for header row)
-   */
-  private static void printRow(
-      Object[] row,
-      Appendable out,
-      boolean[] alignRights,
-      String[] toStrings,
-      int[] lineCounts,
-      int[] lineValueIndexes,
-      int[] widest
-  ) throws IOException {
-    int numCols = lineCounts.length;
-
-    // Figure out how many lines of output this row will be
-    int maxLineCount = 1;
-    for (int col = 0; col < numCols; col++) {
-      int lineCount = 1;
-      String toString = Objects.toString(row[col], null);
-      if (toString != null) {
-        for (int i = 0, len = toString.length(); i < len; i++) {
-          if (toString.charAt(i) == '\n') {
-            lineCount++;
-          }
-        }
-      }
-      toStrings[col] = toString;
-      lineCounts[col] = lineCount;
-      lineValueIndexes[col] = 0;
-      if (lineCount > maxLineCount) {
-        maxLineCount = lineCount;
-      }
-    }
+  public static int parseDecimal2(CharSequence decimal2) throws NumberFormatException {
+    return parseDecimal2(decimal2, 0, decimal2.length());
+  }
 
-    StringBuilder cell = new StringBuilder();
-    for (int line = 0; line < maxLineCount; line++) {
-      if (UNICODE_TABLES) {
-        out.append("│ ");
-      } else {
-        out.append(' ');
-      }
-      for (int col = 0; col < numCols; col++) {
-        int width = widest[col];
-        String toString = line < lineCounts[col] ? toStrings[col] : null;
-        int printed;
-        boolean cellNewline = false;
-        if (toString == null) {
-          printed = 0;
-        } else {
-          int toStringLen = toString.length();
-          if (toStringLen == 0) {
-            printed = 0;
-          } else {
-            // Print just this line of the output
-            int pos = lineValueIndexes[col];
-            cell.setLength(0);
-            int cellWidth = 0;
-            while (pos < toStringLen) {
-              int codePoint = toString.codePointAt(pos);
-              pos += Character.charCount(codePoint);
-              if (codePoint == '\r') {
-                // Skip
-              } else if (codePoint == '\n') {
-                cellNewline = true;
-                break;
-              } else {
-                cell.appendCodePoint(codePoint);
-                cellWidth++;
-              }
-            }
-            lineValueIndexes[col] = pos;
-            if (cellWidth == 0) {
-              printed = 0;
-            } else {
-              if (alignRights == null) {
-                // Print centered
-                int before = (width - cellWidth) / 2;
-                for (int d = 0; d < before; d++) {
-                  out.append(' ');
-                }
-                out.append(cell);
-                printed = before + cellWidth;
-              } else if (alignRights[col]) {
-                // Right align
-                for (int e = cellWidth; e < width; e++) {
-                  out.append(' ');
-                }
-                out.append(cell);
-                printed = width;
-              } else {
-                // Left align
-                out.append(cell);
-                printed = cellWidth;
-              }
-            }
-          }
-        }
-        boolean hasMoreColumns = col < (numCols - 1);
-        if (UNICODE_TABLES || hasMoreColumns) {
-          for (int e = printed; e < width; e++) {
-            out.append(' ');
-          }
-          out.append(UNICODE_TABLES && cellNewline ? '↵' : ' ');
-          out.append(UNICODE_TABLES ? '│' : (line < lineCounts[col + 1]) ? '|' : ' ');
-          if (hasMoreColumns) {
-            out.append(' ');
-          }
-        }
-      }
-      if (UNICODE_TABLES && numCols == 0) {
-        out.append(" │");
-      }
-      out.append(EOL);
-    }
+  /**
+   * Gets the number of pennies represented by a region of a <code>CharSequence</code> containing a decimal(?,2) type.
+   * Parses in a single pass without any intermediate objects.
+   *
+   * <p>Allows for incomplete data like <code>2</code>, <code>2.</code>, <code>2.3</code>, <code>.3</code>,
+   * and <code>-.5</code>.</p>
+   *
+   * @throws  NumberFormatException  when the value is not a valid decimal(?,2) or is out of range of an {@code int}
+   */
+  public static int parseDecimal2(CharSequence decimal2, int offset, int length) throws NumberFormatException {
+    return (int) FixedPoint.parse(decimal2, offset, length, 2, Integer.MIN_VALUE, Integer.MAX_VALUE);
   }
 
   /**
-   * Prints a table.
+   * Gets the number of pennies represented by a region of an ASCII or UTF-8 encoded buffer containing a decimal(?,2)
+   * type.  Parses in a single pass without any charset decode, through a small view of the bytes.
    *
-   * @param titles  Optional titles to display
+   * @throws  NumberFormatException  when the value is not a valid decimal(?,2) or is out of range of an {@code int}
    *
-   * @param rows  Iterated once in non-interactive mode.
-   *              Iterated twice in interactive mode (first to find widest columns, then to display output).
-   *              Must provide consistent output when iterated twice for interactive mode.
+   * @see  #parseDecimal2(java.lang.CharSequence, int, int)
    */
-  public static void printTable(Object[] titles, Iterable<? extends Object[]> rows, Appendable out, boolean isInteractive, boolean[] alignRights) throws IOException {
-    int numCols = alignRights.length;
-    if (titles != null && titles.length != numCols) {
-      throw new IllegalArgumentException("Wrong number of titles: " + titles.length + " != " + numCols);
-    }
-    if (isInteractive) {
-      // Find the widest for each column, taking the line wraps into account and skipping the '\r' characters
-      int[] widest = new int[numCols];
-      // Titles first
-      if (titles != null) {
-        for (int col = 0; col < numCols; col++) {
-          widest[col] = getWidth(Objects.toString(titles[col], null));
-        }
-      }
-      // Then rows
-      for (Object[] row : rows) {
-        if (row.length != numCols) {
-          throw new IllegalArgumentException("Wrong number of columns in row: " + row.length + " != " + numCols);
-        }
-        for (int col = 0; col < numCols; col++) {
-          int width = getWidth(Objects.toString(row[col], null));
-          if (width > widest[col]) {
-            widest[col] = width;
-          }
+  public static int parseDecimal2(byte[] buf, int offset, int length) throws NumberFormatException {
+    return parseDecimal2(AsciiSequence.of(buf), offset, length);
+  }
+
+  /**
+   * Gets the number of pennies represented by a region of an ASCII or UTF-8 encoded buffer containing a decimal(?,2)
+   * type.  Parses in a single pass without any charset decode, through a small view of the bytes.
+   * The buffer may be heap or direct, including memory-mapped.
+   *
+   * @param  index  The absolute index of the first byte.  The position of the buffer is not used or changed.
+   *
+   * @throws  NumberFormatException  when the value is not a valid decimal(?,2) or is out of range of an {@code int}
+   *
+   * @see  #parseDecimal2(java.lang.CharSequence, int, int)
+   */
+  public static int parseDecimal2(ByteBuffer buf, int index, int length) throws NumberFormatException {
+    return parseDecimal2(AsciiSequence.of(buf), index, length);
+  }
+
+  /**
+   * Parses a column of decimal(?,2) into pennies, without any objects per value.
+   * A {@code null} value is an error.
+   *
+   * @param  errors  The destination index of each value that fails to parse is set, leaving its destination unchanged
+   *
+   * @return  The number of errors
+   *
+   * @throws  IndexOutOfBoundsException  when either range is out of bounds, in which case nothing is parsed
+   *
+   * @see  #parseDecimal2(java.lang.CharSequence, int, int)
+   */
+  public static int parseDecimal2(CharSequence[] src, int srcOff, int[] dest, int destOff, int len, BitSet errors) throws IndexOutOfBoundsException {
+    return Columns.parse(src, srcOff, destOff, dest.length, len, errors,
+        (value, offset, length, index) -> dest[index] = (int) FixedPoint.parse(value, offset, length, 2, Integer.MIN_VALUE, Integer.MAX_VALUE));
+  }
+
+  /**
+   * Parses each delimited field in a region of a buffer as decimal(?,2) into pennies, in order, into consecutive destination indexes,
+   * without any objects per value.
+   * An empty region has no fields, otherwise there is one more field than the number of delimiters.
+   * An empty field is an error.
+   *
+   * @param  errors  The destination index of each field that fails to parse is set, leaving its destination unchanged
+   *
+   * @return  The number of fields
+   *
+   * @throws  IndexOutOfBoundsException  when the region is out of bounds, or when the fields do not fit in the
+   *                                     destination, in which case the fields that fit have already been parsed
+   *
+   * @see  #parseDecimal2(java.lang.CharSequence, int, int)
+   */
+  public static int parseDecimal2(char[] buf, int off, int len, char delimiter, int[] dest, int destOff, BitSet errors) throws IndexOutOfBoundsException {
+    return Columns.parse(CharBuffer.wrap(buf), off, len, delimiter, destOff, dest.length, errors,
+        (value, offset, length, index) -> dest[index] = (int) FixedPoint.parse(value, offset, length, 2, Integer.MIN_VALUE, Integer.MAX_VALUE));
+  }
+
+  /**
+   * Parses each delimited field in a region of an ASCII or UTF-8 encoded buffer as decimal(?,2) into pennies, in order, into consecutive
+   * destination indexes, without any charset decode or objects per value.
+   * An empty region has no fields, otherwise there is one more field than the number of delimiters.
+   * An empty field is an error.
+   *
+   * @param  delimiter  The delimiter, which must be an ASCII character
+   * @param  errors  The destination index of each field that fails to parse is set, leaving its destination unchanged
+   *
+   * @return  The number of fields
+   *
+   * @throws  IndexOutOfBoundsException  when the region is out of bounds, or when the fields do not fit in the
+   *                                     destination, in which case the fields that fit have already been parsed
+   *
+   * @see  #parseDecimal2(java.lang.CharSequence, int, int)
+   */
+  public static int parseDecimal2(byte[] buf, int off, int len, char delimiter, int[] dest, int destOff, BitSet errors) throws IndexOutOfBoundsException {
+    return Columns.parse(AsciiSequence.of(buf), off, len, delimiter, destOff, dest.length, errors,
+        (value, offset, length, index) -> dest[index] = (int) FixedPoint.parse(value, offset, length, 2, Integer.MIN_VALUE, Integer.MAX_VALUE));
+  }
+
+  /**
+   * Gets the number of pennies represented by a <code>String</code> containing a decimal(?,2) type.
+   *
+   * @see  #parseLongDecimal2(java.lang.CharSequence, int, int)
+   */
+  public static long parseLongDecimal2(String decimal2) throws NumberFormatException {
+    return parseLongDecimal2(decimal2, 0, decimal2.length());
+  }
+
+  /**
+   * Gets the number of pennies represented by a <code>CharSequence</code> containing a decimal(?,2) type.
+   *
+   * @see  #parseLongDecimal2(java.lang.CharSequence, int, int)
+   */
+  public static long parseLongDecimal2(CharSequence decimal2) throws NumberFormatException {
+    return parseLongDecimal2(decimal2, 0, decimal2.length());
+  }
+
+  /**
+   * Gets the number of pennies represented by a region of a <code>CharSequence</code> containing a decimal(?,2) type.
+   * Parses in a single pass without any intermediate objects.
+   *
+   * <p>Allows for incomplete data like <code>2</code>, <code>2.</code>, <code>2.3</code>, <code>.3</code>,
+   * and <code>-.5</code>.</p>
+   *
+   * @throws  NumberFormatException  when the value is not a valid decimal(?,2) or is out of range of a {@code long}
+   */
+  public static long parseLongDecimal2(CharSequence decimal2, int offset, int length) throws NumberFormatException {
+    return FixedPoint.parse(decimal2, offset, length, 2, Long.MIN_VALUE, Long.MAX_VALUE);
+  }
+
+  /**
+   * Gets the number of pennies represented by a region of an ASCII or UTF-8 encoded buffer containing a decimal(?,2)
+   * type.  Parses in a single pass without any charset decode, through a small view of the bytes.
+   *
+   * @throws  NumberFormatException  when the value is not a valid decimal(?,2) or is out of range of a {@code long}
+   *
+   * @see  #parseLongDecimal2(java.lang.CharSequence, int, int)
+   */
+  public static long parseLongDecimal2(byte[] buf, int offset, int length) throws NumberFormatException {
+    return parseLongDecimal2(AsciiSequence.of(buf), offset, length);
+  }
+
+  /**
+   * Gets the number of pennies represented by a region of an ASCII or UTF-8 encoded buffer containing a decimal(?,2)
+   * type.  Parses in a single pass without any charset decode, through a small view of the bytes.
+   * The buffer may be heap or direct, including memory-mapped.
+   *
+   * @param  index  The absolute index of the first byte.  The position of the buffer is not used or changed.
+   *
+   * @throws  NumberFormatException  when the value is not a valid decimal(?,2) or is out of range of a {@code long}
+   *
+   * @see  #parseLongDecimal2(java.lang.CharSequence, int, int)
+   */
+  public static long parseLongDecimal2(ByteBuffer buf, int index, int length) throws NumberFormatException {
+    return parseLongDecimal2(AsciiSequence.of(buf), index, length);
+  }
+
+  /**
+   * Parses a column of decimal(?,2) into pennies, without any objects per value.
+   * A {@code null} value is an error.
+   *
+   * @param  errors  The destination index of each value that fails to parse is set, leaving its destination unchanged
+   *
+   * @return  The number of errors
+   *
+   * @throws  IndexOutOfBoundsException  when either range is out of bounds, in which case nothing is parsed
+   *
+   * @see  #parseLongDecimal2(java.lang.CharSequence, int, int)
+   */
+  public static int parseLongDecimal2(CharSequence[] src, int srcOff, long[] dest, int destOff, int len, BitSet errors) throws IndexOutOfBoundsException {
+    return Columns.parse(src, srcOff, destOff, dest.length, len, errors,
+        (value, offset, length, index) -> dest[index] = FixedPoint.parse(value, offset, length, 2, Long.MIN_VALUE, Long.MAX_VALUE));
+  }
+
+  /**
+   * Parses each delimited field in a region of a buffer as decimal(?,2) into pennies, in order, into consecutive destination indexes,
+   * without any objects per value.
+   * An empty region has no fields, otherwise there is one more field than the number of delimiters.
+   * An empty field is an error.
+   *
+   * @param  errors  The destination index of each field that fails to parse is set, leaving its destination unchanged
+   *
+   * @return  The number of fields
+   *
+   * @throws  IndexOutOfBoundsException  when the region is out of bounds, or when the fields do not fit in the
+   *                                     destination, in which case the fields that fit have already been parsed
+   *
+   * @see  #parseLongDecimal2(java.lang.CharSequence, int, int)
+   */
+  public static int parseLongDecimal2(char[] buf, int off, int len, char delimiter, long[] dest, int destOff, BitSet errors) throws IndexOutOfBoundsException {
+    return Columns.parse(CharBuffer.wrap(buf), off, len, delimiter, destOff, dest.length, errors,
+        (value, offset, length, index) -> dest[index] = FixedPoint.parse(value, offset, length, 2, Long.MIN_VALUE, Long.MAX_VALUE));
+  }
+
+  /**
+   * Parses each delimited field in a region of an ASCII or UTF-8 encoded buffer as decimal(?,2) into pennies, in order, into consecutive
+   * destination indexes, without any charset decode or objects per value.
+   * An empty region has no fields, otherwise there is one more field than the number of delimiters.
+   * An empty field is an error.
+   *
+   * @param  delimiter  The delimiter, which must be an ASCII character
+   * @param  errors  The destination index of each field that fails to parse is set, leaving its destination unchanged
+   *
+   * @return  The number of fields
+   *
+   * @throws  IndexOutOfBoundsException  when the region is out of bounds, or when the fields do not fit in the
+   *                                     destination, in which case the fields that fit have already been parsed
+   *
+   * @see  #parseLongDecimal2(java.lang.CharSequence, int, int)
+   */
+  public static int parseLongDecimal2(byte[] buf, int off, int len, char delimiter, long[] dest, int destOff, BitSet errors) throws IndexOutOfBoundsException {
+    return Columns.parse(AsciiSequence.of(buf), off, len, delimiter, destOff, dest.length, errors,
+        (value, offset, length, index) -> dest[index] = FixedPoint.parse(value, offset, length, 2, Long.MIN_VALUE, Long.MAX_VALUE));
+  }
+
+  /**
+   * Converts a number of millis into decimal representation.
+   */
+  public static String formatDecimal3(int millis) {
+    return formatDecimal3((long) millis);
+  }
+
+  /**
+   * Converts a number of millis into decimal representation.
+   */
+  public static String formatDecimal3(long millis) {
+    return FixedPoint.format(millis, 3);
+  }
+
+  /**
+   * Converts a column of millis into a column of decimal representations.
+   * A single working buffer is shared by the whole batch, so the only allocation per value is its {@link String}.
+   *
+   * @throws  IndexOutOfBoundsException  when either range is out of bounds, in which case nothing is written
+   */
+  public static void formatDecimal3(long[] src, int srcOff, String[] dest, int destOff, int len) throws IndexOutOfBoundsException {
+    FixedPoint.format(src, srcOff, dest, destOff, len, 3);
+  }
+
+  /**
+   * Converts a column of millis into a column of decimal representations.
+   * A single working buffer is shared by the whole batch, so the only allocation per value is its {@link String}.
+   *
+   * @throws  IndexOutOfBoundsException  when either range is out of bounds, in which case nothing is written
+   */
+  public static void formatDecimal3(int[] src, int srcOff, String[] dest, int destOff, int len) throws IndexOutOfBoundsException {
+    FixedPoint.format(src, srcOff, dest, destOff, len, 3);
+  }
+
+  /**
+   * Converts a column of millis into decimal representations, appending directly to the given {@link StringBuilder}
+   * with a separator between each value.  No {@link String} is created.
+   *
+   * @throws  IndexOutOfBoundsException  when the range is out of bounds, in which case nothing is written
+   */
+  public static void formatDecimal3(long[] src, int srcOff, int len, CharSequence separator, StringBuilder sb) throws IndexOutOfBoundsException {
+    FixedPoint.format(src, srcOff, len, 3, separator, sb);
+  }
+
+  /**
+   * Converts a column of millis into decimal representations, appending directly to the given {@link StringBuilder}
+   * with a separator between each value.  No {@link String} is created.
+   *
+   * @throws  IndexOutOfBoundsException  when the range is out of bounds, in which case nothing is written
+   */
+  public static void formatDecimal3(int[] src, int srcOff, int len, CharSequence separator, StringBuilder sb) throws IndexOutOfBoundsException {
+    FixedPoint.format(src, srcOff, len, 3, separator, sb);
+  }
+
+  /**
+   * Converts a number of millis into decimal representation, appending directly to the given {@link Appendable}.
+   * No intermediate {@link String} is created.
+   *
+   * @return  The number of characters written
+   */
+  public static int formatDecimal3(long millis, Appendable out) throws IOException {
+    return FixedPoint.format(millis, 3, out);
+  }
+
+  /**
+   * Converts a number of millis into decimal representation, appending directly to the given {@link StringBuilder}.
+   * No intermediate {@link String} is created.
+   *
+   * @return  The number of characters written
+   */
+  public static int formatDecimal3(long millis, StringBuilder sb) {
+    return FixedPoint.format(millis, 3, sb);
+  }
+
+  /**
+   * Converts a number of millis into decimal representation, writing directly into the given buffer.
+   * At most {@value #MAX_DECIMAL_LENGTH} characters are written.
+   *
+   * @return  The number of characters written
+   *
+   * @throws  IndexOutOfBoundsException  when the buffer does not have enough room, in which case nothing is written
+   */
+  public static int formatDecimal3(long millis, char[] buf, int offset) throws IndexOutOfBoundsException {
+    return FixedPoint.format(millis, 3, buf, offset);
+  }
+
+  /**
+   * Converts a number of millis into decimal representation, writing ASCII directly into the given buffer.
+   * At most {@value #MAX_DECIMAL_LENGTH} bytes are written.
+   *
+   * @return  The number of bytes written
+   *
+   * @throws  IndexOutOfBoundsException  when the buffer does not have enough room, in which case nothing is written
+   */
+  public static int formatDecimal3(long millis, byte[] buf, int offset) throws IndexOutOfBoundsException {
+    return FixedPoint.format(millis, 3, buf, offset);
+  }
+
+  /**
+   * Converts a number of millis into decimal representation, writing ASCII directly into the given buffer at its
+   * position, then advancing its position.
+   *
+   * @return  The number of bytes written
+   *
+   * @throws  BufferOverflowException  when the buffer does not have enough room, in which case nothing is written
+   */
+  public static int formatDecimal3(long millis, ByteBuffer buf) throws BufferOverflowException {
+    return FixedPoint.format(millis, 3, buf);
+  }
+
+  /**
+   * Gets the number of millis represented by a <code>String</code> containing a decimal(?,3) type.
+   *
+   * @see  #parseDecimal3(java.lang.CharSequence, int, int)
+   */
+  public static int parseDecimal3(String decimal3) throws NumberFormatException {
+    return parseDecimal3(decimal3, 0, decimal3.length());
+  }
+
+  /**
+   * Gets the number of millis represented by a <code>CharSequence</code> containing a decimal(?,3) type.
+   *
+   * @see  #parseDecimal3(java.lang.CharSequence, int, int)
+   */
+  public static int parseDecimal3(CharSequence decimal3) throws NumberFormatException {
+    return parseDecimal3(decimal3, 0, decimal3.length());
+  }
+
+  /**
+   * Gets the number of millis represented by a region of a <code>CharSequence</code> containing a decimal(?,3) type.
+   * Parses in a single pass without any intermediate objects.
+   *
+   * <p>Allows for incomplete data like <code>2</code>, <code>2.</code>, <code>2.3</code>, <code>2.34</code>,
+   * <code>.3</code>, and <code>-.5</code>.</p>
+   *
+   * @throws  NumberFormatException  when the value is not a valid decimal(?,3) or is out of range of an {@code int}
+   */
+  public static int parseDecimal3(CharSequence decimal3, int offset, int length) throws NumberFormatException {
+    return (int) FixedPoint.parse(decimal3, offset, length, 3, Integer.MIN_VALUE, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Gets the number of millis represented by a region of an ASCII or UTF-8 encoded buffer containing a decimal(?,3)
+   * type.  Parses in a single pass without any charset decode, through a small view of the bytes.
+   *
+   * @throws  NumberFormatException  when the value is not a valid decimal(?,3) or is out of range of an {@code int}
+   *
+   * @see  #parseDecimal3(java.lang.CharSequence, int, int)
+   */
+  public static int parseDecimal3(byte[] buf, int offset, int length) throws NumberFormatException {
+    return parseDecimal3(AsciiSequence.of(buf), offset, length);
+  }
+
+  /**
+   * Gets the number of millis represented by a region of an ASCII or UTF-8 encoded buffer containing a decimal(?,3)
+   * type.  Parses in a single pass without any charset decode, through a small view of the bytes.
+   * The buffer may be heap or direct, including memory-mapped.
+   *
+   * @param  index  The absolute index of the first byte.  The position of the buffer is not used or changed.
+   *
+   * @throws  NumberFormatException  when the value is not a valid decimal(?,3) or is out of range of an {@code int}
+   *
+   * @see  #parseDecimal3(java.lang.CharSequence, int, int)
+   */
+  public static int parseDecimal3(ByteBuffer buf, int index, int length) throws NumberFormatException {
+    return parseDecimal3(AsciiSequence.of(buf), index, length);
+  }
+
+  /**
+   * Parses a column of decimal(?,3) into millis, without any objects per value.
+   * A {@code null} value is an error.
+   *
+   * @param  errors  The destination index of each value that fails to parse is set, leaving its destination unchanged
+   *
+   * @return  The number of errors
+   *
+   * @throws  IndexOutOfBoundsException  when either range is out of bounds, in which case nothing is parsed
+   *
+   * @see  #parseDecimal3(java.lang.CharSequence, int, int)
+   */
+  public static int parseDecimal3(CharSequence[] src, int srcOff, int[] dest, int destOff, int len, BitSet errors) throws IndexOutOfBoundsException {
+    return Columns.parse(src, srcOff, destOff, dest.length, len, errors,
+        (value, offset, length, index) -> dest[index] = (int) FixedPoint.parse(value, offset, length, 3, Integer.MIN_VALUE, Integer.MAX_VALUE));
+  }
+
+  /**
+   * Parses each delimited field in a region of a buffer as decimal(?,3) into millis, in order, into consecutive destination indexes,
+   * without any objects per value.
+   * An empty region has no fields, otherwise there is one more field than the number of delimiters.
+   * An empty field is an error.
+   *
+   * @param  errors  The destination index of each field that fails to parse is set, leaving its destination unchanged
+   *
+   * @return  The number of fields
+   *
+   * @throws  IndexOutOfBoundsException  when the region is out of bounds, or when the fields do not fit in the
+   *                                     destination, in which case the fields that fit have already been parsed
+   *
+   * @see  #parseDecimal3(java.lang.CharSequence, int, int)
+   */
+  public static int parseDecimal3(char[] buf, int off, int len, char delimiter, int[] dest, int destOff, BitSet errors) throws IndexOutOfBoundsException {
+    return Columns.parse(CharBuffer.wrap(buf), off, len, delimiter, destOff, dest.length, errors,
+        (value, offset, length, index) -> dest[index] = (int) FixedPoint.parse(value, offset, length, 3, Integer.MIN_VALUE, Integer.MAX_VALUE));
+  }
+
+  /**
+   * Parses each delimited field in a region of an ASCII or UTF-8 encoded buffer as decimal(?,3) into millis, in order, into consecutive
+   * destination indexes, without any charset decode or objects per value.
+   * An empty region has no fields, otherwise there is one more field than the number of delimiters.
+   * An empty field is an error.
+   *
+   * @param  delimiter  The delimiter, which must be an ASCII character
+   * @param  errors  The destination index of each field that fails to parse is set, leaving its destination unchanged
+   *
+   * @return  The number of fields
+   *
+   * @throws  IndexOutOfBoundsException  when the region is out of bounds, or when the fields do not fit in the
+   *                                     destination, in which case the fields that fit have already been parsed
+   *
+   * @see  #parseDecimal3(java.lang.CharSequence, int, int)
+   */
+  public static int parseDecimal3(byte[] buf, int off, int len, char delimiter, int[] dest, int destOff, BitSet errors) throws IndexOutOfBoundsException {
+    return Columns.parse(AsciiSequence.of(buf), off, len, delimiter, destOff, dest.length, errors,
+        (value, offset, length, index) -> dest[index] = (int) FixedPoint.parse(value, offset, length, 3, Integer.MIN_VALUE, Integer.MAX_VALUE));
+  }
+
+  /**
+   * Gets the number of millis represented by a <code>String</code> containing a decimal(?,3) type.
+   *
+   * @see  #parseLongDecimal3(java.lang.CharSequence, int, int)
+   */
+  public static long parseLongDecimal3(String decimal3) throws NumberFormatException {
+    return parseLongDecimal3(decimal3, 0, decimal3.length());
+  }
+
+  /**
+   * Gets the number of millis represented by a <code>CharSequence</code> containing a decimal(?,3) type.
+   *
+   * @see  #parseLongDecimal3(java.lang.CharSequence, int, int)
+   */
+  public static long parseLongDecimal3(CharSequence decimal3) throws NumberFormatException {
+    return parseLongDecimal3(decimal3, 0, decimal3.length());
+  }
+
+  /**
+   * Gets the number of millis represented by a region of a <code>CharSequence</code> containing a decimal(?,3) type.
+   * Parses in a single pass without any intermediate objects.
+   *
+   * <p>Allows for incomplete data like <code>2</code>, <code>2.</code>, <code>2.3</code>, <code>2.34</code>,
+   * <code>.3</code>, and <code>-.5</code>.</p>
+   *
+   * @throws  NumberFormatException  when the value is not a valid decimal(?,3) or is out of range of a {@code long}
+   */
+  public static long parseLongDecimal3(CharSequence decimal3, int offset, int length) throws NumberFormatException {
+    return FixedPoint.parse(decimal3, offset, length, 3, Long.MIN_VALUE, Long.MAX_VALUE);
+  }
+
+  /**
+   * Gets the number of millis represented by a region of an ASCII or UTF-8 encoded buffer containing a decimal(?,3)
+   * type.  Parses in a single pass without any charset decode, through a small view of the bytes.
+   *
+   * @throws  NumberFormatException  when the value is not a valid decimal(?,3) or is out of range of a {@code long}
+   *
+   * @see  #parseLongDecimal3(java.lang.CharSequence, int, int)
+   */
+  public static long parseLongDecimal3(byte[] buf, int offset, int length) throws NumberFormatException {
+    return parseLongDecimal3(AsciiSequence.of(buf), offset, length);
+  }
+
+  /**
+   * Gets the number of millis represented by a region of an ASCII or UTF-8 encoded buffer containing a decimal(?,3)
+   * type.  Parses in a single pass without any charset decode, through a small view of the bytes.
+   * The buffer may be heap or direct, including memory-mapped.
+   *
+   * @param  index  The absolute index of the first byte.  The position of the buffer is not used or changed.
+   *
+   * @throws  NumberFormatException  when the value is not a valid decimal(?,3) or is out of range of a {@code long}
+   *
+   * @see  #parseLongDecimal3(java.lang.CharSequence, int, int)
+   */
+  public static long parseLongDecimal3(ByteBuffer buf, int index, int length) throws NumberFormatException {
+    return parseLongDecimal3(AsciiSequence.of(buf), index, length);
+  }
+
+  /**
+   * Parses a column of decimal(?,3) into millis, without any objects per value.
+   * A {@code null} value is an error.
+   *
+   * @param  errors  The destination index of each value that fails to parse is set, leaving its destination unchanged
+   *
+   * @return  The number of errors
+   *
+   * @throws  IndexOutOfBoundsException  when either range is out of bounds, in which case nothing is parsed
+   *
+   * @see  #parseLongDecimal3(java.lang.CharSequence, int, int)
+   */
+  public static int parseLongDecimal3(CharSequence[] src, int srcOff, long[] dest, int destOff, int len, BitSet errors) throws IndexOutOfBoundsException {
+    return Columns.parse(src, srcOff, destOff, dest.length, len, errors,
+        (value, offset, length, index) -> dest[index] = FixedPoint.parse(value, offset, length, 3, Long.MIN_VALUE, Long.MAX_VALUE));
+  }
+
+  /**
+   * Parses each delimited field in a region of a buffer as decimal(?,3) into millis, in order, into consecutive destination indexes,
+   * without any objects per value.
+   * An empty region has no fields, otherwise there is one more field than the number of delimiters.
+   * An empty field is an error.
+   *
+   * @param  errors  The destination index of each field that fails to parse is set, leaving its destination unchanged
+   *
+   * @return  The number of fields
+   *
+   * @throws  IndexOutOfBoundsException  when the region is out of bounds, or when the fields do not fit in the
+   *                                     destination, in which case the fields that fit have already been parsed
+   *
+   * @see  #parseLongDecimal3(java.lang.CharSequence, int, int)
+   */
+  public static int parseLongDecimal3(char[] buf, int off, int len, char delimiter, long[] dest, int destOff, BitSet errors) throws IndexOutOfBoundsException {
+    return Columns.parse(CharBuffer.wrap(buf), off, len, delimiter, destOff, dest.length, errors,
+        (value, offset, length, index) -> dest[index] = FixedPoint.parse(value, offset, length, 3, Long.MIN_VALUE, Long.MAX_VALUE));
+  }
+
+  /**
+   * Parses each delimited field in a region of an ASCII or UTF-8 encoded buffer as decimal(?,3) into millis, in order, into consecutive
+   * destination indexes, without any charset decode or objects per value.
+   * An empty region has no fields, otherwise there is one more field than the number of delimiters.
+   * An empty field is an error.
+   *
+   * @param  delimiter  The delimiter, which must be an ASCII character
+   * @param  errors  The destination index of each field that fails to parse is set, leaving its destination unchanged
+   *
+   * @return  The number of fields
+   *
+   * @throws  IndexOutOfBoundsException  when the region is out of bounds, or when the fields do not fit in the
+   *                                     destination, in which case the fields that fit have already been parsed
+   *
+   * @see  #parseLongDecimal3(java.lang.CharSequence, int, int)
+   */
+  public static int parseLongDecimal3(byte[] buf, int off, int len, char delimiter, long[] dest, int destOff, BitSet errors) throws IndexOutOfBoundsException {
+    return Columns.parse(AsciiSequence.of(buf), off, len, delimiter, destOff, dest.length, errors,
+        (value, offset, length, index) -> dest[index] = FixedPoint.parse(value, offset, length, 3, Long.MIN_VALUE, Long.MAX_VALUE));
+  }
+
+  /**
+   * The maximum number of characters written by any of the decimal formatting methods.
+   *
+   * @see  FixedPoint#MAX_LENGTH
+   */
+  public static final int MAX_DECIMAL_LENGTH = FixedPoint.MAX_LENGTH;
+
+  /**
+   * Prints a single value of non-interactive output, in a way that can be read back in, using single quotes.
+   */
+  private static void printValue(CharSequence toString, Appendable out) throws IOException {
+    int len = toString.length();
+
+    boolean needsQuotes = len == 0; // Always quote the empty string
+    if (!needsQuotes) {
+      for (int e = 0; e < len; e++) {
+        char ch = toString.charAt(e);
+        if (ch <= ' ' || ch == '\\' || ch == '\'' || ch == '"') {
+          needsQuotes = true;
+          break;
         }
       }
+    }
 
-      // Arrays reused for each row
-      String[] toStrings = new String[numCols];
-      int[] lineCounts = new int[numCols];
-      int[] lineValueIndexes = new int[numCols];
-
-      if (UNICODE_TABLES) {
-        // Write top row
-        out.append("┌─");
-        for (int c = 0; c < numCols; c++) {
-          if (c > 0) {
-            out.append("─┬─");
-          }
-          int width = widest[c];
-          for (int d = 0; d < width; d++) {
-            out.append('─');
-          }
+    if (needsQuotes) {
+      out.append('\'');
+      for (int e = 0; e < len; e++) {
+        char ch = toString.charAt(e);
+        if (ch == '\'') {
+          out.append('\\');
         }
-        out.append("─┐");
-        out.append(EOL);
+        out.append(ch);
       }
-      // The title is printed centered in its place
-      if (titles != null) {
-        if (titles.length > 0) {
-          printRow(titles, out, null, toStrings, lineCounts, lineValueIndexes, widest);
-        }
+      out.append('\'');
+    } else {
+      out.append(toString);
+    }
+  }
 
-        if (UNICODE_TABLES || titles.length > 0) {
-          // Print the spacer line
-          if (UNICODE_TABLES) {
-            out.append("├─");
-          } else {
-            out.append('-');
-          }
-          for (int c = 0; c < numCols; c++) {
-            if (c > 0) {
-              out.append(UNICODE_TABLES ? "─┼─" : "-+-");
-            }
-            int width = widest[c];
-            for (int d = 0; d < width; d++) {
-              out.append(UNICODE_TABLES ? '─' : '-');
-            }
-          }
-          if (UNICODE_TABLES) {
-            out.append("─┤");
-          } else {
-            out.append('-');
-          }
-          out.append(EOL);
-        }
+  /**
+   * Prints a table.
+   *
+   * @param titles  Optional titles to display
+   *
+   * @param rows  Iterated once in non-interactive mode.
+   *              Iterated twice in interactive mode (first to find widest columns, then to display output).
+   *              Must provide consistent output when iterated twice for interactive mode.
+   *
+   * @see  #printTable(java.lang.Object[], java.lang.Iterable, java.lang.Appendable, boolean[], com.aoapps.sql.TableOptions)
+   */
+  public static void printTable(Object[] titles, Iterable<? extends Object[]> rows, Appendable out, boolean isInteractive, boolean[] alignRights) throws IOException {
+    if (isInteractive) {
+      printTable(titles, rows, out, alignRights, TableOptions.DEFAULT);
+    } else {
+      int numCols = alignRights.length;
+      if (titles != null && titles.length != numCols) {
+        throw new IllegalArgumentException("Wrong number of titles: " + titles.length + " != " + numCols);
       }
+      // This output simply prints stuff in a way that can be read back in, using single quotes
 
       // Print the values
-      int rowCount = 0;
       for (Object[] row : rows) {
         if (row.length != numCols) {
           throw new IllegalArgumentException("Wrong number of columns in row: " + row.length + " != " + numCols);
         }
-        rowCount++;
-        printRow(row, out, alignRights, toStrings, lineCounts, lineValueIndexes, widest);
-      }
-      if (UNICODE_TABLES) {
-        // Write bottom row
-        out.append("└─");
-        for (int c = 0; c < numCols; c++) {
-          if (c > 0) {
-            out.append("─┴─");
-          }
-          int width = widest[c];
-          for (int d = 0; d < width; d++) {
-            out.append('─');
+        for (int col = 0; col < numCols; col++) {
+          printValue(Objects.toString(row[col], ""), out);
+          if (col < (numCols - 1)) {
+            out.append(' ');
           }
         }
-        out.append("─┘");
-        out.append(EOL);
-      }
-      out.append("(");
-      out.append(rowCount == 0 ? "No" : Integer.toString(rowCount));
-      out.append(rowCount == 1 ? " row)" : " rows)");
-      out.append(EOL);
-      if (UNICODE_TABLES || rowCount > 0) {
-        out.append(EOL);
+        out.append(TableRenderer.EOL);
       }
+    }
+  }
+
+  /**
+   * Prints an interactive table with the given options.
+   *
+   * @param titles  Optional titles to display
+   *
+   * @param rows  Without a {@linkplain TableOptions#getWindow() window} or
+   *              {@linkplain TableOptions#isCacheCells() cached cells}, iterated twice (first to find widest columns,
+   *              then to display output) and must provide consistent output when iterated twice.  Otherwise iterated
+   *              once.  When {@linkplain TableOptions#isParallel() parallel} without a window, the widest columns
+   *              of a large {@link RandomAccess} {@link List} are found in parallel, so the
+   *              {@link Object#toString()} of its values must be thread-safe.
+   *
+   * @throws  IllegalArgumentException  when the number of titles or maximum widths does not match the number of
+   *                                    columns, or when a row has the wrong number of columns.  When windowed, rows
+   *                                    are only checked as they are read, so any earlier windows will have already
+   *                                    been printed.
+   */
+  public static void printTable(Object[] titles, Iterable<? extends Object[]> rows, Appendable out, boolean[] alignRights, TableOptions options) throws IOException {
+    TableRenderer table = options.newRenderer(titles, out, alignRights);
+    int window = options.getWindow();
+    if (window != 0) {
+      Iterator<? extends Object[]> iter = rows.iterator();
+      table.printWindowed(() -> iter.hasNext() ? table.toCells(iter.next()) : null, window);
     } else {
-      // This output simply prints stuff in a way that can be read back in, using single quotes
+      printTable(table, rows, options.isCacheCells());
+    }
+  }
 
+  /**
+   * Prints an interactive table, in two passes over the rows or, when caching cells, in one.
+   */
+  private static void printTable(TableRenderer table, Iterable<? extends Object[]> rows, boolean cacheCells) throws IOException {
+    if (cacheCells) {
+      // Convert and measure each cell once, keeping the cells until printed
+      List<TableRenderer.Cell[]> cached = table.measureCells(rows);
+      table.printHeader();
+      // Print the values, releasing each row once printed
+      for (int i = 0, size = cached.size(); i < size; i++) {
+        table.printRow(cached.set(i, null));
+      }
+      table.printFooter();
+      table.printRowCount(cached.size());
+      table.flush();
+    } else {
+      // Find the widest for each column
+      table.measure(rows);
+      table.printHeader();
       // Print the values
+      long rowCount = 0;
       for (Object[] row : rows) {
-        if (row.length != numCols) {
-          throw new IllegalArgumentException("Wrong number of columns in row: " + row.length + " != " + numCols);
-        }
-        for (int col = 0; col < numCols; col++) {
-          Object value = row[col];
-          String toString = Objects.toString(value, "");
-          int len = toString.length();
-
-          boolean needsQuotes = len == 0; // Always quote the empty string
-          if (!needsQuotes) {
-            for (int e = 0; e < len; e++) {
-              char ch = toString.charAt(e);
-              if (ch <= ' ' || ch == '\\' || ch == '\'' || ch == '"') {
-                needsQuotes = true;
-                break;
-              }
-            }
-          }
+        table.checkRow(row);
+        rowCount++;
+        table.printRow(row);
+      }
+      table.printFooter();
+      table.printRowCount(rowCount);
+      table.flush();
+    }
+  }
 
-          if (needsQuotes) {
-            out.append('\'');
-            for (int e = 0; e < len; e++) {
-              char ch = toString.charAt(e);
-              if (ch == '\'') {
-                out.append('\\');
-              }
-              out.append(ch);
-            }
-            out.append('\'');
-          } else {
-            out.append(toString);
-          }
+  /**
+   * The number of rows buffered to measure column widths when printing from a {@link ResultSet} without a
+   * {@linkplain TableOptions#getWindow() window}.
+   */
+  private static final int RESULT_SET_WINDOW = 1000;
+
+  /**
+   * Prints a table directly from the remaining rows of a {@link ResultSet}, without creating any row arrays.
+   * The column metadata is read once: the column labels are the titles, and numeric columns are aligned right.
+   *
+   * <p>Each value is formatted from the typed getter for its column type, through a reusable buffer.  Integer types
+   * are formatted from {@link ResultSet#getLong(int)} and timestamps by
+   * {@link #formatDateTime(long)} followed by any fractional seconds, without trailing zeros.  Other types use
+   * their usual string form.</p>
+   *
+   * <p>In interactive mode, the table is printed with the {@linkplain TableOptions#DEFAULT default options}, as by
+   * {@link #printTable(java.sql.ResultSet, java.lang.Appendable, com.aoapps.sql.TableOptions)}.</p>
+   */
+  public static void printTable(ResultSet results, Appendable out, boolean isInteractive) throws IOException, SQLException {
+    if (isInteractive) {
+      printTable(results, out, TableOptions.DEFAULT);
+    } else {
+      ResultSetTable table = new ResultSetTable(results);
+      int numCols = table.getColumnCount();
+      StringBuilder value = new StringBuilder();
+      while (results.next()) {
+        for (int col = 0; col < numCols; col++) {
+          value.setLength(0);
+          table.appendValue(col, value);
+          printValue(value, out);
           if (col < (numCols - 1)) {
             out.append(' ');
           }
         }
-        out.append(EOL);
+        out.append(TableRenderer.EOL);
       }
     }
   }
 
+  /**
+   * Prints an interactive table with the given options directly from the remaining rows of a {@link ResultSet},
+   * without creating any row arrays, formatted as by
+   * {@link #printTable(java.sql.ResultSet, java.lang.Appendable, boolean)}.
+   *
+   * <p>Since the rows may only be read once, the table is always printed in a single pass, buffering a
+   * {@linkplain TableOptions#getWindow() window} of rows at a time to measure the column widths, or 1000 rows when
+   * the options have no window.</p>
+   *
+   * @throws  IllegalArgumentException  when the number of maximum widths does not match the number of columns
+   */
+  public static void printTable(ResultSet results, Appendable out, TableOptions options) throws IOException, SQLException {
+    int window = options.getWindow();
+    if (window == 0) {
+      window = RESULT_SET_WINDOW;
+    }
+    ResultSetTable table = new ResultSetTable(results);
+    TableRenderer renderer = options.newRenderer(table.getTitles(), out, table.getAlignRights());
+    renderer.printWindowed(() -> results.next() ? table.toCells(renderer) : null, window);
+  }
+
+  /**
+   * Prints a table in a machine-readable format, in a single pass over the rows.
+   * The output may be read back with {@link TableFormat#readRow(java.io.PushbackReader)}.
+   *
+   * @param titles  Optional titles, written as the first row or, for {@link TableFormat#NDJSON}, as the keys of each
+   *                row
+   *
+   * @param rows  Iterated once
+   *
+   * @throws  IllegalArgumentException  when a row has a different number of columns than the titles or, without
+   *                                    titles, than the first row
+   */
+  public static void printTable(Object[] titles, Iterable<? extends Object[]> rows, Appendable out, TableFormat format) throws IOException {
+    format.print(titles, rows, out);
+  }
+
   /**
    * @param values  One element for each row and column
    *
@@ -0,0 +1,540 @@
+/*
+ * ao-sql - SQL and JDBC utilities.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql.
+ *
+ * ao-sql is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql;
+
+import java.io.IOException;
+import java.io.PushbackReader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Machine-readable output formats for {@link SQLUtility#printTable(java.lang.Object[], java.lang.Iterable, java.lang.Appendable, com.aoapps.sql.TableFormat)},
+ * each with a matching {@link #readRow(java.io.PushbackReader)}.
+ *
+ * <p>Each format is written in a single pass over the rows, through a reusable buffer, without any intermediate
+ * objects for values that need no escaping.  Lines are always terminated by <code>\n</code>, except CSV which uses
+ * <code>\r\n</code> as specified by RFC 4180, so the output does not depend on the platform.</p>
+ *
+ * <p>A table with no columns cannot be read back, since its rows are indistinguishable from a single {@code null}
+ * column.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public enum TableFormat {
+
+  /**
+   * Comma-separated values, as specified by RFC 4180.  The titles, when provided, are the first row.
+   *
+   * <p>A value is quoted when it is empty or contains a comma, double quote, carriage return, or line feed, with each
+   * double quote doubled.  A {@code null} is an empty, unquoted field, so {@code null} and the empty string are
+   * distinct when read back.</p>
+   */
+  CSV {
+    @Override
+    void printTitles(Object[] titles, AppendBuffer out) throws IOException {
+      printRow(null, titles, out);
+    }
+
+    @Override
+    void printRow(Object[] titles, Object[] row, AppendBuffer out) throws IOException {
+      for (int col = 0; col < row.length; col++) {
+        if (col > 0) {
+          out.append(',');
+        }
+        String value = Objects.toString(row[col], null);
+        if (value != null) {
+          int len = value.length();
+          boolean needsQuotes = len == 0; // Always quote the empty string
+          for (int i = 0; i < len && !needsQuotes; i++) {
+            char ch = value.charAt(i);
+            needsQuotes = ch == ',' || ch == '"' || ch == '\r' || ch == '\n';
+          }
+          if (needsQuotes) {
+            out.append('"');
+            int start = 0;
+            for (int i = 0; i < len; i++) {
+              if (value.charAt(i) == '"') {
+                out.append(value, start, i + 1);
+                out.append('"');
+                start = i + 1;
+              }
+            }
+            out.append(value, start, len);
+            out.append('"');
+          } else {
+            out.append(value);
+          }
+        }
+      }
+      out.append("\r\n");
+    }
+
+    @Override
+    public String[] readRow(PushbackReader in) throws IOException {
+      int ch = in.read();
+      if (ch == -1) {
+        return null;
+      }
+      List<String> fields = new ArrayList<>();
+      StringBuilder field = new StringBuilder();
+      while (true) {
+        if (ch == '"') {
+          // Quoted field
+          field.setLength(0);
+          while (true) {
+            ch = in.read();
+            if (ch == -1) {
+              throw new IOException("Unterminated quoted CSV field");
+            }
+            if (ch == '"') {
+              ch = in.read();
+              if (ch != '"') {
+                break;
+              }
+            }
+            field.append((char) ch);
+          }
+          fields.add(field.toString());
+          if (ch != ',' && ch != '\r' && ch != '\n' && ch != -1) {
+            throw new IOException("Unexpected character after quoted CSV field: " + (char) ch);
+          }
+        } else {
+          // Unquoted field, empty for null
+          field.setLength(0);
+          while (ch != ',' && ch != '\r' && ch != '\n' && ch != -1) {
+            field.append((char) ch);
+            ch = in.read();
+          }
+          fields.add(field.length() == 0 ? null : field.toString());
+        }
+        if (ch == ',') {
+          ch = in.read();
+        } else {
+          if (ch == '\r') {
+            int next = in.read();
+            if (next != '\n' && next != -1) {
+              in.unread(next);
+            }
+          }
+          return fields.toArray(new String[fields.size()]);
+        }
+      }
+    }
+  },
+
+  /**
+   * Tab-separated values, one row per line.  The titles, when provided, are the first row.
+   *
+   * <p>Backslash, tab, carriage return, and line feed are escaped as <code>\\</code>, <code>\t</code>,
+   * <code>\r</code>, and <code>\n</code>.  A {@code null} is written as <code>\N</code>.  This is the same as the
+   * text format of PostgreSQL <code>COPY</code>.</p>
+   */
+  TSV {
+    @Override
+    void printTitles(Object[] titles, AppendBuffer out) throws IOException {
+      printRow(null, titles, out);
+    }
+
+    @Override
+    void printRow(Object[] titles, Object[] row, AppendBuffer out) throws IOException {
+      for (int col = 0; col < row.length; col++) {
+        if (col > 0) {
+          out.append('\t');
+        }
+        String value = Objects.toString(row[col], null);
+        if (value == null) {
+          out.append("\\N");
+        } else {
+          int start = 0;
+          for (int i = 0, len = value.length(); i < len; i++) {
+            char escape;
+            switch (value.charAt(i)) {
+              case '\\':
+                escape = '\\';
+                break;
+              case '\t':
+                escape = 't';
+                break;
+              case '\r':
+                escape = 'r';
+                break;
+              case '\n':
+                escape = 'n';
+                break;
+              default:
+                continue;
+            }
+            out.append(value, start, i);
+            out.append('\\');
+            out.append(escape);
+            start = i + 1;
+          }
+          out.append(value, start, value.length());
+        }
+      }
+      out.append('\n');
+    }
+
+    @Override
+    public String[] readRow(PushbackReader in) throws IOException {
+      int ch = in.read();
+      if (ch == -1) {
+        return null;
+      }
+      List<String> fields = new ArrayList<>();
+      StringBuilder field = new StringBuilder();
+      boolean isNull = false;
+      while (true) {
+        if (ch == '\t' || ch == '\n' || ch == -1) {
+          fields.add(isNull ? null : field.toString());
+          if (ch != '\t') {
+            return fields.toArray(new String[fields.size()]);
+          }
+          field.setLength(0);
+          isNull = false;
+        } else if (ch == '\r') {
+          // A \r\n line ending, since the \r of any value is escaped
+          int next = in.read();
+          if (next == '\n' || next == -1) {
+            ch = '\n';
+            continue;
+          }
+          in.unread(next);
+          field.append('\r');
+        } else if (ch == '\\') {
+          int escaped = in.read();
+          switch (escaped) {
+            case 't':
+              field.append('\t');
+              break;
+            case 'r':
+              field.append('\r');
+              break;
+            case 'n':
+              field.append('\n');
+              break;
+            case 'N':
+              isNull = true;
+              break;
+            case -1:
+              throw new IOException("Incomplete TSV escape at end of input");
+            default:
+              field.append((char) escaped);
+          }
+        } else {
+          field.append((char) ch);
+        }
+        ch = in.read();
+      }
+    }
+  },
+
+  /**
+   * Newline-delimited JSON, one JSON value per line.  Each row is an object with the titles as keys or, when there
+   * are no titles, an array.
+   *
+   * <p>A {@link Boolean} or finite {@link Number} of the standard integer or decimal types is written as a JSON
+   * literal.  A {@code null} is written as <code>null</code>, and everything else is written as a JSON string.</p>
+   *
+   * <p>When read back, each value is the text of its JSON string or literal, or {@code null} for <code>null</code>.
+   * The keys of an object are not returned, only its values in order.</p>
+   */
+  NDJSON {
+    @Override
+    void printTitles(Object[] titles, AppendBuffer out) {
+      // The titles are the keys of each row
+    }
+
+    @Override
+    void printRow(Object[] titles, Object[] row, AppendBuffer out) throws IOException {
+      out.append(titles == null ? '[' : '{');
+      for (int col = 0; col < row.length; col++) {
+        if (col > 0) {
+          out.append(',');
+        }
+        if (titles != null) {
+          appendJsonString(Objects.toString(titles[col]), out);
+          out.append(':');
+        }
+        Object value = row[col];
+        if (value == null) {
+          out.append("null");
+        } else if (isJsonLiteral(value)) {
+          out.append(value.toString());
+        } else {
+          appendJsonString(value.toString(), out);
+        }
+      }
+      out.append(titles == null ? ']' : '}');
+      out.append('\n');
+    }
+
+    @Override
+    public String[] readRow(PushbackReader in) throws IOException {
+      int ch = skipWhitespace(in);
+      if (ch == -1) {
+        return null;
+      }
+      boolean isObject;
+      if (ch == '{') {
+        isObject = true;
+      } else if (ch == '[') {
+        isObject = false;
+      } else {
+        throw new IOException("Expected JSON object or array: " + (char) ch);
+      }
+      int close = isObject ? '}' : ']';
+      List<String> values = new ArrayList<>();
+      StringBuilder sb = new StringBuilder();
+      ch = skipWhitespace(in);
+      if (ch != close) {
+        while (true) {
+          if (isObject) {
+            if (ch != '"') {
+              throw new IOException("Expected JSON key");
+            }
+            readJsonString(in, sb);
+            if (skipWhitespace(in) != ':') {
+              throw new IOException("Expected ':' after JSON key");
+            }
+            ch = skipWhitespace(in);
+          }
+          if (ch == '"') {
+            values.add(readJsonString(in, sb));
+          } else {
+            // A literal
+            sb.setLength(0);
+            while (ch != -1 && ch != ',' && ch != close && ch > ' ') {
+              if (ch == '{' || ch == '[' || ch == '"') {
+                throw new IOException("Nested JSON values are not supported");
+              }
+              sb.append((char) ch);
+              ch = in.read();
+            }
+            if (ch != -1) {
+              in.unread(ch);
+            }
+            String literal = sb.toString();
+            if (literal.isEmpty()) {
+              throw new IOException("Expected JSON value");
+            }
+            values.add("null".equals(literal) ? null : literal);
+          }
+          ch = skipWhitespace(in);
+          if (ch == close) {
+            break;
+          }
+          if (ch != ',') {
+            throw new IOException("Expected ',' or '" + (char) close + "' in JSON " + (isObject ? "object" : "array"));
+          }
+          ch = skipWhitespace(in);
+        }
+      }
+      // The rest of the line
+      ch = in.read();
+      while (ch == ' ' || ch == '\t' || ch == '\r') {
+        ch = in.read();
+      }
+      if (ch != '\n' && ch != -1) {
+        throw new IOException("Expected end of line after JSON value");
+      }
+      return values.toArray(new String[values.size()]);
+    }
+  };
+
+  /**
+   * Prints a table in this format.
+   *
+   * @param titles  Optional titles to display
+   *
+   * @throws  IllegalArgumentException  when a row has a different number of columns than the titles or, without
+   *                                    titles, than the first row
+   */
+  void print(Object[] titles, Iterable<? extends Object[]> rows, Appendable out) throws IOException {
+    AppendBuffer buffer = new AppendBuffer(out);
+    int numCols = -1;
+    if (titles != null) {
+      numCols = titles.length;
+      printTitles(titles, buffer);
+    }
+    for (Object[] row : rows) {
+      if (numCols == -1) {
+        numCols = row.length;
+      } else if (row.length != numCols) {
+        buffer.flush();
+        throw new IllegalArgumentException("Wrong number of columns in row: " + row.length + " != " + numCols);
+      }
+      printRow(titles, row, buffer);
+    }
+    buffer.flush();
+  }
+
+  abstract void printTitles(Object[] titles, AppendBuffer out) throws IOException;
+
+  /**
+   * @param titles  Optional titles, only used by formats that repeat them in each row
+   */
+  abstract void printRow(Object[] titles, Object[] row, AppendBuffer out) throws IOException;
+
+  /**
+   * Reads the next row in this format.
+   *
+   * @param  in  The reader, which must allow at least one character to be unread
+   *
+   * @return  The values of the row, with {@code null} for each {@code null} value, or {@code null} at the end of input
+   *
+   * @throws  IOException  when the input is malformed
+   */
+  public abstract String[] readRow(PushbackReader in) throws IOException;
+
+  private static boolean isJsonLiteral(Object value) {
+    if (
+        value instanceof Boolean
+            || value instanceof Integer
+            || value instanceof Long
+            || value instanceof Short
+            || value instanceof Byte
+            || value instanceof BigInteger
+            || value instanceof BigDecimal
+    ) {
+      return true;
+    }
+    if (value instanceof Double) {
+      return Double.isFinite((Double) value);
+    }
+    if (value instanceof Float) {
+      return Float.isFinite((Float) value);
+    }
+    return false;
+  }
+
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+  private static void appendJsonString(String value, AppendBuffer out) throws IOException {
+    out.append('"');
+    int start = 0;
+    for (int i = 0, len = value.length(); i < len; i++) {
+      char ch = value.charAt(i);
+      if (ch < ' ' || ch == '"' || ch == '\\') {
+        out.append(value, start, i);
+        out.append('\\');
+        switch (ch) {
+          case '"':
+          case '\\':
+            out.append(ch);
+            break;
+          case '\n':
+            out.append('n');
+            break;
+          case '\r':
+            out.append('r');
+            break;
+          case '\t':
+            out.append('t');
+            break;
+          case '\b':
+            out.append('b');
+            break;
+          case '\f':
+            out.append('f');
+            break;
+          default:
+            out.append("u00");
+            out.append(HEX[ch >>> 4]);
+            out.append(HEX[ch & 0xF]);
+        }
+        start = i + 1;
+      }
+    }
+    out.append(value, start, value.length());
+    out.append('"');
+  }
+
+  private static int skipWhitespace(PushbackReader in) throws IOException {
+    int ch;
+    do {
+      ch = in.read();
+    } while (ch == ' ' || ch == '\t' || ch == '\r' || ch == '\n');
+    return ch;
+  }
+
+  /**
+   * Reads a JSON string, after its opening quote.
+   */
+  private static String readJsonString(PushbackReader in, StringBuilder sb) throws IOException {
+    sb.setLength(0);
+    while (true) {
+      int ch = in.read();
+      if (ch == -1) {
+        throw new IOException("Unterminated JSON string");
+      }
+      if (ch == '"') {
+        return sb.toString();
+      }
+      if (ch == '\\') {
+        ch = in.read();
+        switch (ch) {
+          case '"':
+          case '\\':
+          case '/':
+            sb.append((char) ch);
+            break;
+          case 'n':
+            sb.append('\n');
+            break;
+          case 'r':
+            sb.append('\r');
+            break;
+          case 't':
+            sb.append('\t');
+            break;
+          case 'b':
+            sb.append('\b');
+            break;
+          case 'f':
+            sb.append('\f');
+            break;
+          case 'u':
+            int code = 0;
+            for (int i = 0; i < 4; i++) {
+              int digit = Character.digit(in.read(), 16);
+              if (digit == -1) {
+                throw new IOException("Invalid JSON unicode escape");
+              }
+              code = (code << 4) | digit;
+            }
+            sb.append((char) code);
+            break;
+          default:
+            throw new IOException("Invalid JSON escape");
+        }
+      } else {
+        sb.append((char) ch);
+      }
+    }
+  }
+}
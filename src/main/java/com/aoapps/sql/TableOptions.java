@@ -0,0 +1,245 @@
+/*
+ * ao-sql - SQL and JDBC utilities.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql.
+ *
+ * ao-sql is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql;
+
+/**
+ * The options of an interactive table printed by
+ * {@link SQLUtility#printTable(java.lang.Object[], java.lang.Iterable, java.lang.Appendable, boolean[], com.aoapps.sql.TableOptions)},
+ * {@link SQLUtility#printTable(java.sql.ResultSet, java.lang.Appendable, com.aoapps.sql.TableOptions)}, or
+ * {@link TablePager}.  Options are created by a {@link Builder}, and any combination of options may be used together.
+ *
+ * <p>This class is immutable and thread-safe.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public final class TableOptions {
+
+  /**
+   * The default options: {@link TableStyle#UNICODE}, without maximum column widths, printed sequentially in two
+   * passes over the rows.
+   */
+  public static final TableOptions DEFAULT = builder().build();
+
+  /**
+   * Creates a new builder, starting from the default options.
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Builds {@link TableOptions}.  This class is not thread-safe.
+   */
+  public static final class Builder {
+
+    private TableStyle style = TableStyle.UNICODE;
+    private int[] maxWidths;
+    private boolean wrap;
+    private int window;
+    private boolean cacheCells;
+    private boolean parallel;
+
+    private Builder() {
+      // Created by builder()
+    }
+
+    /**
+     * Sets the border style, which defaults to {@link TableStyle#UNICODE}.
+     */
+    public Builder style(TableStyle style) {
+      if (style == null) {
+        throw new IllegalArgumentException("style == null");
+      }
+      this.style = style;
+      return this;
+    }
+
+    /**
+     * Sets a maximum width for each column, so that a single huge value does not widen its whole column and every
+     * row with it.  The output is then proportional to the content of the table instead of to the number of rows
+     * times its widest values.
+     *
+     * <p>Each line wider than its column is either truncated, ending with "…", or {@linkplain #wrap(boolean) wrapped}
+     * onto as many lines as needed.  Titles are fit the same as values.</p>
+     *
+     * @param maxWidths  The maximum width of each column, or {@code 0} for no maximum, which must match the number
+     *                   of columns when printed.  {@code null} (the default) for no maximum widths.
+     *
+     * @throws  IllegalArgumentException  when a maximum width is negative or is {@code 1}
+     */
+    public Builder maxWidths(int... maxWidths) {
+      if (maxWidths != null) {
+        maxWidths = maxWidths.clone();
+        for (int col = 0; col < maxWidths.length; col++) {
+          int maxWidth = maxWidths[col];
+          if (maxWidth != 0 && maxWidth < 2) {
+            throw new IllegalArgumentException("maxWidths[" + col + "] < 2: " + maxWidth);
+          }
+        }
+      }
+      this.maxWidths = maxWidths;
+      return this;
+    }
+
+    /**
+     * Sets whether lines wider than their {@linkplain #maxWidths(int...) maximum width} are wrapped, breaking after
+     * a space where possible, instead of truncated.  A wrapped line is followed by "…" in place of the "↵" that
+     * follows a newline.  Defaults to {@code false}.
+     */
+    public Builder wrap(boolean wrap) {
+      this.wrap = wrap;
+      return this;
+    }
+
+    /**
+     * Sets the number of rows buffered to measure column widths, printing the table in a single pass over the rows.
+     * Memory use is bounded by the window instead of by the number of rows, and the first rows are printed as soon
+     * as the first window is read.
+     *
+     * <p>Each window of rows is converted to strings and measured once, then printed.  Column widths only grow: when
+     * a window does not fit the current widths, the current table is closed and a new table is started, with its
+     * titles repeated, at the wider widths.  The row count is of all rows.  When the output is
+     * {@link java.io.Flushable}, it is flushed after each window.</p>
+     *
+     * @param window  The maximum number of rows buffered, or {@code 0} (the default) to measure all rows before
+     *                printing any
+     *
+     * @throws  IllegalArgumentException  when {@code window < 0}
+     */
+    public Builder window(int window) {
+      if (window < 0) {
+        throw new IllegalArgumentException("window < 0: " + window);
+      }
+      this.window = window;
+      return this;
+    }
+
+    /**
+     * Sets whether each cell is converted to a string and measured only once, keeping the results from the width
+     * pass until each row is printed, then releasing the row.  This avoids the second iteration and conversion of
+     * every value, at the cost of holding every cell of the table in memory until printed.  Defaults to
+     * {@code false}.
+     *
+     * <p>A {@linkplain #window(int) window} always caches its cells, so this only applies without a window.</p>
+     */
+    public Builder cacheCells(boolean cacheCells) {
+      this.cacheCells = cacheCells;
+      return this;
+    }
+
+    /**
+     * Sets whether the column widths of a {@link java.util.RandomAccess} {@link java.util.List} of at least 10,000
+     * rows are measured in parallel, in the {@linkplain java.util.concurrent.ForkJoinPool#commonPool() common pool}.
+     * Rendering is always sequential.  Defaults to {@code false}.
+     *
+     * <p>The {@link Object#toString()} of each value must then be thread-safe.  This only applies without a
+     * {@linkplain #window(int) window}.</p>
+     */
+    public Builder parallel(boolean parallel) {
+      this.parallel = parallel;
+      return this;
+    }
+
+    /**
+     * Creates the options.
+     *
+     * @throws  IllegalArgumentException  when wrapping in {@link TableStyle#MARKDOWN}
+     */
+    public TableOptions build() {
+      if (wrap && !style.isMultiline()) {
+        throw new IllegalArgumentException("Lines may not be wrapped in " + style);
+      }
+      return new TableOptions(this);
+    }
+  }
+
+  private final TableStyle style;
+  private final int[] maxWidths;
+  private final boolean wrap;
+  private final int window;
+  private final boolean cacheCells;
+  private final boolean parallel;
+
+  private TableOptions(Builder builder) {
+    this.style = builder.style;
+    this.maxWidths = builder.maxWidths;
+    this.wrap = builder.wrap;
+    this.window = builder.window;
+    this.cacheCells = builder.cacheCells;
+    this.parallel = builder.parallel;
+  }
+
+  /**
+   * Gets the border style.
+   */
+  public TableStyle getStyle() {
+    return style;
+  }
+
+  /**
+   * Gets a copy of the maximum width of each column, with {@code 0} for no maximum.
+   *
+   * @return  The maximum widths or {@code null} for no maximum widths
+   */
+  public int[] getMaxWidths() {
+    return maxWidths == null ? null : maxWidths.clone();
+  }
+
+  /**
+   * Gets whether lines wider than their maximum width are wrapped instead of truncated.
+   */
+  public boolean isWrap() {
+    return wrap;
+  }
+
+  /**
+   * Gets the number of rows buffered to measure column widths.
+   *
+   * @return  The window or {@code 0} to measure all rows before printing any
+   */
+  public int getWindow() {
+    return window;
+  }
+
+  /**
+   * Gets whether each cell is converted and measured only once, when not windowed.
+   */
+  public boolean isCacheCells() {
+    return cacheCells;
+  }
+
+  /**
+   * Gets whether the column widths of large lists are measured in parallel, when not windowed.
+   */
+  public boolean isParallel() {
+    return parallel;
+  }
+
+  /**
+   * Creates a renderer for these options.  The maximum widths are shared, since the renderer makes its own copy.
+   */
+  TableRenderer newRenderer(Object[] titles, Appendable out, boolean[] alignRights) {
+    return new TableRenderer(titles, out, style, alignRights, maxWidths, wrap, parallel);
+  }
+}
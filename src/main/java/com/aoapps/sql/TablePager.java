@@ -0,0 +1,190 @@
+/*
+ * ao-sql - SQL and JDBC utilities.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql.
+ *
+ * ao-sql is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * Prints an interactive table one page at a time, such as for a pager, without printing the rows before the
+ * requested page.  Each page is a complete table, with its own column widths and titles, followed by its position
+ * within the table.
+ *
+ * <p>The rows are accessed by index, so printing any page only converts the rows of that page, in time proportional
+ * to the page size, given a {@link RandomAccess} {@link List}.  The first time a page is printed, its rows are
+ * converted to cells once, measured, then printed.  Its column widths are then cached, so printing the same page again
+ * converts each row and prints it directly, in a single pass without buffering.  The column widths of at most
+ * {@link #MAX_CACHED_PAGES} pages are cached, discarding the least recently printed page.</p>
+ *
+ * <p>The rows must not be modified while paging, since cached column widths would not match, unless {@link #clear()}
+ * is called after the modification.</p>
+ *
+ * <p>This class is not thread-safe.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public final class TablePager {
+
+  /**
+   * The maximum number of pages with cached column widths.
+   */
+  public static final int MAX_CACHED_PAGES = 256;
+
+  private final Object[] titles;
+  private final List<? extends Object[]> rows;
+  private final boolean[] alignRights;
+  private final TableOptions options;
+  private final int pageSize;
+
+  /**
+   * The column widths of the most recently printed pages, in access order.
+   */
+  private final Map<Integer, int[]> pageWidths = new LinkedHashMap<Integer, int[]>(16, 0.75f, true) {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<Integer, int[]> eldest) {
+      return size() > MAX_CACHED_PAGES;
+    }
+  };
+
+  /**
+   * Creates a pager with the {@linkplain TableOptions#DEFAULT default options}.
+   *
+   * @see  #TablePager(java.lang.Object[], java.util.List, boolean[], com.aoapps.sql.TableOptions, int)
+   */
+  public TablePager(Object[] titles, List<? extends Object[]> rows, boolean[] alignRights, int pageSize) {
+    this(titles, rows, alignRights, TableOptions.DEFAULT, pageSize);
+  }
+
+  /**
+   * Creates a pager.
+   *
+   * @param titles  Optional titles to display on each page
+   *
+   * @param rows  The rows, accessed by index, which should be {@link RandomAccess}
+   *
+   * @param options  The style and maximum column widths of each page.  Since each page is already a bounded set of
+   *                 rows that is converted and measured once, the window and cached cells options are not used.
+   *
+   * @param pageSize  The maximum number of rows per page
+   *
+   * @throws  IllegalArgumentException  when {@code pageSize < 1}, or when the number of titles or maximum widths
+   *                                    does not match the number of columns
+   */
+  public TablePager(Object[] titles, List<? extends Object[]> rows, boolean[] alignRights, TableOptions options, int pageSize) {
+    if (pageSize < 1) {
+      throw new IllegalArgumentException("pageSize < 1: " + pageSize);
+    }
+    this.titles = titles;
+    this.rows = rows;
+    this.alignRights = alignRights;
+    this.options = options;
+    this.pageSize = pageSize;
+    // Checks the titles and maximum widths up-front
+    newRenderer(new StringBuilder());
+  }
+
+  private TableRenderer newRenderer(Appendable out) {
+    return options.newRenderer(titles, out, alignRights);
+  }
+
+  /**
+   * Gets the maximum number of rows per page.
+   */
+  public int getPageSize() {
+    return pageSize;
+  }
+
+  /**
+   * Gets the number of pages.  A table without rows still has a single, empty page.
+   */
+  public int getPageCount() {
+    int size = rows.size();
+    return size == 0 ? 1 : ((size - 1) / pageSize + 1);
+  }
+
+  /**
+   * Discards the cached column widths of every page, such as after the rows have been modified.
+   */
+  public void clear() {
+    pageWidths.clear();
+  }
+
+  /**
+   * Gets the number of pages with cached column widths.
+   */
+  int getCachedPageCount() {
+    return pageWidths.size();
+  }
+
+  /**
+   * Determines if the column widths of the given page are cached.
+   */
+  boolean isCached(int page) {
+    return pageWidths.containsKey(page);
+  }
+
+  /**
+   * Prints a single page.
+   *
+   * @param page  The zero-based page number
+   *
+   * @throws  IndexOutOfBoundsException  when {@code page < 0 || page >= getPageCount()}
+   * @throws  IllegalArgumentException  when a row of the page has the wrong number of columns
+   */
+  public void printPage(int page, Appendable out) throws IOException {
+    int pageCount = getPageCount();
+    if (page < 0 || page >= pageCount) {
+      throw new IndexOutOfBoundsException("page < 0 || page >= pageCount: " + page + ", " + pageCount);
+    }
+    int size = rows.size();
+    int from = page * pageSize;
+    int to = (int) Math.min(size, (long) from + pageSize);
+    TableRenderer table = newRenderer(out);
+    int[] widths = pageWidths.get(page);
+    if (widths == null) {
+      // Convert and measure each cell once, then print the cells
+      List<TableRenderer.Cell[]> cells = table.measureCells(rows.subList(from, to));
+      pageWidths.put(page, table.getWidths());
+      table.printHeader();
+      for (TableRenderer.Cell[] rowCells : cells) {
+        table.printRow(rowCells);
+      }
+    } else {
+      // Print directly at the cached widths
+      table.setWidths(widths);
+      table.printHeader();
+      for (int i = from; i < to; i++) {
+        table.printRow(rows.get(i));
+      }
+    }
+    table.printFooter();
+    table.printPagePosition(page, pageCount, from, to, size);
+    table.flush();
+  }
+}
@@ -0,0 +1,856 @@
+/*
+ * ao-sql - SQL and JDBC utilities.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql.
+ *
+ * ao-sql is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Renders the interactive form of {@link SQLUtility#printTable(java.lang.Object[], java.lang.Iterable, java.lang.Appendable, boolean, boolean[])}.
+ * The column widths are measured separately from rendering, so that a table may be rendered from either a full pass
+ * over its rows or from one bounded window of rows at a time.
+ *
+ * @author  AO Industries, Inc.
+ */
+final class TableRenderer {
+
+  static final String EOL = System.lineSeparator();
+
+  /**
+   * Gets the width for a string, handling newlines and the {@linkplain DisplayWidth display width} of each code point.
+   * ASCII is handled without table lookup.
+   */
+  static int getWidth(String value) {
+    int widest = 0;
+    if (value != null) {
+      int width = 0;
+      for (int i = 0, len = value.length(); i < len; ) {
+        char ch = value.charAt(i);
+        if (ch < 0x80) {
+          i++;
+          if (ch == '\n') {
+            if (width > widest) {
+              widest = width;
+            }
+            width = 0;
+          } else if (ch != '\r') {
+            width++;
+          }
+        } else {
+          int codePoint = value.codePointAt(i);
+          i += Character.charCount(codePoint);
+          width += DisplayWidth.of(codePoint);
+        }
+      }
+      if (width > widest) {
+        widest = width;
+      }
+    }
+    return widest;
+  }
+
+  /**
+   * Gets the display width of the code point at the given index, with '\r' having no width.
+   */
+  private static int getWidth(String value, int index) {
+    char ch = value.charAt(index);
+    if (ch < 0x80) {
+      return ch == '\r' ? 0 : 1;
+    }
+    return DisplayWidth.of(value.codePointAt(index));
+  }
+
+  /**
+   * The string value of a single cell, with the position and width of each of its lines, so that it is converted and
+   * scanned only once.  A single-line cell that is not truncated has no separate line array.
+   */
+  static final class Cell {
+
+    private static final Cell NULL = new Cell(null, 0, null, false);
+
+    /**
+     * The number of elements per line: start, end, width, and flags.
+     */
+    private static final int STRIDE = 4;
+
+    /**
+     * The line flag for a line that is truncated, and is followed by the truncated marker of the style.
+     */
+    private static final int TRUNCATED = 1;
+
+    /**
+     * The line flag for a line that is wrapped onto the next line.
+     */
+    private static final int WRAPPED = 2;
+
+    /**
+     * Adds a line, growing the array as needed.
+     *
+     * @return  The array, which is a new array when grown
+     */
+    private static int[] addLine(int[] lines, int lineCount, int start, int end, int width, int flags) {
+      if (lines == null) {
+        lines = new int[STRIDE * 4];
+      } else if (lines.length < STRIDE * (lineCount + 1)) {
+        lines = Arrays.copyOf(lines, lines.length * 2);
+      }
+      int i = STRIDE * lineCount;
+      lines[i] = start;
+      lines[i + 1] = end;
+      lines[i + 2] = width;
+      lines[i + 3] = flags;
+      return lines;
+    }
+
+    /**
+     * Converts a value to a cell.
+     */
+    static Cell of(Object value) {
+      String toString = Objects.toString(value, null);
+      if (toString == null) {
+        return NULL;
+      }
+      int[] lines = null;
+      int lineCount = 0;
+      int widest = 0;
+      int width = 0;
+      int lineStart = 0;
+      boolean hasCr = false;
+      for (int i = 0, len = toString.length(); i < len; ) {
+        char ch = toString.charAt(i);
+        if (ch < 0x80) {
+          if (ch == '\n') {
+            lines = addLine(lines, lineCount++, lineStart, i, width, 0);
+            if (width > widest) {
+              widest = width;
+            }
+            width = 0;
+            lineStart = i + 1;
+          } else if (ch == '\r') {
+            hasCr = true;
+          } else {
+            width++;
+          }
+          i++;
+        } else {
+          int codePoint = toString.codePointAt(i);
+          i += Character.charCount(codePoint);
+          width += DisplayWidth.of(codePoint);
+        }
+      }
+      if (width > widest) {
+        widest = width;
+      }
+      if (lines != null) {
+        lines = addLine(lines, lineCount++, lineStart, toString.length(), width, 0);
+        lines = Arrays.copyOf(lines, STRIDE * lineCount);
+      }
+      return new Cell(toString, widest, lines, hasCr);
+    }
+
+    /**
+     * The value or {@code null} for a {@code null} value.
+     */
+    private final String value;
+
+    /**
+     * The width of the widest line.
+     */
+    final int width;
+
+    /**
+     * The start, end, width, and flags of each line, or {@code null} for a single line that is not truncated.
+     */
+    private final int[] lines;
+
+    /**
+     * Whether the value contains any '\r' characters, which are skipped on output.
+     */
+    private final boolean hasCr;
+
+    private Cell(String value, int width, int[] lines, boolean hasCr) {
+      this.value = value;
+      this.width = width;
+      this.lines = lines;
+      this.hasCr = hasCr;
+    }
+
+    int getLineCount() {
+      return lines == null ? 1 : (lines.length / STRIDE);
+    }
+
+    /**
+     * Gets the width of a line, not including any '\r' characters.
+     */
+    int getLineWidth(int line) {
+      return lines == null ? width : lines[STRIDE * line + 2];
+    }
+
+    /**
+     * Checks if a line is wrapped onto the next line, instead of being followed by a newline.
+     */
+    boolean isWrapped(int line) {
+      return lines != null && (lines[STRIDE * line + 3] & WRAPPED) != 0;
+    }
+
+    /**
+     * Fits this cell within a maximum width.  Each wider line is either truncated, leaving room for a one-column
+     * marker, or wrapped onto as many lines as needed, breaking after a space where possible.  A line is never
+     * truncated within an {@linkplain TableStyle#getEscapeLength(java.lang.String, int) escape} of the style.
+     * The value itself is not copied, only its lines are changed.
+     *
+     * @param  max  The maximum width, at least two
+     *
+     * @return  This cell when it already fits, or a new cell with a width of exactly {@code max}
+     */
+    Cell fit(int max, boolean wrap, TableStyle style) {
+      if (width <= max) {
+        return this;
+      }
+      int[] fitted = null;
+      int fittedCount = 0;
+      for (int line = 0, lineCount = getLineCount(); line < lineCount; line++) {
+        int start;
+        int end;
+        if (lines == null) {
+          start = 0;
+          end = value.length();
+        } else {
+          start = lines[STRIDE * line];
+          end = lines[STRIDE * line + 1];
+        }
+        int lineWidth = getLineWidth(line);
+        if (lineWidth <= max) {
+          fitted = addLine(fitted, fittedCount++, start, end, lineWidth, 0);
+        } else if (!wrap) {
+          // Leave room for the marker
+          int w = 0;
+          int i = start;
+          while (i < end) {
+            int escape = style.getEscapeLength(value, i);
+            int unitWidth = escape == 0 ? getWidth(value, i) : escape;
+            if (w + unitWidth >= max) {
+              break;
+            }
+            w += unitWidth;
+            i += escape == 0 ? Character.charCount(value.codePointAt(i)) : escape;
+          }
+          fitted = addLine(fitted, fittedCount++, start, i, w + 1, TRUNCATED);
+        } else {
+          int segmentStart = start;
+          int w = 0;
+          int space = -1;
+          int spaceWidth = 0;
+          int i = start;
+          while (i < end) {
+            int cpWidth = getWidth(value, i);
+            if (w + cpWidth > max && i > segmentStart) {
+              if (space > segmentStart) {
+                // Break at the last space, which is not printed
+                fitted = addLine(fitted, fittedCount++, segmentStart, space, spaceWidth, WRAPPED);
+                segmentStart = space + 1;
+                w -= spaceWidth + 1;
+              } else {
+                fitted = addLine(fitted, fittedCount++, segmentStart, i, w, WRAPPED);
+                segmentStart = i;
+                w = 0;
+              }
+              space = -1;
+            } else {
+              if (value.charAt(i) == ' ') {
+                space = i;
+                spaceWidth = w;
+              }
+              w += cpWidth;
+              i += Character.charCount(value.codePointAt(i));
+            }
+          }
+          fitted = addLine(fitted, fittedCount++, segmentStart, end, w, 0);
+        }
+      }
+      return new Cell(value, max, Arrays.copyOf(fitted, STRIDE * fittedCount), hasCr);
+    }
+
+    /**
+     * Appends a line, not including any '\r' characters, followed by the given marker when truncated.
+     * A value without '\r' is appended as a single range.
+     */
+    void appendLine(int line, AppendBuffer out, char truncatedMarker) throws IOException {
+      int start;
+      int end;
+      if (lines == null) {
+        start = 0;
+        end = value.length();
+      } else {
+        start = lines[STRIDE * line];
+        end = lines[STRIDE * line + 1];
+      }
+      if (!hasCr) {
+        out.append(value, start, end);
+      } else {
+        for (int i = start; i < end; i++) {
+          char ch = value.charAt(i);
+          if (ch != '\r') {
+            out.append(ch);
+          }
+        }
+      }
+      if (lines != null && (lines[STRIDE * line + 3] & TRUNCATED) != 0) {
+        out.append(truncatedMarker);
+      }
+    }
+  }
+
+  private final Object[] titles;
+  private final TableStyle style;
+  private final AppendBuffer out;
+  private final Flushable flushable;
+  private final boolean[] alignRights;
+  private final int numCols;
+
+  /**
+   * The maximum width of each column, or {@code null} for no maximum widths.
+   */
+  private final int[] maxWidths;
+
+  /**
+   * Whether lines wider than their column are wrapped instead of truncated.
+   */
+  private final boolean wrap;
+
+  /**
+   * Whether the widths of large lists are measured in parallel.
+   */
+  private final boolean parallel;
+
+  /**
+   * The current width of each column.
+   */
+  private int[] widest;
+
+  /**
+   * @param titles  Optional titles to display
+   */
+  TableRenderer(Object[] titles, Appendable out, boolean[] alignRights) {
+    this(titles, out, TableStyle.UNICODE, alignRights, null, false, false);
+  }
+
+  /**
+   * @param titles  Optional titles to display
+   *
+   * @param maxWidths  Optional maximum width of each column, with {@code 0} for no maximum
+   *
+   * @param wrap  Whether lines wider than their column are wrapped instead of truncated
+   *
+   * @param parallel  Whether the widths of large {@link RandomAccess} lists are measured in parallel
+   *
+   * @throws  IllegalArgumentException  when a maximum width is negative or is {@code 1}, or when wrapping in a style
+   *                                    that does not allow multiple lines per row
+   */
+  TableRenderer(Object[] titles, Appendable out, TableStyle style, boolean[] alignRights, int[] maxWidths, boolean wrap, boolean parallel) {
+    int cols = alignRights.length;
+    if (titles != null && titles.length != cols) {
+      throw new IllegalArgumentException("Wrong number of titles: " + titles.length + " != " + cols);
+    }
+    if (wrap && !style.isMultiline()) {
+      throw new IllegalArgumentException("Lines may not be wrapped in " + style);
+    }
+    if (maxWidths != null) {
+      if (maxWidths.length != cols) {
+        throw new IllegalArgumentException("Wrong number of maximum widths: " + maxWidths.length + " != " + cols);
+      }
+      maxWidths = maxWidths.clone();
+      for (int col = 0; col < cols; col++) {
+        int maxWidth = maxWidths[col];
+        if (maxWidth == 0) {
+          maxWidths[col] = Integer.MAX_VALUE;
+        } else if (maxWidth < 2) {
+          throw new IllegalArgumentException("maxWidths[" + col + "] < 2: " + maxWidth);
+        }
+      }
+    }
+    this.titles = titles;
+    this.style = style;
+    this.out = new AppendBuffer(out);
+    this.flushable = (out instanceof Flushable) ? (Flushable) out : null;
+    this.alignRights = alignRights;
+    this.numCols = cols;
+    this.maxWidths = maxWidths;
+    this.wrap = wrap;
+    this.parallel = parallel;
+    this.widest = new int[cols];
+    if (style.hasAlignmentSlots()) {
+      // Each slot of the title separator must have at least one horizontal character, even for empty columns
+      Arrays.fill(widest, 1);
+    }
+    // Titles first
+    if (titles != null) {
+      for (int col = 0; col < cols; col++) {
+        int width = fit(col, getWidth(style.toString(titles[col])));
+        if (width > widest[col]) {
+          widest[col] = width;
+        }
+      }
+    }
+  }
+
+  /**
+   * Limits a width to the maximum width of its column.
+   */
+  private int fit(int col, int width) {
+    return maxWidths == null ? width : Math.min(width, maxWidths[col]);
+  }
+
+  /**
+   * Checks that a row has the expected number of columns.
+   */
+  void checkRow(Object[] row) throws IllegalArgumentException {
+    if (row.length != numCols) {
+      throw new IllegalArgumentException("Wrong number of columns in row: " + row.length + " != " + numCols);
+    }
+  }
+
+  /**
+   * Gets a copy of the current column widths.
+   */
+  int[] getWidths() {
+    return widest.clone();
+  }
+
+  /**
+   * Sets the column widths used for rendering.
+   */
+  void setWidths(int[] widths) {
+    assert widths.length == numCols;
+    widest = widths;
+  }
+
+  /**
+   * Widens the given column widths to fit a row, taking the line wraps into account and skipping the '\r' characters.
+   *
+   * @return  {@code true} when any column was widened
+   */
+  boolean measure(Object[] row, int[] widths) throws IllegalArgumentException {
+    checkRow(row);
+    boolean widened = false;
+    for (int col = 0; col < numCols; col++) {
+      int width = fit(col, getWidth(style.toString(row[col])));
+      if (width > widths[col]) {
+        widths[col] = width;
+        widened = true;
+      }
+    }
+    return widened;
+  }
+
+  /**
+   * Converts a value to a cell, escaped as needed by the style and fit within the maximum width of its column.
+   */
+  Cell toCell(int col, Object value) {
+    Cell cell = Cell.of(style.toString(value));
+    return maxWidths == null ? cell : cell.fit(maxWidths[col], wrap, style);
+  }
+
+  /**
+   * Converts each value of a row to a cell, once, for both measuring and printing.
+   *
+   * @see  #toCell(int, java.lang.Object)
+   */
+  Cell[] toCells(Object[] row) throws IllegalArgumentException {
+    checkRow(row);
+    Cell[] cells = new Cell[numCols];
+    for (int col = 0; col < numCols; col++) {
+      cells[col] = toCell(col, row[col]);
+    }
+    return cells;
+  }
+
+  /**
+   * Widens the given column widths to fit a row of cells.
+   *
+   * @return  {@code true} when any column was widened
+   */
+  static boolean measure(Cell[] cells, int[] widths) {
+    boolean widened = false;
+    for (int col = 0; col < cells.length; col++) {
+      int width = cells[col].width;
+      if (width > widths[col]) {
+        widths[col] = width;
+        widened = true;
+      }
+    }
+    return widened;
+  }
+
+  /**
+   * The minimum number of rows in a {@link RandomAccess} {@link List} to measure in parallel.
+   */
+  static final int PARALLEL_THRESHOLD = 10000;
+
+  /**
+   * Gets the rows as a list when they should be measured in parallel, which is only when opted-in.
+   * Only the width pass is parallel; rendering is always sequential.
+   *
+   * @return  The rows or {@code null} to measure sequentially
+   */
+  private List<? extends Object[]> getParallelRows(Iterable<? extends Object[]> rows) {
+    if (
+        parallel
+            && numCols > 0
+            && rows instanceof List
+            && rows instanceof RandomAccess
+            && ForkJoinPool.getCommonPoolParallelism() > 1
+    ) {
+      List<? extends Object[]> list = (List<? extends Object[]>) rows;
+      int size = list.size();
+      if (size >= PARALLEL_THRESHOLD) {
+        // Checked up-front, since exceptions are wrapped when thrown in parallel
+        for (int i = 0; i < size; i++) {
+          checkRow(list.get(i));
+        }
+        return list;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Merges column widths, taking the widest of each.
+   */
+  private static void widen(int[] widths, int[] other) {
+    for (int col = 0; col < widths.length; col++) {
+      if (other[col] > widths[col]) {
+        widths[col] = other[col];
+      }
+    }
+  }
+
+  /**
+   * Widens the current column widths to fit all rows.
+   * When parallel, large {@link RandomAccess} lists are measured in parallel, each thread finding the widest of its
+   * part of the list, then merging the results.
+   */
+  void measure(Iterable<? extends Object[]> rows) throws IllegalArgumentException {
+    List<? extends Object[]> list = getParallelRows(rows);
+    if (list != null) {
+      widen(
+          widest,
+          IntStream.range(0, list.size()).parallel().collect(
+              () -> new int[numCols],
+              (widths, i) -> measure(list.get(i), widths),
+              TableRenderer::widen
+          )
+      );
+    } else {
+      for (Object[] row : rows) {
+        measure(row);
+      }
+    }
+  }
+
+  /**
+   * Converts all rows to cells, widening the current column widths to fit.
+   * When parallel, large {@link RandomAccess} lists are converted and measured in parallel.
+   *
+   * @return  The cells of each row, which may have elements set to {@code null} as each row is printed
+   */
+  List<Cell[]> measureCells(Iterable<? extends Object[]> rows) throws IllegalArgumentException {
+    List<? extends Object[]> list = getParallelRows(rows);
+    if (list != null) {
+      Cell[][] cells = new Cell[list.size()][];
+      widen(
+          widest,
+          IntStream.range(0, cells.length).parallel().collect(
+              () -> new int[numCols],
+              (widths, i) -> measure(cells[i] = toCells(list.get(i)), widths),
+              TableRenderer::widen
+          )
+      );
+      return Arrays.asList(cells);
+    } else {
+      List<Cell[]> cells = new ArrayList<>();
+      for (Object[] row : rows) {
+        Cell[] rowCells = toCells(row);
+        measure(rowCells, widest);
+        cells.add(rowCells);
+      }
+      return cells;
+    }
+  }
+
+  /**
+   * Widens the current column widths to fit a row.
+   *
+   * @see  #measure(java.lang.Object[], int[])
+   */
+  void measure(Object[] row) throws IllegalArgumentException {
+    measure(row, widest);
+  }
+
+  /**
+   * A source of rows, already converted to cells.
+   */
+  @FunctionalInterface
+  interface CellSource<Ex extends Throwable> {
+    /**
+     * Gets the cells of the next row.
+     *
+     * @return  The cells or {@code null} when there are no more rows
+     */
+    Cell[] next() throws Ex;
+  }
+
+  /**
+   * Prints an entire table in a single pass over the rows, buffering at most a window of rows at a time.
+   * Column widths only grow: when a window does not fit the current widths, the current table is closed and a new
+   * table is started, with its titles repeated, at the wider widths.
+   * The output is flushed after each window.
+   */
+  <Ex extends Throwable> void printWindowed(CellSource<Ex> rows, int window) throws IOException, Ex {
+    List<Cell[]> buffer = new ArrayList<>(Math.min(window, 1024));
+    long rowCount = 0;
+    boolean started = false;
+    Cell[] next = rows.next();
+    do {
+      buffer.clear();
+      int[] widths = getWidths();
+      boolean widened = false;
+      while (next != null && buffer.size() < window) {
+        widened |= measure(next, widths);
+        buffer.add(next);
+        next = rows.next();
+      }
+      if (!started) {
+        setWidths(widths);
+        printHeader();
+        started = true;
+      } else if (widened) {
+        printFooter();
+        setWidths(widths);
+        printHeader();
+      }
+      for (Cell[] cells : buffer) {
+        rowCount++;
+        printRow(cells);
+      }
+      flush();
+      if (flushable != null) {
+        flushable.flush();
+      }
+    } while (next != null);
+    printFooter();
+    printRowCount(rowCount);
+    flush();
+  }
+
+  /**
+   * Prints a horizontal border at the current column widths.
+   *
+   * @param  alignmentSlots  Whether to mark right-aligned columns in their slots
+   */
+  private void printBorder(TableStyle.Border border, boolean alignmentSlots) throws IOException {
+    out.append(border.left);
+    for (int c = 0; c < numCols; c++) {
+      if (c > 0) {
+        out.append(border.middle);
+      }
+      out.repeat(border.horizontal, widest[c]);
+      if (style.padLast || c < (numCols - 1)) {
+        out.append(alignmentSlots && alignRights[c] ? ':' : border.slot);
+      }
+    }
+    if (numCols == 0) {
+      out.append(border.slot);
+    }
+    out.append(border.right);
+    out.append(EOL);
+  }
+
+  /**
+   * Prints the top border, followed by the titles and title separator when there are titles.
+   */
+  void printHeader() throws IOException {
+    if (style.top != null) {
+      printBorder(style.top, false);
+    }
+    Object[] headers = titles;
+    if (headers == null && style.hasAlignmentSlots()) {
+      // An empty header row
+      headers = new Object[numCols];
+    }
+    // The title is printed centered in its place
+    if (headers != null) {
+      if (numCols > 0) {
+        printRow(toCells(headers), null);
+      }
+      printBorder(style.titleSeparator, style.hasAlignmentSlots());
+    }
+  }
+
+  /**
+   * Prints a single row of values.
+   */
+  void printRow(Object[] row) throws IOException {
+    printRow(toCells(row), alignRights);
+  }
+
+  /**
+   * Prints a single row of cells.
+   */
+  void printRow(Cell[] cells) throws IOException {
+    printRow(cells, alignRights);
+  }
+
+  /**
+   * Prints the bottom border.
+   */
+  void printFooter() throws IOException {
+    if (style.bottom != null) {
+      printBorder(style.bottom, false);
+    } else if (!style.isMultiline()) {
+      // Ends the table before the row count
+      out.append(EOL);
+    }
+  }
+
+  /**
+   * Prints the row count that follows a table.
+   */
+  void printRowCount(long rowCount) throws IOException {
+    out.append('(');
+    out.append(rowCount == 0 ? "No" : Long.toString(rowCount));
+    out.append(rowCount == 1 ? " row)" : " rows)");
+    out.append(EOL);
+    out.append(EOL);
+  }
+
+  /**
+   * Prints the position of a page that follows a table, with one-based page and row numbers.
+   *
+   * @param  page  The zero-based page number
+   * @param  from  The zero-based index of the first row of the page, inclusive
+   * @param  to    The zero-based index of the last row of the page, exclusive
+   */
+  void printPagePosition(int page, int pageCount, int from, int to, int rowCount) throws IOException {
+    out.append("(Page ");
+    out.append(Integer.toString(page + 1));
+    out.append(" of ");
+    out.append(Integer.toString(pageCount));
+    if (rowCount == 0) {
+      out.append(", no rows)");
+    } else {
+      out.append(", rows ");
+      out.append(Integer.toString(from + 1));
+      out.append(" to ");
+      out.append(Integer.toString(to));
+      out.append(" of ");
+      out.append(Integer.toString(rowCount));
+      out.append(')');
+    }
+    out.append(EOL);
+    out.append(EOL);
+  }
+
+  /**
+   * Writes any buffered output.  This must be called once the table, or a part of it, is complete.
+   * This does not flush the underlying {@link Appendable} itself.
+   */
+  void flush() throws IOException {
+    out.flush();
+  }
+
+  /**
+   * Prints a single row of interactive output.
+   *
+   * @param  alignRights Will print all cells centered when this is {@code null} (used for header row)
+   */
+  private void printRow(Cell[] cells, boolean[] alignRights) throws IOException {
+    // Figure out how many lines of output this row will be
+    int maxLineCount = 1;
+    for (int col = 0; col < numCols; col++) {
+      int lineCount = cells[col].getLineCount();
+      if (lineCount > maxLineCount) {
+        maxLineCount = lineCount;
+      }
+    }
+
+    for (int line = 0; line < maxLineCount; line++) {
+      out.append(style.rowLeft);
+      for (int col = 0; col < numCols; col++) {
+        if (col > 0) {
+          out.append(style.rowMiddle);
+        }
+        int width = widest[col];
+        Cell cell = cells[col];
+        int printed;
+        char marker = ' ';
+        if (line >= cell.getLineCount()) {
+          printed = 0;
+        } else {
+          // Print just this line of the output
+          if (line < cell.getLineCount() - 1) {
+            marker = cell.isWrapped(line) ? style.wrappedMarker : style.newlineMarker;
+          }
+          int cellWidth = cell.getLineWidth(line);
+          if (cellWidth == 0) {
+            printed = 0;
+          } else {
+            if (alignRights == null) {
+              // Print centered
+              int before = (width - cellWidth) / 2;
+              out.repeat(' ', before);
+              cell.appendLine(line, out, style.truncatedMarker);
+              printed = before + cellWidth;
+            } else if (alignRights[col]) {
+              // Right align
+              out.repeat(' ', width - cellWidth);
+              cell.appendLine(line, out, style.truncatedMarker);
+              printed = width;
+            } else {
+              // Left align
+              cell.appendLine(line, out, style.truncatedMarker);
+              printed = cellWidth;
+            }
+          }
+        }
+        if (style.padLast || col < (numCols - 1) || marker != ' ') {
+          out.repeat(' ', width - printed);
+          out.append(marker);
+        }
+      }
+      if (numCols == 0) {
+        out.append(' ');
+      }
+      out.append(style.rowRight);
+      out.append(EOL);
+    }
+  }
+}
@@ -0,0 +1,258 @@
+/*
+ * ao-sql - SQL and JDBC utilities.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql.
+ *
+ * ao-sql is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql;
+
+import java.util.Objects;
+
+/**
+ * The border styles for interactive tables.  Each style is a set of precomputed border pieces, so that rendering only
+ * appends strings and repeats characters, without choosing characters as it goes.
+ *
+ * <p>A line of each cell is followed by a marker: "↵" (or "+") when followed by a newline, "…" (or ".") when wrapped
+ * onto the next line, and a space otherwise.  A truncated line ends with "…" (or "~").</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public enum TableStyle {
+
+  /**
+   * Unicode box-drawing borders, similar to <code>psql</code> with <code>\pset linestyle unicode</code> and
+   * <code>\pset border 2</code>.  This is the default.
+   */
+  UNICODE(
+      new Border("┌─", '─', '─', "┬─", "┐"),
+      new Border("├─", '─', '─', "┼─", "┤"),
+      new Border("└─", '─', '─', "┴─", "┘"),
+      "│ ", "│ ", "│",
+      '↵', '…', '…'
+  ),
+
+  /**
+   * ASCII borders, similar to <code>psql</code> with <code>\pset linestyle ascii</code> and
+   * <code>\pset border 2</code>.  Each character of the borders is a single byte in UTF-8.
+   */
+  ASCII(
+      new Border("+-", '-', '-', "+-", "+"),
+      new Border("+-", '-', '-', "+-", "+"),
+      new Border("+-", '-', '-', "+-", "+"),
+      "| ", "| ", "|",
+      '+', '.', '~'
+  ),
+
+  /**
+   * No borders, only a line of dashes under the titles, similar to <code>psql</code> with
+   * <code>\pset border 0</code>.  The last column is not padded, so lines have no trailing spaces.
+   */
+  COMPACT(
+      null,
+      new Border("", '-', ' ', " ", ""),
+      null,
+      "", " ", "",
+      '+', '.', '~'
+  ),
+
+  /**
+   * A GitHub Flavored Markdown table, with right-aligned columns marked in the delimiter row.  The row count follows
+   * the table as a separate paragraph.
+   *
+   * <p>Since a table row is a single line, each newline in a value is written as <code>&lt;br&gt;</code>, and each
+   * <code>|</code> is escaped.  Markdown always has a header row, which is empty when there are no titles.  Lines
+   * may be truncated, but not wrapped, and are never truncated within an escape.</p>
+   */
+  MARKDOWN(
+      null,
+      new Border("| ", '-', ' ', "| ", "|"),
+      null,
+      "| ", "| ", "|",
+      ' ', ' ', '…'
+  ) {
+    @Override
+    String toString(Object value) {
+      String str = Objects.toString(value, null);
+      if (str == null) {
+        return null;
+      }
+      int len = str.length();
+      int i = 0;
+      while (i < len) {
+        char ch = str.charAt(i);
+        if (ch == '|' || ch == '\r' || ch == '\n') {
+          break;
+        }
+        i++;
+      }
+      if (i == len) {
+        return str;
+      }
+      StringBuilder escaped = new StringBuilder(len + 16).append(str, 0, i);
+      for (; i < len; i++) {
+        char ch = str.charAt(i);
+        if (ch == '|') {
+          escaped.append("\\|");
+        } else if (ch == '\n') {
+          escaped.append("<br>");
+        } else if (ch != '\r') {
+          escaped.append(ch);
+        }
+      }
+      return escaped.toString();
+    }
+
+    /**
+     * A literal <code>&lt;br&gt;</code> in a value is also kept whole, since it is rendered the same as an escaped
+     * newline.
+     */
+    @Override
+    int getEscapeLength(String value, int index) {
+      if (value.startsWith("\\|", index)) {
+        return 2;
+      }
+      if (value.startsWith("<br>", index)) {
+        return 4;
+      }
+      return 0;
+    }
+
+    @Override
+    boolean isMultiline() {
+      return false;
+    }
+
+    @Override
+    boolean hasAlignmentSlots() {
+      return true;
+    }
+  };
+
+  /**
+   * A horizontal border, which is the left piece, then the horizontal character repeated for the width of each
+   * column, followed by the slot character in place of the marker of each column, with the middle piece between
+   * columns, and finally the right piece.
+   */
+  static final class Border {
+
+    final String left;
+    final char horizontal;
+    final char slot;
+    final String middle;
+    final String right;
+
+    private Border(String left, char horizontal, char slot, String middle, String right) {
+      this.left = left;
+      this.horizontal = horizontal;
+      this.slot = slot;
+      this.middle = middle;
+      this.right = right;
+    }
+  }
+
+  /**
+   * The border above the table or {@code null} for none.
+   */
+  final Border top;
+
+  /**
+   * The border below the titles.
+   */
+  final Border titleSeparator;
+
+  /**
+   * The border below the table or {@code null} for none.
+   */
+  final Border bottom;
+
+  /**
+   * The pieces of each line of a row: before the first column, between columns (after the marker), and after the
+   * last column (after its marker).
+   */
+  final String rowLeft;
+  final String rowMiddle;
+  final String rowRight;
+
+  final char newlineMarker;
+  final char wrappedMarker;
+  final char truncatedMarker;
+
+  /**
+   * Whether the last column is padded and followed by its marker, even when blank.  Without a right border, trailing
+   * spaces are omitted.
+   */
+  final boolean padLast;
+
+  TableStyle(
+      Border top,
+      Border titleSeparator,
+      Border bottom,
+      String rowLeft,
+      String rowMiddle,
+      String rowRight,
+      char newlineMarker,
+      char wrappedMarker,
+      char truncatedMarker
+  ) {
+    this.top = top;
+    this.titleSeparator = titleSeparator;
+    this.bottom = bottom;
+    this.rowLeft = rowLeft;
+    this.rowMiddle = rowMiddle;
+    this.rowRight = rowRight;
+    this.newlineMarker = newlineMarker;
+    this.wrappedMarker = wrappedMarker;
+    this.truncatedMarker = truncatedMarker;
+    this.padLast = !rowRight.isEmpty();
+  }
+
+  /**
+   * Gets the string value of a cell, escaped as needed by this style.
+   */
+  String toString(Object value) {
+    return Objects.toString(value, null);
+  }
+
+  /**
+   * Gets the number of characters of an ASCII escape starting at the given index of a value returned by
+   * {@link #toString(java.lang.Object)}, which must not be split when truncated.
+   *
+   * @return  The length of the escape or {@code 0} when no escape starts at the index
+   */
+  int getEscapeLength(String value, int index) {
+    return 0;
+  }
+
+  /**
+   * Whether a row may span multiple lines.  When not, lines may not be wrapped.
+   */
+  boolean isMultiline() {
+    return true;
+  }
+
+  /**
+   * Whether the slot of each column of the title separator shows its alignment, with <code>:</code> for
+   * right-aligned.  This also requires a header row, even when there are no titles, and a width of at least one for
+   * each column, so that each slot of the title separator has a horizontal character.
+   */
+  boolean hasAlignmentSlots() {
+    return false;
+  }
+}
@@ -0,0 +1,213 @@
+/*
+ * ao-sql - SQL and JDBC utilities.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql.
+ *
+ * ao-sql is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql;
+
+import java.sql.Timestamp;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A bounded pool of shared {@link UnmodifiableTimestamp}, so that values repeated many times, such as the epoch,
+ * "never expires" sentinels, or hourly boundaries, are held in memory once instead of once per occurrence.
+ *
+ * <p>The pool is a fixed number of slots, hashed by seconds and nanoseconds, with each value probing a small group
+ * of neighboring slots.  When the group is full, a random slot of the group is replaced, so that the pool adapts to the
+ * values currently in use without ever growing.</p>
+ *
+ * <p>It is lock-free: slots are set by compare-and-set, and since {@link UnmodifiableTimestamp} does not have final
+ * fields, they are published through an {@link AtomicReferenceArray}.  Racing threads may each create an equal
+ * timestamp, with only one kept in the pool, so interning reduces duplication without guaranteeing identity.</p>
+ *
+ * @see  UnmodifiableTimestamp#valueOf(java.sql.Timestamp, com.aoapps.sql.TimestampPool)
+ * @see  SQLStreamables#readUnmodifiableTimestamp(java.io.DataInputStream, com.aoapps.sql.TimestampPool)
+ *
+ * @author  AO Industries, Inc.
+ */
+public final class TimestampPool {
+
+  /**
+   * The number of neighboring slots searched for each value.
+   */
+  private static final int PROBES = 4;
+
+  /**
+   * The maximum capacity of a pool.
+   */
+  public static final int MAX_CAPACITY = 1 << 30;
+
+  private final AtomicReferenceArray<UnmodifiableTimestamp> slots;
+
+  private final int mask;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * Creates a new pool.
+   *
+   * @param  capacity  The maximum number of timestamps held, rounded up to a power of two
+   *
+   * @throws  IllegalArgumentException  when {@code capacity < 1} or {@code capacity > MAX_CAPACITY}
+   */
+  public TimestampPool(int capacity) throws IllegalArgumentException {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("capacity < 1: " + capacity);
+    }
+    if (capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException("capacity > MAX_CAPACITY: " + capacity + " > " + MAX_CAPACITY);
+    }
+    int size = Integer.highestOneBit(capacity);
+    if (size < capacity) {
+      size <<= 1;
+    }
+    slots = new AtomicReferenceArray<>(size);
+    mask = size - 1;
+  }
+
+  /**
+   * Gets the maximum number of timestamps held.
+   */
+  public int getCapacity() {
+    return slots.length();
+  }
+
+  /**
+   * Gets the number of timestamps found in the pool.
+   */
+  public long getHits() {
+    return hits.sum();
+  }
+
+  /**
+   * Gets the number of timestamps not found in the pool.
+   */
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  /**
+   * Removes all timestamps from the pool.
+   */
+  public void clear() {
+    for (int i = 0, len = slots.length(); i < len; i++) {
+      slots.set(i, null);
+    }
+  }
+
+  private static int hash(long seconds, int nanos) {
+    long h = seconds * 0x9E3779B97F4A7C15L ^ nanos * 0xC2B2AE3D27D4EB4FL;
+    return (int) (h ^ (h >>> 32));
+  }
+
+  /**
+   * Finds a timestamp in the pool.
+   *
+   * @param  millis  The time of the whole seconds, in milliseconds
+   *
+   * @return  The timestamp or {@code null} when not in the pool
+   */
+  private UnmodifiableTimestamp find(int start, long millis, int nanos) {
+    for (int i = 0; i < PROBES; i++) {
+      UnmodifiableTimestamp ts = slots.get((start + i) & mask);
+      if (ts == null) {
+        break;
+      }
+      if (ts.getNanos() == nanos && ts.getTime() - nanos / 1000000 == millis) {
+        hits.increment();
+        return ts;
+      }
+    }
+    misses.increment();
+    return null;
+  }
+
+  /**
+   * Adds a timestamp to the pool, replacing a random one of its group when full.
+   */
+  private UnmodifiableTimestamp add(int start, UnmodifiableTimestamp ts) {
+    for (int i = 0; i < PROBES; i++) {
+      if (slots.compareAndSet((start + i) & mask, null, ts)) {
+        return ts;
+      }
+    }
+    slots.set((start + ThreadLocalRandom.current().nextInt(PROBES)) & mask, ts);
+    return ts;
+  }
+
+  /**
+   * Gets a shared {@link UnmodifiableTimestamp} from a number of seconds and nanoseconds, adding it to the pool when
+   * not found.
+   */
+  public <Ex extends Throwable> UnmodifiableTimestamp intern(long seconds, int nanos, Function<? super String, ? extends Ex> exSupplier) throws Ex {
+    if (nanos < 0 || nanos > 999999999) {
+      throw exSupplier.apply("nanos out of range: " + nanos);
+    }
+    if (seconds > SQLUtility.MAX_TIMESTAMP_SECONDS || seconds < SQLUtility.MIN_TIMESTAMP_SECONDS) {
+      // Throws the range exception
+      return SQLUtility.newUnmodifiableTimestamp(seconds, nanos, exSupplier);
+    }
+    long millis = seconds * 1000;
+    int start = hash(seconds, nanos);
+    UnmodifiableTimestamp ts = find(start, millis, nanos);
+    return (ts != null) ? ts : add(start, new UnmodifiableTimestamp(millis, nanos));
+  }
+
+  /**
+   * Gets a shared {@link UnmodifiableTimestamp} from a number of seconds and nanoseconds, adding it to the pool when
+   * not found.
+   */
+  public UnmodifiableTimestamp intern(long seconds, int nanos) throws IllegalArgumentException {
+    return intern(seconds, nanos, IllegalArgumentException::new);
+  }
+
+  /**
+   * Gets a shared {@link UnmodifiableTimestamp} equal to the given timestamp.
+   * <ol>
+   * <li>If the timestamp is null, returns null.</li>
+   * <li>If an equal timestamp is in the pool, returns it.</li>
+   * <li>If the timestamp is already unmodifiable, adds it to the pool and returns it.</li>
+   * <li>Otherwise adds a new timestamp with the same value to the pool and returns it.</li>
+   * </ol>
+   */
+  public UnmodifiableTimestamp intern(Timestamp timestamp) {
+    if (timestamp == null) {
+      return null;
+    }
+    int nanos = timestamp.getNanos();
+    long millis = timestamp.getTime() - nanos / 1000000;
+    int start = hash(millis / 1000, nanos);
+    UnmodifiableTimestamp ts = find(start, millis, nanos);
+    if (ts != null) {
+      return ts;
+    }
+    return add(
+        start,
+        (timestamp instanceof UnmodifiableTimestamp)
+            ? (UnmodifiableTimestamp) timestamp
+            : new UnmodifiableTimestamp(timestamp.getTime(), nanos)
+    );
+  }
+}
@@ -52,6 +52,17 @@ public final class UnmodifiableTimestamp extends Timestamp implements Cloneable
     return new UnmodifiableTimestamp(other.getTime(), other.getNanos());
   }
 
+  /**
+   * Gets an UnmodifiableTimestamp from a Timestamp, sharing equal timestamps through the given pool.
+   *
+   * @param  pool  The pool of shared timestamps or {@code null} to behave as {@link UnmodifiableTimestamp#valueOf(java.sql.Timestamp)}
+   *
+   * @see  TimestampPool#intern(java.sql.Timestamp)
+   */
+  public static UnmodifiableTimestamp valueOf(Timestamp other, TimestampPool pool) {
+    return (pool == null) ? valueOf(other) : pool.intern(other);
+  }
+
   public UnmodifiableTimestamp(long time, int nanos) {
     super(time);
     super.setNanos(nanos);
@@ -0,0 +1,256 @@
+/*
+ * ao-sql - SQL and JDBC utilities.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql.
+ *
+ * ao-sql is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.TimeZone;
+import org.junit.Test;
+
+/**
+ * Tests {@link AsciiSequence} and the {@code byte[]} and {@link ByteBuffer} overloads of {@link SQLUtility}, on both
+ * heap and direct buffers.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class AsciiSequenceTest {
+
+  /**
+   * Fills each unwritten byte so that any write is seen.
+   */
+  private static final byte UNCHANGED = '#';
+
+  /**
+   * Gets a heap buffer, a direct buffer, and a heap buffer sliced from the middle of a larger array, each with the
+   * given content from index zero to its limit, and its position at {@code position}.
+   */
+  private static ByteBuffer[] getBuffers(byte[] content, int position) {
+    ByteBuffer heap = ByteBuffer.allocate(content.length);
+    ByteBuffer direct = ByteBuffer.allocateDirect(content.length);
+    byte[] larger = new byte[content.length + 10];
+    Arrays.fill(larger, UNCHANGED);
+    ByteBuffer slice = ByteBuffer.wrap(larger, 5, content.length).slice();
+    ByteBuffer[] buffers = {heap, direct, slice};
+    for (ByteBuffer buffer : buffers) {
+      buffer.put(content);
+      buffer.position(position);
+    }
+    return buffers;
+  }
+
+  private static byte[] getContent(ByteBuffer buffer) {
+    byte[] content = new byte[buffer.limit()];
+    for (int i = 0; i < content.length; i++) {
+      content[i] = buffer.get(i);
+    }
+    return content;
+  }
+
+  private static byte[] newContent(int length) {
+    byte[] content = new byte[length];
+    Arrays.fill(content, UNCHANGED);
+    return content;
+  }
+
+  @Test
+  public void testArray() {
+    byte[] bytes = "a1-é".getBytes(StandardCharsets.UTF_8);
+    AsciiSequence seq = AsciiSequence.of(bytes);
+    assertEquals(5, seq.length());
+    assertEquals('a', seq.charAt(0));
+    assertEquals('-', seq.charAt(2));
+    // Each byte of a multi-byte sequence is its own char
+    assertEquals((char) 0xC3, seq.charAt(3));
+    assertEquals((char) 0xA9, seq.charAt(4));
+    assertEquals("1-", seq.subSequence(1, 3));
+    assertEquals("a1-é", seq.toString());
+    assertThrows(IndexOutOfBoundsException.class, () -> seq.charAt(5));
+    assertThrows(IndexOutOfBoundsException.class, () -> seq.charAt(-1));
+    assertThrows(IndexOutOfBoundsException.class, () -> seq.subSequence(2, 6));
+    assertThrows(IndexOutOfBoundsException.class, () -> seq.subSequence(3, 2));
+    assertThrows(NullPointerException.class, () -> AsciiSequence.of((byte[]) null));
+  }
+
+  @Test
+  public void testBuffer() {
+    byte[] content = "a1-é".getBytes(StandardCharsets.UTF_8);
+    for (ByteBuffer buffer : getBuffers(content, 3)) {
+      buffer.limit(4);
+      AsciiSequence seq = AsciiSequence.of(buffer);
+      // Indexes are absolute, up to the limit
+      assertEquals(4, seq.length());
+      assertEquals('a', seq.charAt(0));
+      assertEquals((char) 0xC3, seq.charAt(3));
+      assertEquals("a1-", seq.subSequence(0, 3));
+      assertEquals("a1-�", seq.toString());
+      assertThrows(IndexOutOfBoundsException.class, () -> seq.charAt(4));
+      assertThrows(IndexOutOfBoundsException.class, () -> seq.subSequence(0, 5));
+      // The position is neither used nor changed
+      assertEquals(3, buffer.position());
+      buffer.limit(content.length);
+      assertEquals("a1-é", seq.toString());
+    }
+    assertThrows(NullPointerException.class, () -> AsciiSequence.of((ByteBuffer) null));
+  }
+
+  @Test
+  public void testParseDecimal() {
+    String text = "xx-12.5|2147483647.999|";
+    byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+    assertEquals(-1250, SQLUtility.parseDecimal2(bytes, 2, 5));
+    assertEquals(-12500, SQLUtility.parseDecimal3(bytes, 2, 5));
+    assertEquals(-1250, SQLUtility.parseLongDecimal2(bytes, 2, 5));
+    assertEquals(-12500, SQLUtility.parseLongDecimal3(bytes, 2, 5));
+    assertEquals(2147483647999L, SQLUtility.parseLongDecimal3(bytes, 8, 14));
+    assertThrows(NumberFormatException.class, () -> SQLUtility.parseDecimal3(bytes, 8, 14));
+    assertThrows(NumberFormatException.class, () -> SQLUtility.parseLongDecimal2(bytes, 8, 14));
+    assertThrows(NumberFormatException.class, () -> SQLUtility.parseDecimal2(bytes, 0, 7));
+    assertThrows(IndexOutOfBoundsException.class, () -> SQLUtility.parseDecimal2(bytes, 20, 5));
+    for (ByteBuffer buffer : getBuffers(bytes, 11)) {
+      assertEquals(-1250, SQLUtility.parseDecimal2(buffer, 2, 5));
+      assertEquals(-12500, SQLUtility.parseDecimal3(buffer, 2, 5));
+      assertEquals(-1250, SQLUtility.parseLongDecimal2(buffer, 2, 5));
+      assertEquals(-12500, SQLUtility.parseLongDecimal3(buffer, 2, 5));
+      assertEquals(2147483647999L, SQLUtility.parseLongDecimal3(buffer, 8, 14));
+      assertThrows(NumberFormatException.class, () -> SQLUtility.parseDecimal3(buffer, 8, 14));
+      assertThrows(NumberFormatException.class, () -> SQLUtility.parseLongDecimal2(buffer, 8, 14));
+      assertThrows(NumberFormatException.class, () -> SQLUtility.parseDecimal2(buffer, 0, 7));
+      assertThrows(IndexOutOfBoundsException.class, () -> SQLUtility.parseDecimal2(buffer, 20, 5));
+      assertEquals(11, buffer.position());
+      assertArrayEquals(bytes, getContent(buffer));
+    }
+  }
+
+  @Test
+  public void testParseDateTime() {
+    TimeZone timeZone = TimeZone.getTimeZone("America/New_York");
+    String text = "..2021-11-07 01:30:00.123456789..";
+    byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+    Timestamp expected = SQLUtility.parseDateTime(text.substring(2, 31), timeZone);
+    assertEquals(expected, SQLUtility.parseDateTime(bytes, 2, 29, timeZone));
+    assertThrows(IllegalArgumentException.class, () -> SQLUtility.parseDateTime(bytes, 0, 29, timeZone));
+    for (ByteBuffer buffer : getBuffers(bytes, 7)) {
+      assertEquals(expected, SQLUtility.parseDateTime(buffer, 2, 29, timeZone));
+      assertThrows(IllegalArgumentException.class, () -> SQLUtility.parseDateTime(buffer, 0, 29, timeZone));
+      assertEquals(7, buffer.position());
+    }
+  }
+
+  private static void assertFormatDecimal(long value, int scale) {
+    byte[] expected = (scale == 2 ? SQLUtility.formatDecimal2(value) : SQLUtility.formatDecimal3(value))
+        .getBytes(StandardCharsets.US_ASCII);
+    int offset = 3;
+    byte[] bytes = newContent(offset + expected.length + 1);
+    assertEquals(expected.length, scale == 2
+        ? SQLUtility.formatDecimal2(value, bytes, offset)
+        : SQLUtility.formatDecimal3(value, bytes, offset));
+    byte[] expectedBytes = newContent(bytes.length);
+    System.arraycopy(expected, 0, expectedBytes, offset, expected.length);
+    assertArrayEquals(expectedBytes, bytes);
+    // Not enough room writes nothing
+    byte[] tooShort = newContent(offset + expected.length - 1);
+    assertThrows(IndexOutOfBoundsException.class, () -> {
+      if (scale == 2) {
+        SQLUtility.formatDecimal2(value, tooShort, offset);
+      } else {
+        SQLUtility.formatDecimal3(value, tooShort, offset);
+      }
+    });
+    assertArrayEquals(newContent(tooShort.length), tooShort);
+
+    for (ByteBuffer buffer : getBuffers(newContent(bytes.length), offset)) {
+      assertEquals(expected.length, scale == 2
+          ? SQLUtility.formatDecimal2(value, buffer)
+          : SQLUtility.formatDecimal3(value, buffer));
+      assertEquals(offset + expected.length, buffer.position());
+      assertArrayEquals(expectedBytes, getContent(buffer));
+    }
+    for (ByteBuffer buffer : getBuffers(newContent(bytes.length), offset)) {
+      buffer.limit(offset + expected.length - 1);
+      assertThrows(BufferOverflowException.class, () -> {
+        if (scale == 2) {
+          SQLUtility.formatDecimal2(value, buffer);
+        } else {
+          SQLUtility.formatDecimal3(value, buffer);
+        }
+      });
+      assertEquals(offset, buffer.position());
+      buffer.limit(bytes.length);
+      assertArrayEquals(newContent(bytes.length), getContent(buffer));
+    }
+  }
+
+  @Test
+  public void testFormatDecimal() {
+    for (long value : FixedPointTest.getEdgeValues()) {
+      assertFormatDecimal(value, 2);
+      assertFormatDecimal(value, 3);
+    }
+  }
+
+  @FunctionalInterface
+  private interface BufferFormatter {
+    int format(long time, TimeZone timeZone, ByteBuffer buf);
+  }
+
+  private static void assertFormat(String expected, long time, TimeZone timeZone, BufferFormatter formatter) {
+    byte[] expectedBytes = expected.getBytes(StandardCharsets.US_ASCII);
+    int offset = 2;
+    int length = offset + expectedBytes.length + 2;
+    byte[] expectedContent = newContent(length);
+    System.arraycopy(expectedBytes, 0, expectedContent, offset, expectedBytes.length);
+    for (ByteBuffer buffer : getBuffers(newContent(length), offset)) {
+      assertEquals(expectedBytes.length, formatter.format(time, timeZone, buffer));
+      assertEquals(offset + expectedBytes.length, buffer.position());
+      assertArrayEquals(expectedContent, getContent(buffer));
+    }
+    for (ByteBuffer buffer : getBuffers(newContent(length), offset)) {
+      buffer.limit(offset + expectedBytes.length - 1);
+      assertThrows(BufferOverflowException.class, () -> formatter.format(time, timeZone, buffer));
+      assertEquals(offset, buffer.position());
+      buffer.limit(length);
+      assertArrayEquals(newContent(length), getContent(buffer));
+    }
+  }
+
+  @Test
+  public void testFormatDateTime() {
+    TimeZone timeZone = TimeZone.getTimeZone("Australia/Lord_Howe");
+    // 1970-01-01, 2021-04-04 in a half-hour transition, 1582-10-15 and 10000-01-01 in the calendar fallback
+    for (long time : new long[] {0, -1, 1617463800000L, -12219292800000L, 253402300800000L}) {
+      for (TimeZone tz : new TimeZone[] {null, timeZone}) {
+        assertFormat(SQLUtility.formatDate(time, tz), time, tz, SQLUtility::formatDate);
+        assertFormat(SQLUtility.formatDateTime(time, tz), time, tz, SQLUtility::formatDateTime);
+        assertFormat(SQLUtility.formatTime(time, tz), time, tz, SQLUtility::formatTime);
+      }
+    }
+  }
+}
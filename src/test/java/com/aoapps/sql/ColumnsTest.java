@@ -0,0 +1,287 @@
+/*
+ * ao-sql - SQL and JDBC utilities.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql.
+ *
+ * ao-sql is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.TimeZone;
+import org.junit.Test;
+
+/**
+ * Tests the batch parsing of columns in {@link SQLUtility}, including the errors recorded by destination index and
+ * the range checks of {@link Columns}.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class ColumnsTest {
+
+  /**
+   * Fills each unparsed destination so that any write is seen.
+   */
+  private static final int UNCHANGED = -999;
+
+  private static int[] newInts(int length) {
+    int[] ints = new int[length];
+    Arrays.fill(ints, UNCHANGED);
+    return ints;
+  }
+
+  private static long[] newLongs(int length) {
+    long[] longs = new long[length];
+    Arrays.fill(longs, UNCHANGED);
+    return longs;
+  }
+
+  private static BitSet bits(int... indexes) {
+    BitSet bits = new BitSet();
+    for (int index : indexes) {
+      bits.set(index);
+    }
+    return bits;
+  }
+
+  @Test
+  public void testParseDecimalArray() {
+    CharSequence[] src = {"skipped", "1.23", "bad", null, "-.5", "", "21474836.47", "21474836.48", "4.5678"};
+    int[] dest2 = newInts(10);
+    BitSet errors2 = new BitSet();
+    assertEquals(5, SQLUtility.parseDecimal2(src, 1, dest2, 2, 8, errors2));
+    assertArrayEquals(new int[] {UNCHANGED, UNCHANGED, 123, UNCHANGED, UNCHANGED, -50, UNCHANGED, Integer.MAX_VALUE, UNCHANGED, UNCHANGED},
+        dest2);
+    assertEquals(bits(3, 4, 6, 8, 9), errors2);
+
+    long[] destLong2 = newLongs(10);
+    BitSet errorsLong2 = new BitSet();
+    assertEquals(4, SQLUtility.parseLongDecimal2(src, 1, destLong2, 2, 8, errorsLong2));
+    assertArrayEquals(new long[] {UNCHANGED, UNCHANGED, 123, UNCHANGED, UNCHANGED, -50, UNCHANGED, 2147483647L, 2147483648L, UNCHANGED},
+        destLong2);
+    assertEquals(bits(3, 4, 6, 9), errorsLong2);
+
+    int[] dest3 = newInts(8);
+    BitSet errors3 = new BitSet();
+    assertEquals(6, SQLUtility.parseDecimal3(src, 1, dest3, 0, 8, errors3));
+    assertArrayEquals(new int[] {1230, UNCHANGED, UNCHANGED, -500, UNCHANGED, UNCHANGED, UNCHANGED, UNCHANGED}, dest3);
+    assertEquals(bits(1, 2, 4, 5, 6, 7), errors3);
+
+    long[] destLong3 = newLongs(8);
+    BitSet errorsLong3 = new BitSet();
+    assertEquals(4, SQLUtility.parseLongDecimal3(src, 1, destLong3, 0, 8, errorsLong3));
+    assertArrayEquals(new long[] {1230, UNCHANGED, UNCHANGED, -500, UNCHANGED, 21474836470L, 21474836480L, UNCHANGED}, destLong3);
+    assertEquals(bits(1, 2, 4, 7), errorsLong3);
+  }
+
+  @Test
+  public void testParseArrayKeepsExistingErrors() {
+    BitSet errors = bits(0, 5);
+    int[] dest = newInts(4);
+    assertEquals(1, SQLUtility.parseDecimal2(new CharSequence[] {"1", "x"}, 0, dest, 2, 2, errors));
+    assertArrayEquals(new int[] {UNCHANGED, UNCHANGED, 100, UNCHANGED}, dest);
+    assertEquals(bits(0, 3, 5), errors);
+  }
+
+  @Test
+  public void testParseArrayOutOfRange() {
+    CharSequence[] src = {"1", "2", "x", "4"};
+    // {srcOff, destOff, len}, each out of range of a source or destination of four
+    for (int[] range : new int[][] {{-1, 0, 1}, {0, -1, 1}, {0, 0, -1}, {1, 0, 4}, {0, 1, 4}, {5, 0, 0}, {0, 5, 0}}) {
+      int srcOff = range[0];
+      int destOff = range[1];
+      int len = range[2];
+      int[] ints = newInts(4);
+      long[] longs = newLongs(4);
+      long[] seconds = newLongs(4);
+      int[] nanos = newInts(4);
+      BitSet errors = new BitSet();
+      assertThrows(IndexOutOfBoundsException.class, () -> SQLUtility.parseDecimal2(src, srcOff, ints, destOff, len, errors));
+      assertThrows(IndexOutOfBoundsException.class, () -> SQLUtility.parseDecimal3(src, srcOff, ints, destOff, len, errors));
+      assertThrows(IndexOutOfBoundsException.class, () -> SQLUtility.parseLongDecimal2(src, srcOff, longs, destOff, len, errors));
+      assertThrows(IndexOutOfBoundsException.class, () -> SQLUtility.parseLongDecimal3(src, srcOff, longs, destOff, len, errors));
+      assertThrows(IndexOutOfBoundsException.class,
+          () -> SQLUtility.parseDateTime(src, srcOff, seconds, nanos, destOff, len, null, errors));
+      assertArrayEquals(newInts(4), ints);
+      assertArrayEquals(newLongs(4), longs);
+      assertArrayEquals(newLongs(4), seconds);
+      assertArrayEquals(newInts(4), nanos);
+      assertEquals(new BitSet(), errors);
+    }
+  }
+
+  @Test
+  public void testParseDelimited() {
+    String value = "skip|1.5||x|-2.25|3";
+    char[] chars = value.toCharArray();
+    byte[] bytes = value.getBytes(StandardCharsets.US_ASCII);
+    // Region "1.5||x|-2.25" into index 1
+    int off = 5;
+    int len = 12;
+
+    int[] charsDest = newInts(6);
+    BitSet charsErrors = new BitSet();
+    assertEquals(4, SQLUtility.parseDecimal2(chars, off, len, '|', charsDest, 1, charsErrors));
+    assertArrayEquals(new int[] {UNCHANGED, 150, UNCHANGED, UNCHANGED, -225, UNCHANGED}, charsDest);
+    assertEquals(bits(2, 3), charsErrors);
+
+    int[] bytesDest = newInts(6);
+    BitSet bytesErrors = new BitSet();
+    assertEquals(4, SQLUtility.parseDecimal2(bytes, off, len, '|', bytesDest, 1, bytesErrors));
+    assertArrayEquals(charsDest, bytesDest);
+    assertEquals(charsErrors, bytesErrors);
+
+    long[] longDest = newLongs(6);
+    BitSet longErrors = new BitSet();
+    assertEquals(4, SQLUtility.parseLongDecimal2(chars, off, len, '|', longDest, 1, longErrors));
+    assertArrayEquals(new long[] {UNCHANGED, 150, UNCHANGED, UNCHANGED, -225, UNCHANGED}, longDest);
+    assertEquals(bits(2, 3), longErrors);
+    long[] longBytesDest = newLongs(6);
+    assertEquals(4, SQLUtility.parseLongDecimal2(bytes, off, len, '|', longBytesDest, 1, new BitSet()));
+    assertArrayEquals(longDest, longBytesDest);
+
+    int[] dest3 = newInts(4);
+    BitSet errors3 = new BitSet();
+    assertEquals(4, SQLUtility.parseDecimal3(bytes, off, len, '|', dest3, 0, errors3));
+    assertArrayEquals(new int[] {1500, UNCHANGED, UNCHANGED, -2250}, dest3);
+    assertEquals(bits(1, 2), errors3);
+    int[] charsDest3 = newInts(4);
+    assertEquals(4, SQLUtility.parseDecimal3(chars, off, len, '|', charsDest3, 0, new BitSet()));
+    assertArrayEquals(dest3, charsDest3);
+
+    long[] longDest3 = newLongs(4);
+    assertEquals(4, SQLUtility.parseLongDecimal3(chars, off, len, '|', longDest3, 0, new BitSet()));
+    assertArrayEquals(new long[] {1500, UNCHANGED, UNCHANGED, -2250}, longDest3);
+    long[] longBytesDest3 = newLongs(4);
+    assertEquals(4, SQLUtility.parseLongDecimal3(bytes, off, len, '|', longBytesDest3, 0, new BitSet()));
+    assertArrayEquals(longDest3, longBytesDest3);
+  }
+
+  @Test
+  public void testParseDelimitedFields() {
+    // An empty region has no fields
+    int[] dest = newInts(3);
+    BitSet errors = new BitSet();
+    assertEquals(0, SQLUtility.parseDecimal2("1,2".toCharArray(), 1, 0, ',', dest, 0, errors));
+    assertArrayEquals(newInts(3), dest);
+    assertEquals(new BitSet(), errors);
+    // A lone delimiter is two empty fields
+    assertEquals(2, SQLUtility.parseDecimal2(",".toCharArray(), 0, 1, ',', dest, 0, errors));
+    assertArrayEquals(newInts(3), dest);
+    assertEquals(bits(0, 1), errors);
+    // A trailing delimiter is an empty last field
+    errors.clear();
+    assertEquals(3, SQLUtility.parseDecimal2("1,2,".getBytes(StandardCharsets.US_ASCII), 0, 4, ',', dest, 0, errors));
+    assertArrayEquals(new int[] {100, 200, UNCHANGED}, dest);
+    assertEquals(bits(2), errors);
+  }
+
+  @Test
+  public void testParseDelimitedOutOfRange() {
+    char[] chars = "1,2,3".toCharArray();
+    byte[] bytes = "1,2,3".getBytes(StandardCharsets.US_ASCII);
+    for (int[] region : new int[][] {{-1, 1}, {0, -1}, {0, 6}, {6, 0}}) {
+      int off = region[0];
+      int len = region[1];
+      int[] dest = newInts(4);
+      BitSet errors = new BitSet();
+      assertThrows(IndexOutOfBoundsException.class, () -> SQLUtility.parseDecimal2(chars, off, len, ',', dest, 0, errors));
+      assertThrows(IndexOutOfBoundsException.class, () -> SQLUtility.parseDecimal2(bytes, off, len, ',', dest, 0, errors));
+      assertArrayEquals(newInts(4), dest);
+      assertEquals(new BitSet(), errors);
+    }
+    // The fields that fit have already been parsed
+    int[] dest = newInts(4);
+    BitSet errors = new BitSet();
+    assertThrows(IndexOutOfBoundsException.class, () -> SQLUtility.parseDecimal2(chars, 0, 5, ',', dest, 2, errors));
+    assertArrayEquals(new int[] {UNCHANGED, UNCHANGED, 100, 200}, dest);
+    long[] longDest = newLongs(4);
+    assertThrows(IndexOutOfBoundsException.class, () -> SQLUtility.parseLongDecimal3(bytes, 0, 5, ',', longDest, 3, errors));
+    assertArrayEquals(new long[] {UNCHANGED, UNCHANGED, UNCHANGED, 1000}, longDest);
+    // A negative destination offset parses nothing
+    int[] negativeDest = newInts(4);
+    assertThrows(IndexOutOfBoundsException.class, () -> SQLUtility.parseDecimal3(chars, 0, 5, ',', negativeDest, -1, errors));
+    assertArrayEquals(newInts(4), negativeDest);
+    assertEquals(new BitSet(), errors);
+  }
+
+  @Test
+  public void testParseDateTimeColumns() {
+    TimeZone timeZone = TimeZone.getTimeZone("America/New_York");
+    String[] values = {"2021-03-14 01:59:59.5", "nope", "2021-03-14 03:00:00", null, "2021-11-07 01:30:00.000000001", "2021-1-2 3:04:05"};
+    long[] seconds = newLongs(values.length);
+    int[] nanos = newInts(values.length + 1);
+    BitSet errors = new BitSet();
+    assertEquals(2, SQLUtility.parseDateTime(values, 0, seconds, nanos, 0, values.length, timeZone, errors));
+    assertEquals(bits(1, 3), errors);
+    for (int i = 0; i < values.length; i++) {
+      if (errors.get(i)) {
+        assertEquals(UNCHANGED, seconds[i]);
+        assertEquals(UNCHANGED, nanos[i]);
+      } else {
+        Timestamp expected = SQLUtility.parseDateTime(values[i], timeZone);
+        assertEquals(Math.floorDiv(expected.getTime(), 1000), seconds[i]);
+        assertEquals(expected.getNanos(), nanos[i]);
+      }
+    }
+    assertEquals(UNCHANGED, nanos[values.length]);
+
+    String delimited = String.join(";", Arrays.asList(values).subList(4, 6)) + ";;" + values[0];
+    long[] charsSeconds = newLongs(5);
+    int[] charsNanos = newInts(5);
+    BitSet charsErrors = new BitSet();
+    assertEquals(4, SQLUtility.parseDateTime(delimited.toCharArray(), 0, delimited.length(), ';', charsSeconds, charsNanos, 1, timeZone,
+        charsErrors));
+    assertEquals(bits(3), charsErrors);
+    assertArrayEquals(new long[] {UNCHANGED, seconds[4], seconds[5], UNCHANGED, seconds[0]}, charsSeconds);
+    assertArrayEquals(new int[] {UNCHANGED, nanos[4], nanos[5], UNCHANGED, nanos[0]}, charsNanos);
+
+    long[] bytesSeconds = newLongs(5);
+    int[] bytesNanos = newInts(5);
+    BitSet bytesErrors = new BitSet();
+    assertEquals(4, SQLUtility.parseDateTime(delimited.getBytes(StandardCharsets.US_ASCII), 0, delimited.length(), ';', bytesSeconds, bytesNanos,
+        1, timeZone, bytesErrors));
+    assertEquals(charsErrors, bytesErrors);
+    assertArrayEquals(charsSeconds, bytesSeconds);
+    assertArrayEquals(charsNanos, bytesNanos);
+
+    // The destination is limited by the shorter of the parallel arrays
+    long[] shortSeconds = newLongs(2);
+    assertThrows(IndexOutOfBoundsException.class,
+        () -> SQLUtility.parseDateTime(values, 0, shortSeconds, new int[3], 0, 3, timeZone, new BitSet()));
+    assertArrayEquals(newLongs(2), shortSeconds);
+  }
+
+  @Test
+  public void testParseNonAsciiBytes() {
+    byte[] bytes = "1.5,é,2".getBytes(StandardCharsets.UTF_8);
+    int[] dest = newInts(3);
+    BitSet errors = new BitSet();
+    assertEquals(3, SQLUtility.parseDecimal2(bytes, 0, bytes.length, ',', dest, 0, errors));
+    assertArrayEquals(new int[] {150, UNCHANGED, 200}, dest);
+    assertEquals(bits(1), errors);
+  }
+}
@@ -0,0 +1,342 @@
+/*
+ * ao-sql - SQL and JDBC utilities.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql.
+ *
+ * ao-sql is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql;
+
+import static org.junit.Assert.assertEquals;
+
+import com.aoapps.lang.util.CalendarUtils;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.Random;
+import java.util.SimpleTimeZone;
+import java.util.TimeZone;
+import java.util.function.Supplier;
+import org.junit.Test;
+
+/**
+ * Compares the date and time formatting and parsing of {@link SQLUtility} with {@link GregorianCalendar} and
+ * {@link CalendarUtils}, which it did directly before {@link DateTimes}.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class DateTimesTest {
+
+  /**
+   * The number of random times tested per time zone.
+   */
+  private static final int RANDOM_TIMES = 20000;
+
+  /**
+   * Zones with daylight saving time, half-hour and quarter-hour offsets, a skipped day (Pacific/Apia 2011-12-30),
+   * transitions at midnight (America/Sao_Paulo), and a custom zone.
+   */
+  private static final String[] ZONE_IDS = {
+      "UTC",
+      "America/New_York",
+      "America/Sao_Paulo",
+      "Europe/London",
+      "Australia/Lord_Howe",
+      "Asia/Kolkata",
+      "Asia/Kathmandu",
+      "Pacific/Apia",
+      "Pacific/Kiritimati"
+  };
+
+  private static List<TimeZone> getTimeZones() {
+    List<TimeZone> timeZones = new ArrayList<>();
+    for (String id : ZONE_IDS) {
+      timeZones.add(TimeZone.getTimeZone(id));
+    }
+    timeZones.add(new SimpleTimeZone(
+        -(3 * 60 + 30) * 60 * 1000,
+        "Custom/DST",
+        java.util.Calendar.MARCH, 8, -java.util.Calendar.SUNDAY, 2 * 60 * 60 * 1000,
+        java.util.Calendar.NOVEMBER, 1, -java.util.Calendar.SUNDAY, 2 * 60 * 60 * 1000
+    ));
+    return timeZones;
+  }
+
+  private static GregorianCalendar newGregorianCalendar(long time, TimeZone timeZone) {
+    GregorianCalendar gcal = new GregorianCalendar(timeZone);
+    gcal.setTimeInMillis(time);
+    return gcal;
+  }
+
+  /**
+   * Gets the result of a call or the class of its exception.
+   */
+  private static Object resultOf(Supplier<?> call) {
+    try {
+      return call.get();
+    } catch (RuntimeException e) {
+      return e.getClass();
+    }
+  }
+
+  private static void assertFormat(long time, TimeZone timeZone) {
+    String message = time + " in " + timeZone.getID();
+    GregorianCalendar gcal = newGregorianCalendar(time, timeZone);
+    String date = CalendarUtils.formatDate(gcal);
+    String dateTime = CalendarUtils.formatDateTime(gcal);
+    String timeOfDay = CalendarUtils.formatTime(gcal);
+    assertEquals(message, date, SQLUtility.formatDate(time, timeZone));
+    assertEquals(message, dateTime, SQLUtility.formatDateTime(time, timeZone));
+    assertEquals(message, timeOfDay, SQLUtility.formatTime(time, timeZone));
+    // Twice, after the day may have been cached
+    assertEquals(message, date, SQLUtility.formatDate(time, timeZone));
+    assertEquals(message, dateTime, SQLUtility.formatDateTime(time, timeZone));
+    assertEquals(message, timeOfDay, SQLUtility.formatTime(time, timeZone));
+    // ASCII into a buffer
+    ByteBuffer buf = ByteBuffer.allocate(32);
+    SQLUtility.formatDateTime(time, timeZone, buf);
+    assertEquals(message, dateTime, new String(buf.array(), 0, buf.position(), StandardCharsets.US_ASCII));
+  }
+
+  private static void assertParse(String value, TimeZone timeZone) {
+    String message = '"' + value + "\" in " + timeZone.getID();
+    assertEquals(
+        message,
+        resultOf(() -> new Date(CalendarUtils.parseDate(value, timeZone).getTimeInMillis())),
+        resultOf(() -> SQLUtility.parseDate(value, timeZone))
+    );
+    Object expected = resultOf(() -> CalendarUtils.parseDateTime(
+        value,
+        timeZone,
+        (GregorianCalendar gcal, int nanos) -> SQLUtility.newTimestamp(Math.floorDiv(gcal.getTimeInMillis(), 1000), nanos)
+    ));
+    assertEquals(message, expected, resultOf(() -> SQLUtility.parseDateTime(value, timeZone)));
+    // Within a larger sequence
+    String padded = "xx" + value + "yy";
+    assertEquals(message, expected, resultOf(() -> SQLUtility.parseDateTime(padded, 2, value.length(), timeZone)));
+  }
+
+  /**
+   * Gets the time of a local date and time, as {@link GregorianCalendar} resolves it in the given zone.
+   */
+  private static long getTime(TimeZone timeZone, int year, int month, int day, int hour) {
+    GregorianCalendar gcal = new GregorianCalendar(timeZone);
+    gcal.clear();
+    gcal.set(year, month - 1, day, hour, 0, 0);
+    return gcal.getTimeInMillis();
+  }
+
+  /**
+   * Tests around the Gregorian cutover, and the first and last years handled directly, where formatting falls back to
+   * {@link GregorianCalendar}.
+   */
+  @Test
+  public void testFormatFallbackBoundaries() {
+    for (TimeZone timeZone : getTimeZones()) {
+      for (long boundary : new long[] {
+          getTime(timeZone, 1582, 10, 15, 0),
+          getTime(timeZone, 1583, 1, 1, 0),
+          getTime(timeZone, 10000, 1, 1, 0)
+      }) {
+        for (long hours = -50; hours <= 50; hours++) {
+          long time = boundary + hours * 60 * 60 * 1000;
+          for (long millis = -1; millis <= 1; millis++) {
+            assertFormat(time + millis, timeZone);
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testFormatRandomTimes() {
+    Random random = new Random(5);
+    long min = getTime(TimeZone.getTimeZone("UTC"), 1500, 1, 1, 0);
+    long max = getTime(TimeZone.getTimeZone("UTC"), 10100, 1, 1, 0);
+    for (TimeZone timeZone : getTimeZones()) {
+      for (int i = 0; i < RANDOM_TIMES; i++) {
+        // Mostly within the range handled directly, including negative times, with some across the full range
+        long time = (i % 10 == 0) ? random.nextLong() : (min + (long) (random.nextDouble() * (max - min)));
+        assertFormat(time, timeZone);
+        // Nearby in the same day, from the cache
+        assertFormat(time + random.nextInt(60 * 60 * 1000), timeZone);
+      }
+      for (long time : new long[] {Long.MIN_VALUE, -1, 0, 1, Long.MAX_VALUE}) {
+        assertFormat(time, timeZone);
+      }
+    }
+  }
+
+  private static final DateTimeFormatter CANONICAL = DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm:ss");
+
+  /**
+   * Tests around each offset transition, including daylight saving time gaps and overlaps.
+   */
+  @Test
+  public void testOffsetTransitions() {
+    for (TimeZone timeZone : getTimeZones()) {
+      if (timeZone instanceof SimpleTimeZone) {
+        continue;
+      }
+      ZoneRules rules = ZoneId.of(timeZone.getID()).getRules();
+      for (ZoneOffsetTransition transition : rules.getTransitions()) {
+        LocalDateTime before = transition.getDateTimeBefore();
+        if (before.getYear() < 1900 || before.getYear() > 2040) {
+          continue;
+        }
+        long instant = transition.toEpochSecond() * 1000;
+        for (long delta : new long[] {0, 1, 1000, 30 * 60 * 1000, 60 * 60 * 1000, 24 * 60 * 60 * 1000}) {
+          assertFormat(instant - delta, timeZone);
+          assertFormat(instant + delta, timeZone);
+        }
+        for (LocalDateTime local : new LocalDateTime[] {before, transition.getDateTimeAfter()}) {
+          for (int minutes = -90; minutes <= 90; minutes += 15) {
+            LocalDateTime nearby = local.plusMinutes(minutes);
+            String value = nearby.format(CANONICAL);
+            assertParse(value, timeZone);
+            assertParse(value + ".5", timeZone);
+            assertParse(nearby.toLocalDate().toString(), timeZone);
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testParseRandomCanonical() {
+    Random random = new Random(6);
+    for (TimeZone timeZone : getTimeZones()) {
+      for (int i = 0; i < RANDOM_TIMES / 10; i++) {
+        LocalDate date = LocalDate.of(1500 + random.nextInt(8600), 1, 1).plusDays(random.nextInt(366));
+        assertParse(date.toString(), timeZone);
+        LocalDateTime dateTime = date.atStartOfDay().plusSeconds(random.nextInt(24 * 60 * 60));
+        String value = dateTime.format(CANONICAL);
+        assertParse(value, timeZone);
+        StringBuilder fraction = new StringBuilder(value).append('.');
+        for (int digits = 1 + random.nextInt(9); digits > 0; digits--) {
+          fraction.append((char) ('0' + random.nextInt(10)));
+        }
+        assertParse(fraction.toString(), timeZone);
+      }
+    }
+  }
+
+  /**
+   * Non-canonical input, which falls back to {@link CalendarUtils}, must give the same result or exception.
+   */
+  @Test
+  public void testParseLenientAndInvalid() {
+    String[] values = {
+        // Lenient forms
+        "2020-1-5",
+        "2020-01-5",
+        " 2020-01-05",
+        "2020-01-05 ",
+        "2020-01-05 1:02:03",
+        "2020-01-05 12:34",
+        "2020-01-05 12:34:56.",
+        "2020-01-05 12:34:56.1234567890",
+        "2020-01-05  12:34:56",
+        "0001-01-01",
+        "0001-01-01 00:00:00",
+        // Around the Gregorian cutover and the first and last years handled directly
+        "1582-10-04",
+        "1582-10-10",
+        "1582-10-15",
+        "1582-12-31",
+        "1582-12-31 23:59:59.999999999",
+        "1583-01-01",
+        "1583-01-01 00:00:00",
+        "9999-12-31",
+        "9999-12-31 23:59:59.999999999",
+        "10000-01-01",
+        "10000-01-01 00:00:00",
+        // Leap days
+        "2020-02-29",
+        "2019-02-29",
+        "1900-02-29",
+        "2000-02-29",
+        // Invalid
+        "",
+        "2020",
+        "2020-13-01",
+        "2020-00-10",
+        "2020-01-00",
+        "2020-01-32",
+        "2020-04-31",
+        "2020/01/05",
+        "2020-01-05x",
+        "-2020-01-05",
+        "+2020-01-05",
+        "abcd-ef-gh",
+        "２０２０-01-05",
+        "2020-01-05T12:34:56",
+        "2020-01-05 24:00:00",
+        "2020-01-05 23:60:00",
+        "2020-01-05 23:59:60",
+        "2020-01-05 12:34:56.12a",
+        "2020-01-05 12:34:56,5",
+        "2020-01-05 -1:00:00"
+    };
+    for (TimeZone timeZone : getTimeZones()) {
+      for (String value : values) {
+        assertParse(value, timeZone);
+      }
+    }
+  }
+
+  /**
+   * The default time zone is used for {@code null}, the same as {@link GregorianCalendar#GregorianCalendar()}.
+   */
+  @Test
+  public void testDefaultTimeZone() {
+    TimeZone saved = TimeZone.getDefault();
+    try {
+      for (TimeZone timeZone : getTimeZones()) {
+        TimeZone.setDefault(timeZone);
+        Random random = new Random(7);
+        for (int i = 0; i < 1000; i++) {
+          long time = random.nextLong() >> random.nextInt(20);
+          GregorianCalendar gcal = new GregorianCalendar();
+          gcal.setTimeInMillis(time);
+          String message = time + " in default " + timeZone.getID();
+          assertEquals(message, CalendarUtils.formatDate(gcal), SQLUtility.formatDate(time));
+          assertEquals(message, CalendarUtils.formatDateTime(gcal), SQLUtility.formatDateTime(time));
+          assertEquals(message, CalendarUtils.formatTime(gcal), SQLUtility.formatTime(time));
+        }
+        assertEquals(
+            new Date(CalendarUtils.parseDate("2021-03-14", null).getTimeInMillis()),
+            SQLUtility.parseDate("2021-03-14")
+        );
+      }
+    } finally {
+      TimeZone.setDefault(saved);
+    }
+  }
+}
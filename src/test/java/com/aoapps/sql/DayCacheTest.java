@@ -0,0 +1,270 @@
+/*
+ * ao-sql - SQL and JDBC utilities.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql.
+ *
+ * ao-sql is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.SimpleTimeZone;
+import java.util.TimeZone;
+import org.junit.Test;
+
+/**
+ * Tests the matching of time zones to their {@link DayCache}, and the caching of days as counted by
+ * {@link SQLUtility#getDateCacheHits()} and {@link SQLUtility#getDateCacheMisses()}.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class DayCacheTest {
+
+  /**
+   * A custom time zone without value-based {@link Object#equals(java.lang.Object)} or
+   * {@link TimeZone#hasSameRules(java.util.TimeZone)}.
+   */
+  private static class CustomTimeZone extends TimeZone {
+    private static final long serialVersionUID = 1L;
+
+    private final int rawOffset;
+
+    private CustomTimeZone(String id, int rawOffset) {
+      this.rawOffset = rawOffset;
+      setID(id);
+    }
+
+    @Override
+    public int getOffset(int era, int year, int month, int day, int dayOfWeek, int milliseconds) {
+      return rawOffset;
+    }
+
+    @Override
+    public void setRawOffset(int offsetMillis) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int getRawOffset() {
+      return rawOffset;
+    }
+
+    @Override
+    public boolean useDaylightTime() {
+      return false;
+    }
+
+    @Override
+    public boolean inDaylightTime(Date date) {
+      return false;
+    }
+  }
+
+  @Test
+  public void testJdkTimeZoneMatchesCopy() {
+    TimeZone timeZone = TimeZone.getTimeZone("America/Chicago");
+    assertSame(DayCache.getInstance(timeZone), DayCache.getInstance((TimeZone) timeZone.clone()));
+    assertSame(DayCache.getInstance(timeZone), DayCache.getInstance(TimeZone.getTimeZone("America/Chicago")));
+  }
+
+  @Test
+  public void testCustomTimeZoneMatchesIdentity() {
+    TimeZone timeZone = new CustomTimeZone("Custom/Identity", 3600000);
+    assertSame(DayCache.getInstance(timeZone), DayCache.getInstance(timeZone));
+  }
+
+  @Test
+  public void testSameIdDifferentRules() {
+    DayCache cache1 = DayCache.getInstance(new SimpleTimeZone(3600000, "Test/SameId"));
+    DayCache cache2 = DayCache.getInstance(new SimpleTimeZone(7200000, "Test/SameId"));
+    assertNotSame(cache1, cache2);
+    assertSame(cache2, DayCache.getInstance(new SimpleTimeZone(7200000, "Test/SameId")));
+    assertNotSame(
+        DayCache.getInstance(new CustomTimeZone("Custom/SameId", 0)),
+        DayCache.getInstance(new CustomTimeZone("Custom/SameId", 0))
+    );
+  }
+
+  @Test
+  public void testRepeatedCustomTimeZoneKeepsOthers() {
+    DayCache cache = DayCache.getInstance(TimeZone.getTimeZone("Europe/Paris"));
+    TimeZone custom = new CustomTimeZone("Custom/Repeated", 0);
+    for (int i = 0; i < 1000; i++) {
+      DayCache.getInstance(custom);
+    }
+    assertSame(cache, DayCache.getInstance(TimeZone.getTimeZone("Europe/Paris")));
+  }
+
+  /**
+   * The default time zone is remembered until {@link TimeZone#setDefault(java.util.TimeZone)} changes its ID or rules.
+   */
+  @Test
+  public void testDefaultFollowsSetDefault() {
+    TimeZone saved = TimeZone.getDefault();
+    try {
+      TimeZone.setDefault(TimeZone.getTimeZone("America/Chicago"));
+      DayCache cache = DayCache.getDefault();
+      assertEquals("America/Chicago", cache.getTimeZone().getID());
+      assertSame(cache, DayCache.getDefault());
+      assertSame(cache.getTimeZone(), DateTimes.resolve(null));
+      assertSame(cache, DayCache.getInstance(TimeZone.getTimeZone("America/Chicago")));
+      // A different ID
+      TimeZone.setDefault(TimeZone.getTimeZone("Europe/Paris"));
+      assertEquals("Europe/Paris", DayCache.getDefault().getTimeZone().getID());
+      assertEquals("Europe/Paris", DateTimes.resolve(null).getID());
+      // The same ID with different rules
+      TimeZone.setDefault(new SimpleTimeZone(3600000, "Test/Default"));
+      DayCache before = DayCache.getDefault();
+      assertEquals(3600000, before.getTimeZone().getRawOffset());
+      TimeZone.setDefault(new SimpleTimeZone(7200000, "Test/Default"));
+      assertNotSame(before, DayCache.getDefault());
+      assertEquals(7200000, DayCache.getDefault().getTimeZone().getRawOffset());
+      // A custom time zone is matched by identity, and setDefault stores a copy
+      TimeZone.setDefault(new CustomTimeZone("Custom/Default", 0));
+      assertEquals("Custom/Default", DayCache.getDefault().getTimeZone().getID());
+    } finally {
+      TimeZone.setDefault(saved);
+    }
+  }
+
+  /**
+   * A new time zone with United States daylight saving time rules, so that each test starts with an empty cache.
+   */
+  private static TimeZone newDstTimeZone(String id) {
+    return new SimpleTimeZone(
+        -5 * 60 * 60 * 1000,
+        id,
+        Calendar.MARCH, 8, -Calendar.SUNDAY, 2 * 60 * 60 * 1000,
+        Calendar.NOVEMBER, 1, -Calendar.SUNDAY, 2 * 60 * 60 * 1000
+    );
+  }
+
+  private static long getTime(TimeZone timeZone, int year, int month, int day, int hour) {
+    GregorianCalendar gcal = new GregorianCalendar(timeZone);
+    gcal.clear();
+    gcal.set(year, month - 1, day, hour, 0, 0);
+    return gcal.getTimeInMillis();
+  }
+
+  /**
+   * Formats a time, asserting the number of hits and misses counted.
+   */
+  private static void assertCounts(long time, TimeZone timeZone, long expectedHits, long expectedMisses) {
+    long hits = SQLUtility.getDateCacheHits();
+    long misses = SQLUtility.getDateCacheMisses();
+    SQLUtility.formatDateTime(time, timeZone);
+    assertEquals("hits", expectedHits, SQLUtility.getDateCacheHits() - hits);
+    assertEquals("misses", expectedMisses, SQLUtility.getDateCacheMisses() - misses);
+  }
+
+  @Test
+  public void testCachedOnSecondMiss() {
+    TimeZone timeZone = newDstTimeZone("Test/SecondMiss");
+    long noon = getTime(timeZone, 2021, 6, 15, 12);
+    // First miss only remembers the day
+    assertCounts(noon, timeZone, 0, 1);
+    // Second miss caches the day
+    assertCounts(noon, timeZone, 0, 1);
+    // Then every time of the day hits
+    assertCounts(noon, timeZone, 1, 0);
+    assertCounts(getTime(timeZone, 2021, 6, 15, 0), timeZone, 1, 0);
+    assertCounts(getTime(timeZone, 2021, 6, 16, 0) - 1, timeZone, 1, 0);
+    // The next day is not cached
+    assertCounts(getTime(timeZone, 2021, 6, 16, 0), timeZone, 0, 1);
+  }
+
+  @Test
+  public void testScatteredDaysNotCached() {
+    TimeZone timeZone = newDstTimeZone("Test/Scattered");
+    long start = getTime(timeZone, 2021, 5, 1, 12);
+    int days = 50;
+    for (int pass = 0; pass < 2; pass++) {
+      for (int day = 0; day < days; day++) {
+        assertCounts(start + day * DateTimes.MILLIS_PER_DAY, timeZone, 0, 1);
+      }
+    }
+    for (int day = 0; day < days; day++) {
+      assertCounts(start + day * DateTimes.MILLIS_PER_DAY, timeZone, 1, 0);
+    }
+  }
+
+  @Test
+  public void testOffsetTransitionDaysNotCached() {
+    TimeZone timeZone = newDstTimeZone("Test/Transition");
+    for (long time : new long[] {
+        getTime(timeZone, 2021, 3, 14, 12),
+        getTime(timeZone, 2021, 11, 7, 12)
+    }) {
+      for (int i = 0; i < 5; i++) {
+        assertCounts(time, timeZone, 0, 1);
+      }
+    }
+    // Other days are cached
+    long before = getTime(timeZone, 2021, 3, 13, 23);
+    assertCounts(before, timeZone, 0, 1);
+    assertCounts(before, timeZone, 0, 1);
+    assertCounts(before, timeZone, 1, 0);
+    long after = getTime(timeZone, 2021, 3, 16, 12);
+    assertCounts(after, timeZone, 0, 1);
+    assertCounts(after, timeZone, 0, 1);
+    assertCounts(after, timeZone, 1, 0);
+  }
+
+  @Test
+  public void testOutOfRangeYearsNotCached() {
+    TimeZone timeZone = newDstTimeZone("Test/OutOfRange");
+    for (long time : new long[] {
+        getTime(timeZone, 1582, 12, 31, 12),
+        getTime(timeZone, 10000, 1, 1, 12)
+    }) {
+      for (int i = 0; i < 5; i++) {
+        assertCounts(time, timeZone, 0, 1);
+      }
+    }
+  }
+
+  /**
+   * Once the maximum number of time zones are cached, each new time zone discards only a single other time zone.
+   */
+  @Test
+  public void testMaxTimeZones() {
+    long noon = getTime(TimeZone.getTimeZone("UTC"), 2021, 6, 15, 12);
+    TimeZone timeZone = null;
+    for (int i = 0; i < DayCache.MAX_TIME_ZONES * 2; i++) {
+      timeZone = new SimpleTimeZone(i * 60 * 1000, "Test/Max" + i);
+      int count = DayCache.getTimeZoneCount();
+      assertCounts(noon, timeZone, 0, 1);
+      assertCounts(noon, timeZone, 0, 1);
+      assertCounts(noon, timeZone, 1, 0);
+      int newCount = DayCache.getTimeZoneCount();
+      assertTrue(newCount + " > " + DayCache.MAX_TIME_ZONES, newCount <= DayCache.MAX_TIME_ZONES);
+      assertEquals(Math.min(count + 1, DayCache.MAX_TIME_ZONES), newCount);
+    }
+    assertEquals(DayCache.MAX_TIME_ZONES, DayCache.getTimeZoneCount());
+    // The most recent time zone is still cached
+    assertCounts(noon, timeZone, 1, 0);
+  }
+}
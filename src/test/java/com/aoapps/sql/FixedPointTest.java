@@ -0,0 +1,361 @@
+/*
+ * ao-sql - SQL and JDBC utilities.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql.
+ *
+ * ao-sql is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Compares {@link FixedPoint} with {@link BigDecimal#toPlainString()} and {@link BigDecimal#setScale(int, java.math.RoundingMode)}
+ * at every scale.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class FixedPointTest {
+
+  /**
+   * The number of random values tested per scale.
+   */
+  private static final int RANDOM_VALUES = 100000;
+
+  /**
+   * Values at the edges of the range, and around each power of ten.
+   */
+  static long[] getEdgeValues() {
+    long[] values = new long[6 + 19 * 6];
+    int i = 0;
+    values[i++] = 0;
+    values[i++] = Long.MIN_VALUE;
+    values[i++] = Long.MIN_VALUE + 1;
+    values[i++] = Long.MAX_VALUE;
+    values[i++] = Integer.MIN_VALUE;
+    values[i++] = Integer.MAX_VALUE;
+    long pow = 1;
+    for (int exp = 0; exp <= 18; exp++) {
+      values[i++] = pow - 1;
+      values[i++] = pow;
+      values[i++] = pow + 1;
+      values[i++] = -pow + 1;
+      values[i++] = -pow;
+      values[i++] = -pow - 1;
+      pow *= 10;
+    }
+    return values;
+  }
+
+  /**
+   * Gets a random value across the full range, with lengths evenly distributed.
+   */
+  static long nextValue(Random random) {
+    return random.nextLong() >> random.nextInt(Long.SIZE);
+  }
+
+  private static void assertFormat(long value, int scale) {
+    String expected = BigDecimal.valueOf(value, scale).toPlainString();
+    String message = "value=" + value + ", scale=" + scale;
+    assertEquals(message, expected, FixedPoint.format(value, scale));
+    assertEquals(message, expected.length(), FixedPoint.length(value, scale));
+  }
+
+  @Test
+  public void testFormatEdgeValuesEveryScale() {
+    for (int scale = FixedPoint.MIN_SCALE; scale <= FixedPoint.MAX_SCALE; scale++) {
+      for (long value : getEdgeValues()) {
+        assertFormat(value, scale);
+      }
+    }
+  }
+
+  @Test
+  public void testFormatRandomValuesEveryScale() {
+    Random random = new Random(1);
+    for (int scale = FixedPoint.MIN_SCALE; scale <= FixedPoint.MAX_SCALE; scale++) {
+      for (int i = 0; i < RANDOM_VALUES; i++) {
+        assertFormat(nextValue(random), scale);
+      }
+    }
+  }
+
+  @Test
+  public void testParseRoundTripEveryScale() {
+    Random random = new Random(2);
+    for (int scale = FixedPoint.MIN_SCALE; scale <= FixedPoint.MAX_SCALE; scale++) {
+      for (long value : getEdgeValues()) {
+        assertEquals(value, FixedPoint.parse(FixedPoint.format(value, scale), scale));
+      }
+      for (int i = 0; i < RANDOM_VALUES; i++) {
+        long value = nextValue(random);
+        assertEquals(value, FixedPoint.parse(BigDecimal.valueOf(value, scale).toPlainString(), scale));
+      }
+    }
+  }
+
+  /**
+   * Formats a value through every variant, checking each against {@link BigDecimal#toPlainString()}.
+   */
+  private static void assertFormatAllVariants(long value, int scale) throws IOException {
+    String expected = BigDecimal.valueOf(value, scale).toPlainString();
+    String message = "value=" + value + ", scale=" + scale;
+    int len = expected.length();
+    assertEquals(message, expected, FixedPoint.format(value, scale));
+    char[] chars = new char[FixedPoint.MAX_LENGTH + 1];
+    assertEquals(message, len, FixedPoint.format(value, scale, chars, 1));
+    assertEquals(message, expected, new String(chars, 1, len));
+    byte[] bytes = new byte[FixedPoint.MAX_LENGTH + 1];
+    assertEquals(message, len, FixedPoint.format(value, scale, bytes, 1));
+    assertEquals(message, expected, new String(bytes, 1, len, StandardCharsets.US_ASCII));
+    for (ByteBuffer buf : new ByteBuffer[] {ByteBuffer.allocate(FixedPoint.MAX_LENGTH + 1), ByteBuffer.allocateDirect(FixedPoint.MAX_LENGTH + 1)}) {
+      buf.position(1);
+      assertEquals(message, len, FixedPoint.format(value, scale, buf));
+      assertEquals(message, 1 + len, buf.position());
+      buf.flip().position(1);
+      assertEquals(message, expected, StandardCharsets.US_ASCII.decode(buf).toString());
+    }
+    // A heap buffer with an array offset
+    ByteBuffer slice = ByteBuffer.allocate(FixedPoint.MAX_LENGTH + 3).position(2).slice();
+    slice.position(1);
+    assertEquals(message, len, FixedPoint.format(value, scale, slice));
+    assertEquals(message, 1 + len, slice.position());
+    slice.flip().position(1);
+    assertEquals(message, expected, StandardCharsets.US_ASCII.decode(slice).toString());
+    StringBuilder sb = new StringBuilder("prefix");
+    assertEquals(message, len, FixedPoint.format(value, scale, sb));
+    assertEquals(message, "prefix" + expected, sb.toString());
+    sb.setLength(0);
+    assertEquals(message, len, FixedPoint.format(value, scale, (Appendable) sb));
+    assertEquals(message, expected, sb.toString());
+    sb.setLength(0);
+    char[] work = new char[FixedPoint.MAX_LENGTH];
+    assertEquals(message, len, FixedPoint.format(value, scale, sb, work));
+    assertEquals(message, expected, sb.toString());
+    StringWriter writer = new StringWriter();
+    assertEquals(message, len, FixedPoint.format(value, scale, writer));
+    assertEquals(message, len, FixedPoint.format(value, scale, writer, work));
+    assertEquals(message, expected + expected, writer.toString());
+    CharBuffer other = CharBuffer.allocate(FixedPoint.MAX_LENGTH * 2);
+    assertEquals(message, len, FixedPoint.format(value, scale, (Appendable) other));
+    assertEquals(message, len, FixedPoint.format(value, scale, (Appendable) other, work));
+    assertEquals(message, expected + expected, other.flip().toString());
+    String[] strings = new String[1];
+    FixedPoint.format(new long[] {value}, 0, strings, 0, 1, scale);
+    assertEquals(message, expected, strings[0]);
+    sb.setLength(0);
+    FixedPoint.format(new long[] {value, value}, 0, 2, scale, ",", sb);
+    assertEquals(message, expected + ',' + expected, sb.toString());
+  }
+
+  /**
+   * {@link Long#MIN_VALUE} at scale 0 was not formatted by any variant, since its magnitude does not fit in a
+   * {@code long}.
+   */
+  @Test
+  public void testFormatMinValueAllVariants() throws IOException {
+    for (int scale = FixedPoint.MIN_SCALE; scale <= FixedPoint.MAX_SCALE; scale++) {
+      assertFormatAllVariants(Long.MIN_VALUE, scale);
+      assertFormatAllVariants(Long.MIN_VALUE + 1, scale);
+      assertFormatAllVariants(Long.MAX_VALUE, scale);
+    }
+  }
+
+  @Test
+  public void testFormatEdgeValuesAllVariants() throws IOException {
+    for (int scale = FixedPoint.MIN_SCALE; scale <= FixedPoint.MAX_SCALE; scale++) {
+      for (long value : getEdgeValues()) {
+        assertFormatAllVariants(value, scale);
+      }
+    }
+  }
+
+  @Test
+  public void testFormatWorkingBufferTooSmall() {
+    assertThrows(IllegalArgumentException.class,
+        () -> FixedPoint.format(0, 2, new StringWriter(), new char[FixedPoint.MAX_LENGTH - 1]));
+  }
+
+  /**
+   * Gets the expected result of parsing, as the value or the class of the exception thrown.
+   *
+   * @param  roundingMode  The rounding mode or {@code null} to not allow more fractional digits than the scale
+   */
+  private static Object expectedParse(String value, int scale, RoundingMode roundingMode) {
+    BigDecimal decimal;
+    try {
+      decimal = new BigDecimal(value);
+    } catch (NumberFormatException e) {
+      return NumberFormatException.class;
+    }
+    if (roundingMode == null && decimal.scale() > scale) {
+      // Too many fractional digits, even when zero
+      return NumberFormatException.class;
+    }
+    if (decimal.setScale(scale, RoundingMode.DOWN).unscaledValue().bitLength() >= Long.SIZE) {
+      // Out of range before rounding takes precedence over rounding being necessary
+      return NumberFormatException.class;
+    }
+    BigDecimal scaled;
+    try {
+      scaled = decimal.setScale(scale, roundingMode == null ? RoundingMode.UNNECESSARY : roundingMode);
+    } catch (ArithmeticException e) {
+      return ArithmeticException.class;
+    }
+    try {
+      return scaled.unscaledValue().longValueExact();
+    } catch (ArithmeticException e) {
+      // Out of range is a NumberFormatException, as with Long.parseLong
+      return NumberFormatException.class;
+    }
+  }
+
+  private static Object actualParse(String value, int scale, RoundingMode roundingMode) {
+    try {
+      return roundingMode == null ? FixedPoint.parse(value, scale) : FixedPoint.parse(value, scale, roundingMode);
+    } catch (NumberFormatException | ArithmeticException e) {
+      return e.getClass();
+    }
+  }
+
+  private static void assertParse(String value, int scale) {
+    assertEquals(value + ", scale=" + scale, expectedParse(value, scale, null), actualParse(value, scale, null));
+    for (RoundingMode roundingMode : RoundingMode.values()) {
+      assertEquals(value + ", scale=" + scale + ", " + roundingMode,
+          expectedParse(value, scale, roundingMode), actualParse(value, scale, roundingMode));
+    }
+  }
+
+  private static void appendDigits(Random random, int count, StringBuilder sb) {
+    for (int i = 0; i < count; i++) {
+      sb.append((char) ('0' + random.nextInt(10)));
+    }
+  }
+
+  /**
+   * Values at the edges of the range at each scale, followed by discarded digits that round each way, including a
+   * tie that rounds away from zero past {@link Long#MAX_VALUE} or {@link Long#MIN_VALUE}.
+   */
+  @Test
+  public void testParseRoundingAtEdgesEveryScale() {
+    String[] discarded = {"", "0", "000", "1", "4", "49999", "5", "50", "50001", "6", "9", "99999"};
+    for (int scale = FixedPoint.MIN_SCALE; scale <= FixedPoint.MAX_SCALE; scale++) {
+      for (long value : getEdgeValues()) {
+        String formatted = FixedPoint.format(value, scale);
+        for (String digits : discarded) {
+          String withDigits = scale == 0 ? formatted + '.' + digits : formatted + digits;
+          assertParse(withDigits, scale);
+          if (value >= 0) {
+            assertParse('+' + withDigits, scale);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Random values of up to 21 whole digits, with up to three more fractional digits than the scale, in the lenient
+   * forms without whole or fractional digits.
+   */
+  @Test
+  public void testParseRandomEveryRoundingMode() {
+    Random random = new Random(9);
+    StringBuilder sb = new StringBuilder();
+    for (int scale = FixedPoint.MIN_SCALE; scale <= FixedPoint.MAX_SCALE; scale++) {
+      for (int i = 0; i < RANDOM_VALUES / 10; i++) {
+        sb.setLength(0);
+        switch (random.nextInt(3)) {
+          case 0:
+            sb.append('-');
+            break;
+          case 1:
+            sb.append('+');
+            break;
+          default:
+            // No sign
+        }
+        int wholeDigits = random.nextInt(22);
+        appendDigits(random, wholeDigits, sb);
+        if (random.nextInt(4) != 0) {
+          sb.append('.');
+          appendDigits(random, random.nextInt(scale + 4), sb);
+        }
+        if (wholeDigits == 0 && (sb.length() == 0 || sb.charAt(sb.length() - 1) == '.' || sb.charAt(sb.length() - 1) == '-'
+            || sb.charAt(sb.length() - 1) == '+')) {
+          // BigDecimal requires at least one digit
+          sb.append('0');
+        }
+        assertParse(sb.toString(), scale);
+      }
+    }
+  }
+
+  @Test
+  public void testParseRoundingModes() {
+    // Ties
+    assertEquals(3, FixedPoint.parse("2.5", 0, RoundingMode.HALF_UP));
+    assertEquals(2, FixedPoint.parse("2.5", 0, RoundingMode.HALF_DOWN));
+    assertEquals(2, FixedPoint.parse("2.5", 0, RoundingMode.HALF_EVEN));
+    assertEquals(4, FixedPoint.parse("3.5", 0, RoundingMode.HALF_EVEN));
+    assertEquals(3, FixedPoint.parse("2.5000001", 0, RoundingMode.HALF_DOWN));
+    assertEquals(-3, FixedPoint.parse("-2.5", 0, RoundingMode.HALF_UP));
+    // Toward and away from zero, and toward each infinity
+    assertEquals(-124, FixedPoint.parse("-1.231", 2, RoundingMode.UP));
+    assertEquals(-123, FixedPoint.parse("-1.239", 2, RoundingMode.DOWN));
+    assertEquals(-123, FixedPoint.parse("-1.239", 2, RoundingMode.CEILING));
+    assertEquals(-124, FixedPoint.parse("-1.231", 2, RoundingMode.FLOOR));
+    assertEquals(124, FixedPoint.parse("1.231", 2, RoundingMode.CEILING));
+    assertEquals(123, FixedPoint.parse("1.239", 2, RoundingMode.FLOOR));
+    // Only non-zero discarded digits need rounding
+    assertEquals(123, FixedPoint.parse("1.230000", 2, RoundingMode.UNNECESSARY));
+    assertThrows(ArithmeticException.class, () -> FixedPoint.parse("1.2300001", 2, RoundingMode.UNNECESSARY));
+    assertThrows(NumberFormatException.class, () -> FixedPoint.parse("1.230000", 2));
+    // Rounding up past the range of a long
+    assertEquals(Long.MAX_VALUE, FixedPoint.parse("9223372036854775807.4", 0, RoundingMode.HALF_UP));
+    assertThrows(NumberFormatException.class, () -> FixedPoint.parse("9223372036854775807.5", 0, RoundingMode.HALF_UP));
+    assertThrows(NumberFormatException.class, () -> FixedPoint.parse("92233720368547758.071", 2, RoundingMode.UP));
+    assertEquals(Long.MIN_VALUE, FixedPoint.parse("-92233720368547758.089", 2, RoundingMode.DOWN));
+    assertThrows(NumberFormatException.class, () -> FixedPoint.parse("-92233720368547758.081", 2, RoundingMode.FLOOR));
+    assertEquals(Long.MIN_VALUE, FixedPoint.parse("-92233720368547758.081", 2, RoundingMode.CEILING));
+  }
+
+  @Test
+  public void testParseInvalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> FixedPoint.parse("1", FixedPoint.MIN_SCALE - 1));
+    assertThrows(IllegalArgumentException.class, () -> FixedPoint.parse("1", FixedPoint.MAX_SCALE + 1, RoundingMode.UP));
+    assertThrows(NullPointerException.class, () -> FixedPoint.parse("1", 2, null));
+    assertThrows(IndexOutOfBoundsException.class, () -> FixedPoint.parse("1.5", 2, 2, 2));
+    for (String value : new String[] {"", "-", "+", "1.2.3", "1a", "--1"}) {
+      for (RoundingMode roundingMode : RoundingMode.values()) {
+        assertThrows(value, NumberFormatException.class, () -> FixedPoint.parse(value, 2, roundingMode));
+      }
+    }
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * ao-sql - SQL and JDBC utilities.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql.
+ *
+ * ao-sql is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql;
+
+import com.aoapps.lang.util.CalendarUtils;
+import java.util.GregorianCalendar;
+import java.util.Random;
+import java.util.TimeZone;
+
+/**
+ * Times {@link SQLUtility#formatDate(long, java.util.TimeZone)},
+ * {@link SQLUtility#formatDateTime(long, java.util.TimeZone)}, and {@link SQLUtility#formatTime(long, java.util.TimeZone)}
+ * against the previous implementation, which created a {@link GregorianCalendar} per call.
+ *
+ * <p>This is not run as a test.  Run its {@link #main(java.lang.String[])} directly.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public final class FormatDateTimeBenchmark {
+
+  /** Make no instances. */
+  private FormatDateTimeBenchmark() {
+    throw new AssertionError();
+  }
+
+  private static final int VALUES = 1 << 14;
+  private static final int ITERATIONS = 50;
+  private static final int ROUNDS = 5;
+
+  /**
+   * Formats a value.
+   */
+  @FunctionalInterface
+  private interface Formatter {
+    String format(long time, TimeZone timeZone);
+  }
+
+  /**
+   * Times a formatter, returning the nanoseconds per value of the last round.
+   */
+  private static double time(Formatter formatter, long[] values, TimeZone timeZone) {
+    double nanosPerOp = 0;
+    long hash = 0;
+    for (int round = 0; round < ROUNDS; round++) {
+      long start = System.nanoTime();
+      for (int i = 0; i < ITERATIONS; i++) {
+        for (long value : values) {
+          hash += formatter.format(value, timeZone).length();
+        }
+      }
+      nanosPerOp = (System.nanoTime() - start) / ((double) ITERATIONS * values.length);
+    }
+    if (hash == 0) {
+      throw new AssertionError();
+    }
+    return nanosPerOp;
+  }
+
+  private static void compare(String name, Formatter previous, Formatter current, long[] values, TimeZone timeZone) {
+    double previousNanos = time(previous, values, timeZone);
+    double currentNanos = time(current, values, timeZone);
+    System.out.printf("  %-15s %8.1f ns/op previous, %8.1f ns/op current, %5.1fx%n",
+        name, previousNanos, currentNanos, previousNanos / currentNanos);
+  }
+
+  public static void main(String[] args) {
+    TimeZone timeZone = TimeZone.getTimeZone(args.length > 0 ? args[0] : "America/Chicago");
+    Random random = new Random(5);
+    long[] values = new long[VALUES];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = 1600000000000L + random.nextLong() % 200000000000L;
+    }
+    System.out.println(timeZone.getID() + ", " + VALUES + " random values within about six years");
+    compare("formatDate", (time, tz) -> {
+      GregorianCalendar gcal = new GregorianCalendar(tz);
+      gcal.setTimeInMillis(time);
+      return CalendarUtils.formatDate(gcal);
+    }, SQLUtility::formatDate, values, timeZone);
+    compare("formatDateTime", (time, tz) -> {
+      GregorianCalendar gcal = new GregorianCalendar(tz);
+      gcal.setTimeInMillis(time);
+      return CalendarUtils.formatDateTime(gcal);
+    }, SQLUtility::formatDateTime, values, timeZone);
+    compare("formatTime", (time, tz) -> {
+      GregorianCalendar gcal = new GregorianCalendar(tz);
+      gcal.setTimeInMillis(time);
+      return CalendarUtils.formatTime(gcal);
+    }, SQLUtility::formatTime, values, timeZone);
+  }
+}
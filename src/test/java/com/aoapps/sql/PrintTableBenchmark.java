@@ -0,0 +1,91 @@
+/*
+ * ao-sql - SQL and JDBC utilities.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql.
+ *
+ * ao-sql is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Times {@link SQLUtility#printTable(java.lang.Object[], java.lang.Iterable, java.lang.Appendable, boolean, boolean[])}
+ * for a wide table written to a {@link StringWriter} and to a {@link BufferedWriter}.
+ *
+ * <p>This is not run as a test.  Run its {@link #main(java.lang.String[])} directly and compare the best times before
+ * and after a change.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public final class PrintTableBenchmark {
+
+  /** Make no instances. */
+  private PrintTableBenchmark() {
+    throw new AssertionError();
+  }
+
+  private static final int COLUMNS = 24;
+  private static final int ROWS = 4000;
+  private static final int REPETITIONS = 30;
+
+  public static void main(String[] args) throws IOException {
+    Random random = new Random(1);
+    Object[] titles = new Object[COLUMNS];
+    boolean[] alignRights = new boolean[COLUMNS];
+    for (int col = 0; col < COLUMNS; col++) {
+      titles[col] = "column_" + col;
+      alignRights[col] = col % 3 == 0;
+    }
+    List<Object[]> rows = new ArrayList<>(ROWS);
+    for (int i = 0; i < ROWS; i++) {
+      Object[] row = new Object[COLUMNS];
+      for (int col = 0; col < COLUMNS; col++) {
+        row[col] = col % 3 == 0 ? (Object) random.nextInt(1000) : "v" + "x".repeat(random.nextInt(20));
+      }
+      rows.add(row);
+    }
+    long bestStringWriter = Long.MAX_VALUE;
+    long bestBufferedWriter = Long.MAX_VALUE;
+    for (int rep = 0; rep < REPETITIONS; rep++) {
+      StringWriter stringWriter = new StringWriter(1 << 24);
+      long start = System.nanoTime();
+      SQLUtility.printTable(titles, rows, stringWriter, true, alignRights);
+      bestStringWriter = Math.min(bestStringWriter, System.nanoTime() - start);
+
+      start = System.nanoTime();
+      try (Writer bufferedWriter = new BufferedWriter(new OutputStreamWriter(OutputStream.nullOutputStream(), StandardCharsets.UTF_8))) {
+        SQLUtility.printTable(titles, rows, bufferedWriter, true, alignRights);
+      }
+      bestBufferedWriter = Math.min(bestBufferedWriter, System.nanoTime() - start);
+    }
+    System.out.printf("%d columns x %d rows, best of %d%n", COLUMNS, ROWS, REPETITIONS);
+    System.out.printf("  StringWriter:   %8.2f ms%n", bestStringWriter / 1e6);
+    System.out.printf("  BufferedWriter: %8.2f ms%n", bestBufferedWriter / 1e6);
+  }
+}
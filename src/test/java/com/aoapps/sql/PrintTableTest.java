@@ -0,0 +1,289 @@
+/*
+ * ao-sql - SQL and JDBC utilities.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql.
+ *
+ * ao-sql is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Test;
+
+/**
+ * Compares the output of {@link SQLUtility#printTable(java.lang.Object[], java.lang.Iterable, java.lang.Appendable, boolean, boolean[])}
+ * with the exact output of its original implementation, both to a {@link StringBuilder} and through a
+ * {@link java.io.Writer}.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class PrintTableTest {
+
+  private static final Object[] TITLES = {"Name", "Qty", "Notes"};
+
+  private static final List<Object[]> ROWS = Arrays.asList(
+      new Object[] {"apple", 3, "crisp"},
+      new Object[] {"banana", 12, "line one\nline two is longer"},
+      new Object[] {null, null, ""},
+      new Object[] {"x\r\ny", -1, "tail\n"},
+      new Object[] {"it's", 1000, "a \"b\" \\c"}
+  );
+
+  private static final boolean[] ALIGN_RIGHTS = {false, true, false};
+
+  /**
+   * Joins lines of expected output, each followed by the line separator.
+   */
+  private static String lines(String... lines) {
+    StringBuilder sb = new StringBuilder();
+    for (String line : lines) {
+      sb.append(line).append(System.lineSeparator());
+    }
+    return sb.toString();
+  }
+
+  private static void assertTable(String expected, Object[] titles, Iterable<? extends Object[]> rows, boolean isInteractive,
+      boolean[] alignRights) throws IOException {
+    StringBuilder sb = new StringBuilder();
+    SQLUtility.printTable(titles, rows, sb, isInteractive, alignRights);
+    assertEquals(expected, sb.toString());
+    StringWriter writer = new StringWriter();
+    SQLUtility.printTable(titles, rows, writer, isInteractive, alignRights);
+    assertEquals(expected, writer.toString());
+  }
+
+  @Test
+  public void testMultiLineAndNullValues() throws IOException {
+    assertTable(
+        lines(
+            "┌────────┬──────┬────────────────────┐",
+            "│  Name  │ Qty  │       Notes        │",
+            "├────────┼──────┼────────────────────┤",
+            "│ apple  │    3 │ crisp              │",
+            "│ banana │   12 │ line one          ↵│",
+            "│        │      │ line two is longer │",
+            "│        │      │                    │",
+            "│ x     ↵│   -1 │ tail              ↵│",
+            "│ y      │      │                    │",
+            "│ it's   │ 1000 │ a \"b\" \\c           │",
+            "└────────┴──────┴────────────────────┘",
+            "(5 rows)",
+            ""
+        ),
+        TITLES, ROWS, true, ALIGN_RIGHTS
+    );
+  }
+
+  @Test
+  public void testNoTitles() throws IOException {
+    assertTable(
+        lines(
+            "┌────────┬──────┬────────────────────┐",
+            "│ apple  │    3 │ crisp              │",
+            "│ banana │   12 │ line one          ↵│",
+            "│        │      │ line two is longer │",
+            "│        │      │                    │",
+            "│ x     ↵│   -1 │ tail              ↵│",
+            "│ y      │      │                    │",
+            "│ it's   │ 1000 │ a \"b\" \\c           │",
+            "└────────┴──────┴────────────────────┘",
+            "(5 rows)",
+            ""
+        ),
+        null, ROWS, true, ALIGN_RIGHTS
+    );
+  }
+
+  @Test
+  public void testNoRows() throws IOException {
+    assertTable(
+        lines(
+            "┌──────┬─────┬───────┐",
+            "│ Name │ Qty │ Notes │",
+            "├──────┼─────┼───────┤",
+            "└──────┴─────┴───────┘",
+            "(No rows)",
+            ""
+        ),
+        TITLES, Collections.emptyList(), true, ALIGN_RIGHTS
+    );
+    assertTable(
+        lines(
+            "┌──┬──┬──┐",
+            "└──┴──┴──┘",
+            "(No rows)",
+            ""
+        ),
+        null, Collections.emptyList(), true, ALIGN_RIGHTS
+    );
+  }
+
+  @Test
+  public void testSingleCell() throws IOException {
+    assertTable(
+        lines(
+            "┌───┐",
+            "│ A │",
+            "├───┤",
+            "│ b │",
+            "└───┘",
+            "(1 row)",
+            ""
+        ),
+        new Object[] {"A"}, Collections.singletonList(new Object[] {"b"}), true, new boolean[] {true}
+    );
+  }
+
+  @Test
+  public void testAlignRights() throws IOException {
+    assertTable(
+        lines(
+            "┌────────┬──────┬────────────────────┐",
+            "│  Name  │ Qty  │       Notes        │",
+            "├────────┼──────┼────────────────────┤",
+            "│  apple │    3 │              crisp │",
+            "│ banana │   12 │           line one↵│",
+            "│        │      │ line two is longer │",
+            "│        │      │                    │",
+            "│      x↵│   -1 │               tail↵│",
+            "│      y │      │                    │",
+            "│   it's │ 1000 │           a \"b\" \\c │",
+            "└────────┴──────┴────────────────────┘",
+            "(5 rows)",
+            ""
+        ),
+        TITLES, ROWS, true, new boolean[] {true, true, true}
+    );
+  }
+
+  @Test
+  public void testNoColumns() throws IOException {
+    assertTable(
+        lines(
+            "┌──┐",
+            "├──┤",
+            "│  │",
+            "│  │",
+            "└──┘",
+            "(2 rows)",
+            ""
+        ),
+        new Object[0], Arrays.asList(new Object[0], new Object[0]), true, new boolean[0]
+    );
+  }
+
+  @Test
+  public void testWideTitle() throws IOException {
+    assertTable(
+        lines(
+            "┌───────────────────┬───────┐",
+            "│ A very wide title │   B   │",
+            "├───────────────────┼───────┤",
+            "│ short             │ multi↵│",
+            "│                   │  line↵│",
+            "│                   │  cell │",
+            "└───────────────────┴───────┘",
+            "(1 row)",
+            ""
+        ),
+        new Object[] {"A very wide title", "B"}, Collections.singletonList(new Object[] {"short", "multi\nline\ncell"}), true,
+        new boolean[] {false, true}
+    );
+  }
+
+  @Test
+  public void testNonInteractive() throws IOException {
+    String eol = System.lineSeparator();
+    assertTable(
+        "apple 3 crisp" + eol
+            + "banana 12 'line one\nline two is longer'" + eol
+            + "'' '' ''" + eol
+            + "'x\r\ny' -1 'tail\n'" + eol
+            + "'it\\'s' 1000 'a \"b\" \\c'" + eol,
+        TITLES, ROWS, false, ALIGN_RIGHTS
+    );
+  }
+
+  /**
+   * The output is much longer than the internal output buffer, with a multi-character row that does not evenly divide
+   * its size.
+   */
+  @Test
+  public void testLongerThanBuffer() throws IOException {
+    final int rowCount = 1000;
+    List<Object[]> rows = new ArrayList<>(rowCount);
+    List<String> expected = new ArrayList<>();
+    expected.add("┌───────┬─────┬───────┐");
+    expected.add("│ Name  │ Qty │ Notes │");
+    expected.add("├───────┼─────┼───────┤");
+    for (int i = 0; i < rowCount; i++) {
+      if ((i & 1) == 0) {
+        rows.add(new Object[] {"apple", 3, "crisp"});
+        expected.add("│ apple │   3 │ crisp │");
+      } else {
+        rows.add(new Object[] {"pear", 12, "a\nb"});
+        expected.add("│ pear  │  12 │ a    ↵│");
+        expected.add("│       │     │ b     │");
+      }
+    }
+    expected.add("└───────┴─────┴───────┘");
+    expected.add("(" + rowCount + " rows)");
+    expected.add("");
+    String expectedOutput = lines(expected.toArray(new String[expected.size()]));
+    assertTable(expectedOutput, TITLES, rows, true, ALIGN_RIGHTS);
+  }
+
+  /**
+   * Wide characters take two columns and combining characters none.  This intentionally differs from the original
+   * implementation, which counted one column per code point.
+   */
+  @Test
+  public void testDisplayWidth() throws IOException {
+    assertTable(
+        lines(
+            "┌────────┬──────┐",
+            "│  名前  │ Qty  │",
+            "├────────┼──────┤",
+            "│ 日本語 │    1 │",
+            "│ e\u0301te\u0301    │   22 │",
+            "│ \ud83c\udf4e pie │ 4444 │",
+            "│ x      │   五 │",
+            "└────────┴──────┘",
+            "(4 rows)",
+            ""
+        ),
+        new Object[] {"名前", "Qty"},
+        Arrays.asList(
+            new Object[] {"日本語", 1},
+            new Object[] {"e\u0301te\u0301", 22},
+            new Object[] {"\ud83c\udf4e pie", 4444},
+            new Object[] {"x", "五"}
+        ),
+        true,
+        new boolean[] {false, true}
+    );
+  }
+}
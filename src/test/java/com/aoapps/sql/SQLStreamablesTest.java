@@ -0,0 +1,517 @@
+/*
+ * ao-sql - SQL and JDBC utilities.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql.
+ *
+ * ao-sql is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import com.aoapps.hodgepodge.io.stream.StreamableOutput;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+
+/**
+ * Tests the wire protocols of {@link SQLStreamables}.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class SQLStreamablesTest {
+
+  private static DataInputStream toInput(ByteArrayOutputStream bout) {
+    return new DataInputStream(new ByteArrayInputStream(bout.toByteArray()));
+  }
+
+  /**
+   * The first value of each length of compressed int, from one to four bytes, and one past the last.
+   */
+  private static final int[] COMPRESSED_INT_BOUNDARIES = {0, 0x10, 0x1000, 0x200000, 0x40000000};
+
+  /**
+   * Gets the values at and around each length boundary of a compressed int, both positive and negative.
+   */
+  private static List<Integer> getCompressedIntValues() {
+    List<Integer> values = new ArrayList<>();
+    for (int boundary : COMPRESSED_INT_BOUNDARIES) {
+      for (int i = boundary - 1; i <= boundary + 1; i++) {
+        for (int value : new int[] {i, -i}) {
+          if (value >= -0x40000000 && value < 0x40000000 && !values.contains(value)) {
+            values.add(value);
+          }
+        }
+      }
+    }
+    return values;
+  }
+
+  /**
+   * Gets the bytes written by {@link StreamableOutput#writeCompressedInt(int, java.io.DataOutputStream)}.
+   */
+  private static byte[] getExpectedBytes(int value) throws IOException {
+    ByteArrayOutputStream bout = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(bout)) {
+      StreamableOutput.writeCompressedInt(value, out);
+    }
+    return bout.toByteArray();
+  }
+
+  /**
+   * Compares every compressed int codec against {@link StreamableOutput#writeCompressedInt(int, java.io.DataOutputStream)}
+   * at every length boundary: a {@link DataOutputStream}, a {@link RandomAccessFile} as another {@link java.io.DataOutput},
+   * and a {@link ByteBuffer} in both byte orders.
+   */
+  @Test
+  public void testCompressedIntMatchesStreamableOutput() throws IOException {
+    File tempFile = File.createTempFile("SQLStreamablesTest", null);
+    try (RandomAccessFile raf = new RandomAccessFile(tempFile, "rw")) {
+      for (int value : getCompressedIntValues()) {
+        String message = Integer.toString(value);
+        byte[] expected = getExpectedBytes(value);
+        assertEquals(message, expected.length, SQLStreamables.compressedIntSize(value));
+
+        // DataOutputStream, delegated
+        ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bout)) {
+          SQLStreamables.writeCompressedInt(value, out);
+        }
+        assertArrayEquals(message, expected, bout.toByteArray());
+        assertEquals(message, value, SQLStreamables.readCompressedInt(new DataInputStream(new ByteArrayInputStream(expected))));
+
+        // Any other DataOutput
+        raf.setLength(0);
+        SQLStreamables.writeCompressedInt(value, raf);
+        byte[] rafBytes = new byte[(int) raf.length()];
+        raf.seek(0);
+        raf.readFully(rafBytes);
+        assertArrayEquals(message, expected, rafBytes);
+        raf.seek(0);
+        assertEquals(message, value, SQLStreamables.readCompressedInt(raf));
+
+        // ByteBuffer, always big-endian
+        for (ByteOrder order : new ByteOrder[] {ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+          ByteBuffer buf = ByteBuffer.allocate(8).order(order);
+          buf.put((byte) 0x55);
+          SQLStreamables.writeCompressedInt(value, buf);
+          assertEquals(message, 1 + expected.length, buf.position());
+          assertArrayEquals(message, expected, Arrays.copyOfRange(buf.array(), 1, buf.position()));
+          buf.flip().position(1);
+          assertEquals(message, value, SQLStreamables.readCompressedInt(buf));
+          assertEquals(message, 0, buf.remaining());
+        }
+      }
+      // Out of range
+      for (int value : new int[] {0x40000000, -0x40000001, Integer.MAX_VALUE, Integer.MIN_VALUE}) {
+        raf.setLength(0);
+        assertThrows(IOException.class, () -> SQLStreamables.writeCompressedInt(value, raf));
+        assertEquals(0, raf.length());
+      }
+    } finally {
+      tempFile.delete();
+    }
+  }
+
+  @Test
+  public void testTimestampsRoundTrip() throws IOException {
+    Timestamp[] timestamps = new Timestamp[20000];
+    for (int i = 0; i < timestamps.length; i++) {
+      if (i % 7 != 3) {
+        timestamps[i] = new Timestamp(1700000000000L + i * 1001L);
+        timestamps[i].setNanos((i * 7919) % 1000000000);
+      }
+    }
+    ByteArrayOutputStream bout = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(bout)) {
+      SQLStreamables.writeTimestamps(timestamps, out);
+      SQLStreamables.writeTimestamps(new Timestamp[3], out);
+      SQLStreamables.writeTimestamps(new Timestamp[0], out);
+    }
+    DataInputStream in = toInput(bout);
+    assertArrayEquals(timestamps, SQLStreamables.readTimestamps(in));
+    assertArrayEquals(new Timestamp[3], SQLStreamables.readTimestamps(in));
+    assertArrayEquals(new Timestamp[0], SQLStreamables.readTimestamps(in));
+  }
+
+  @Test
+  public void testInstantsRoundTrip() throws IOException {
+    Instant[] instants = {
+        Instant.MIN,
+        Instant.ofEpochSecond(-1, 999999999),
+        null,
+        Instant.EPOCH,
+        Instant.ofEpochSecond(1700000000, 123456789),
+        Instant.ofEpochSecond(1700000001, 123000000),
+        null,
+        Instant.MAX
+    };
+    ByteArrayOutputStream bout = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(bout)) {
+      for (Instant instant : instants) {
+        SQLStreamables.writeNullInstant(instant, out);
+      }
+      SQLStreamables.writeInstants(instants, out);
+      // Same protocol as Timestamp
+      SQLStreamables.writeTimestamp(Timestamp.from(instants[4]), out);
+    }
+    DataInputStream in = toInput(bout);
+    for (Instant instant : instants) {
+      assertEquals(instant, SQLStreamables.readNullInstant(in));
+    }
+    assertArrayEquals(instants, SQLStreamables.readInstants(in));
+    assertEquals(instants[4], SQLStreamables.readInstant(in));
+  }
+
+  @Test
+  public void testInstantOutOfRange() throws IOException {
+    ByteArrayOutputStream bout = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(bout)) {
+      out.writeLong(Instant.MAX.getEpochSecond() + 1);
+      StreamableOutput.writeCompressedInt(0, out);
+      out.writeLong(0);
+      StreamableOutput.writeCompressedInt(1000000000, out);
+    }
+    DataInputStream in = toInput(bout);
+    assertThrows(IOException.class, () -> SQLStreamables.readInstant(in));
+    assertThrows(IOException.class, () -> SQLStreamables.readInstant(in));
+  }
+
+  /**
+   * Writes the header of a block with a huge count, followed by a single chunk of the given bytes.
+   */
+  private static ByteArrayOutputStream hugeBlock(byte... chunk) throws IOException {
+    ByteArrayOutputStream bout = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(bout)) {
+      StreamableOutput.writeCompressedInt(StreamableOutput.MAX_COMPRESSED_INT_VALUE, out);
+      StreamableOutput.writeCompressedInt(chunk.length, out);
+      out.write(chunk);
+    }
+    return bout;
+  }
+
+  /**
+   * A huge count without the data to back it must fail at the end of the data, without first allocating for the
+   * count.
+   */
+  @Test
+  public void testHugeCountWithoutNulls() throws IOException {
+    // Flags of delta seconds at zero precision, then a single timestamp
+    ByteArrayOutputStream bout = hugeBlock((byte) 0, (byte) 2);
+    assertThrows(EOFException.class, () -> SQLStreamables.readTimestamps(toInput(bout)));
+    assertThrows(EOFException.class, () -> SQLStreamables.readUnmodifiableTimestamps(toInput(bout)));
+  }
+
+  @Test
+  public void testHugeCountWithNulls() throws IOException {
+    // Flags of a null bitmap, then part of the bitmap
+    ByteArrayOutputStream bout = hugeBlock((byte) 1, (byte) 0, (byte) 0, (byte) 0);
+    assertThrows(EOFException.class, () -> SQLStreamables.readTimestamps(toInput(bout)));
+    assertThrows(EOFException.class, () -> SQLStreamables.readTimestamps(toInput(bout), (index, seconds, nanos) -> { }));
+  }
+
+  /**
+   * Gets timestamps at each length of compressed int nanoseconds, before and after the epoch, and near the range limits
+   * of {@link Timestamp}.  The last whole second is skipped, since {@link Timestamp#getTime()} overflows there for most
+   * nanoseconds.
+   */
+  private static List<Timestamp> getTimestamps() {
+    List<Timestamp> timestamps = new ArrayList<>();
+    for (long millis : new long[] {
+        0,
+        -1500,
+        1617463800123L,
+        -12219292800001L,
+        (SQLUtility.MAX_TIMESTAMP_SECONDS - 1) * 1000,
+        SQLUtility.MIN_TIMESTAMP_SECONDS * 1000}) {
+      for (int nanos : new int[] {-1, 0, 15, 16, 4095, 4096, 0x1FFFFF, 0x200000, 999999999}) {
+        Timestamp ts = new Timestamp(millis);
+        if (nanos != -1) {
+          ts.setNanos(nanos);
+        }
+        timestamps.add(ts);
+      }
+    }
+    return timestamps;
+  }
+
+  /**
+   * Gets the bytes written by {@link SQLStreamables#writeNullTimestamp(java.sql.Timestamp, java.io.DataOutputStream)}.
+   */
+  private static byte[] getExpectedBytes(Timestamp ts) throws IOException {
+    ByteArrayOutputStream bout = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(bout)) {
+      SQLStreamables.writeNullTimestamp(ts, out);
+    }
+    return bout.toByteArray();
+  }
+
+  /**
+   * The {@link DataOutput} and {@link ByteBuffer} overloads must write the exact bytes of the
+   * {@link DataOutputStream} overloads, and read them back.
+   */
+  @Test
+  public void testTimestampOverloadsMatchDataOutputStream() throws IOException {
+    List<Timestamp> timestamps = getTimestamps();
+    timestamps.add(null);
+    for (Timestamp ts : timestamps) {
+      String message = String.valueOf(ts);
+      byte[] expectedNull = getExpectedBytes(ts);
+      byte[] expected = ts == null ? null : Arrays.copyOfRange(expectedNull, 1, expectedNull.length);
+
+      // DataOutput
+      ByteArrayOutputStream bout = new ByteArrayOutputStream();
+      try (DataOutputStream out = new DataOutputStream(bout)) {
+        DataOutput dataOut = out;
+        SQLStreamables.writeNullTimestamp(ts, dataOut);
+        if (ts != null) {
+          SQLStreamables.writeTimestamp(ts, dataOut);
+        }
+      }
+      byte[] written = bout.toByteArray();
+      assertArrayEquals(message, expectedNull, Arrays.copyOf(written, expectedNull.length));
+      if (ts != null) {
+        assertArrayEquals(message, expected, Arrays.copyOfRange(written, expectedNull.length, written.length));
+      }
+      DataInput dataIn = toInput(bout);
+      assertEquals(message, ts, SQLStreamables.readNullTimestamp(dataIn));
+      if (ts != null) {
+        assertEquals(message, ts, SQLStreamables.readTimestamp(dataIn));
+        dataIn = toInput(bout);
+        assertEquals(message, ts, SQLStreamables.readNullUnmodifiableTimestamp(dataIn));
+        assertEquals(message, ts, SQLStreamables.readUnmodifiableTimestamp(dataIn));
+      }
+
+      // ByteBuffer, always big-endian, in heap and direct buffers
+      for (ByteOrder order : new ByteOrder[] {ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+        for (ByteBuffer buf : new ByteBuffer[] {ByteBuffer.allocate(32), ByteBuffer.allocateDirect(32)}) {
+          buf.order(order);
+          buf.put((byte) 0x55);
+          SQLStreamables.writeNullTimestamp(ts, buf);
+          assertEquals(message, 1 + expectedNull.length, buf.position());
+          if (ts != null) {
+            SQLStreamables.writeTimestamp(ts, buf);
+            assertEquals(message, 1 + expectedNull.length + expected.length, buf.position());
+          }
+          buf.flip();
+          byte[] bytes = new byte[buf.remaining()];
+          buf.duplicate().get(bytes);
+          assertArrayEquals(message, expectedNull, Arrays.copyOfRange(bytes, 1, 1 + expectedNull.length));
+          if (ts != null) {
+            assertArrayEquals(message, expected, Arrays.copyOfRange(bytes, 1 + expectedNull.length, bytes.length));
+          }
+          buf.position(1);
+          assertEquals(message, ts, SQLStreamables.readNullTimestamp(buf));
+          if (ts != null) {
+            assertEquals(message, ts, SQLStreamables.readTimestamp(buf));
+            assertEquals(message, 0, buf.remaining());
+            buf.position(1);
+            assertEquals(message, ts, SQLStreamables.readNullUnmodifiableTimestamp(buf));
+            assertEquals(message, ts, SQLStreamables.readUnmodifiableTimestamp(buf));
+          }
+          assertEquals(message, 0, buf.remaining());
+        }
+      }
+    }
+  }
+
+  /**
+   * Reads from a buffer holding only part of a timestamp.
+   */
+  @FunctionalInterface
+  private interface BufferReader {
+    Object read(ByteBuffer buf) throws IOException;
+  }
+
+  private static void assertUnderflowKeepsPosition(String message, byte[] bytes, BufferReader... readers) {
+    for (int len = 0; len < bytes.length; len++) {
+      ByteBuffer buf = ByteBuffer.allocate(1 + len);
+      buf.put((byte) 0x55).put(bytes, 0, len).flip().position(1);
+      for (BufferReader reader : readers) {
+        assertThrows(message, BufferUnderflowException.class, () -> reader.read(buf));
+        assertEquals(message, 1, buf.position());
+      }
+    }
+  }
+
+  @Test
+  public void testByteBufferUnderflowKeepsPosition() throws IOException {
+    for (Timestamp ts : getTimestamps()) {
+      String message = ts.toString();
+      byte[] expectedNull = getExpectedBytes(ts);
+      assertUnderflowKeepsPosition(message, Arrays.copyOfRange(expectedNull, 1, expectedNull.length),
+          SQLStreamables::readTimestamp,
+          SQLStreamables::readUnmodifiableTimestamp);
+      assertUnderflowKeepsPosition(message, expectedNull,
+          SQLStreamables::readNullTimestamp,
+          SQLStreamables::readNullUnmodifiableTimestamp);
+    }
+  }
+
+  @Test
+  public void testByteBufferOverflowWritesNothing() throws IOException {
+    List<Timestamp> timestamps = getTimestamps();
+    timestamps.add(null);
+    for (Timestamp ts : timestamps) {
+      String message = String.valueOf(ts);
+      int nullLength = getExpectedBytes(ts).length;
+      for (int room = 0; room < nullLength; room++) {
+        ByteBuffer buf = ByteBuffer.allocate(1 + room);
+        Arrays.fill(buf.array(), (byte) 0x55);
+        buf.position(1);
+        assertThrows(message, BufferOverflowException.class, () -> SQLStreamables.writeNullTimestamp(ts, buf));
+        assertEquals(message, 1, buf.position());
+        if (ts != null && room < nullLength - 1) {
+          assertThrows(message, BufferOverflowException.class, () -> SQLStreamables.writeTimestamp(ts, buf));
+          assertEquals(message, 1, buf.position());
+        }
+        byte[] unchanged = new byte[1 + room];
+        Arrays.fill(unchanged, (byte) 0x55);
+        assertArrayEquals(message, unchanged, buf.array());
+      }
+    }
+  }
+
+  /**
+   * Writes a timestamp directly as its seconds and nanoseconds, including values out of range of {@link Timestamp}.
+   */
+  private static void writeRaw(long seconds, int nanos, DataOutputStream out) throws IOException {
+    out.writeBoolean(true);
+    out.writeLong(seconds);
+    StreamableOutput.writeCompressedInt(nanos, out);
+  }
+
+  @Test
+  public void testReadTimestampReuse() throws IOException {
+    ByteArrayOutputStream bout = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(bout)) {
+      for (Timestamp ts : getTimestamps()) {
+        SQLStreamables.writeNullTimestamp(ts, out);
+      }
+      SQLStreamables.writeNullTimestamp(null, out);
+      writeRaw(SQLUtility.MAX_TIMESTAMP_SECONDS + 1, 0, out);
+      writeRaw(SQLUtility.MIN_TIMESTAMP_SECONDS - 1, 0, out);
+      writeRaw(0, -1, out);
+      writeRaw(0, 1000000000, out);
+    }
+    DataInputStream in = toInput(bout);
+    Timestamp reuse = new Timestamp(0);
+    for (Timestamp ts : getTimestamps()) {
+      assertSame(reuse, SQLStreamables.readNullTimestamp(in, reuse));
+      assertEquals(ts, reuse);
+    }
+    Timestamp last = (Timestamp) reuse.clone();
+    assertNull(SQLStreamables.readNullTimestamp(in, reuse));
+    assertEquals(last, reuse);
+    // Out of range leaves the timestamp unchanged
+    for (int i = 0; i < 4; i++) {
+      assertThrows(IOException.class, () -> SQLStreamables.readNullTimestamp(in, reuse));
+      assertEquals(last, reuse);
+      assertEquals(last.getNanos(), reuse.getNanos());
+    }
+    assertEquals(0, in.available());
+  }
+
+  @Test
+  public void testReadTimestampIntoArrays() throws IOException {
+    ByteArrayOutputStream bout = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(bout)) {
+      writeRaw(1617463800, 123456789, out);
+      // Seconds are not limited to the range of Timestamp
+      writeRaw(Long.MAX_VALUE, 999999999, out);
+      writeRaw(Long.MIN_VALUE, 0, out);
+      SQLStreamables.writeNullTimestamp(null, out);
+      writeRaw(0, -1, out);
+      writeRaw(0, 1000000000, out);
+    }
+    DataInputStream in = toInput(bout);
+    long[] seconds = new long[4];
+    int[] nanos = new int[4];
+    assertEquals(true, SQLStreamables.readNullTimestamp(in, seconds, nanos, 1));
+    assertEquals(true, SQLStreamables.readNullTimestamp(in, seconds, nanos, 2));
+    // The non-null form, after its flag
+    assertEquals(true, in.readBoolean());
+    SQLStreamables.readTimestamp(in, seconds, nanos, 3);
+    long[] expectedSeconds = {0, 1617463800, Long.MAX_VALUE, Long.MIN_VALUE};
+    int[] expectedNanos = {0, 123456789, 999999999, 0};
+    assertArrayEquals(expectedSeconds, seconds);
+    assertArrayEquals(expectedNanos, nanos);
+    // Neither null nor out of range nanoseconds change the arrays
+    assertEquals(false, SQLStreamables.readNullTimestamp(in, seconds, nanos, 0));
+    assertThrows(IOException.class, () -> SQLStreamables.readNullTimestamp(in, seconds, nanos, 0));
+    assertThrows(IOException.class, () -> SQLStreamables.readNullTimestamp(in, seconds, nanos, 0));
+    assertArrayEquals(expectedSeconds, seconds);
+    assertArrayEquals(expectedNanos, nanos);
+    assertEquals(0, in.available());
+  }
+
+  @Test
+  public void testReadTimestampsConsumer() throws IOException {
+    List<Timestamp> timestamps = getTimestamps();
+    timestamps.add(0, null);
+    timestamps.add(5, null);
+    timestamps.add(null);
+    ByteArrayOutputStream bout = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(bout)) {
+      SQLStreamables.writeTimestamps(timestamps, out);
+      SQLStreamables.writeTimestamps(new Timestamp[3], out);
+      SQLStreamables.writeTimestamps(new Timestamp[0], out);
+    }
+    DataInputStream in = toInput(bout);
+    List<Timestamp> read = new ArrayList<>();
+    assertEquals(timestamps.size(), SQLStreamables.readTimestamps(in, (index, seconds, nanos) -> {
+      assertEquals(timestamps.get(index), SQLUtility.newTimestamp(seconds, nanos));
+      while (read.size() < index) {
+        read.add(null);
+      }
+      read.add(SQLUtility.newTimestamp(seconds, nanos));
+    }));
+    while (read.size() < timestamps.size()) {
+      read.add(null);
+    }
+    assertEquals(timestamps, read);
+    SQLStreamables.TimestampConsumer none = (index, seconds, nanos) -> {
+      throw new AssertionError("Unexpected timestamp at " + index);
+    };
+    assertEquals(3, SQLStreamables.readTimestamps(in, none));
+    assertEquals(0, SQLStreamables.readTimestamps(in, none));
+    assertEquals(0, in.available());
+  }
+}
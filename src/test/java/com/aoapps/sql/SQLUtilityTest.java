@@ -0,0 +1,426 @@
+/*
+ * ao-sql - SQL and JDBC utilities.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql.
+ *
+ * ao-sql is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.TimeZone;
+import org.junit.Test;
+
+/**
+ * Compares the decimal formatting of {@link SQLUtility} with {@link BigDecimal#toPlainString()} across the full
+ * range of {@code int} and {@code long}, the batch formatting of columns with formatting each value on its own, and
+ * the parsing of decimals at the bounds of {@code int} and {@code long}.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class SQLUtilityTest {
+
+  /**
+   * The number of random values tested per method.
+   */
+  private static final int RANDOM_VALUES = 1000000;
+
+  private static String expected(long value, int scale) {
+    return BigDecimal.valueOf(value, scale).toPlainString();
+  }
+
+  @Test
+  public void testFormatDecimal2EdgeValues() {
+    for (long value : FixedPointTest.getEdgeValues()) {
+      assertEquals(expected(value, 2), SQLUtility.formatDecimal2(value));
+      int intValue = (int) value;
+      assertEquals(expected(intValue, 2), SQLUtility.formatDecimal2(intValue));
+    }
+  }
+
+  @Test
+  public void testFormatDecimal2RandomValues() {
+    Random random = new Random(3);
+    for (int i = 0; i < RANDOM_VALUES; i++) {
+      long value = FixedPointTest.nextValue(random);
+      assertEquals(expected(value, 2), SQLUtility.formatDecimal2(value));
+      int intValue = (int) value;
+      assertEquals(expected(intValue, 2), SQLUtility.formatDecimal2(intValue));
+    }
+  }
+
+  @Test
+  public void testFormatDecimal3EdgeValues() {
+    for (long value : FixedPointTest.getEdgeValues()) {
+      assertEquals(expected(value, 3), SQLUtility.formatDecimal3(value));
+      int intValue = (int) value;
+      assertEquals(expected(intValue, 3), SQLUtility.formatDecimal3(intValue));
+    }
+  }
+
+  @Test
+  public void testFormatDecimal3RandomValues() {
+    Random random = new Random(4);
+    for (int i = 0; i < RANDOM_VALUES; i++) {
+      long value = FixedPointTest.nextValue(random);
+      assertEquals(expected(value, 3), SQLUtility.formatDecimal3(value));
+      int intValue = (int) value;
+      assertEquals(expected(intValue, 3), SQLUtility.formatDecimal3(intValue));
+    }
+  }
+
+  /**
+   * The number of values per column in the batch tests.
+   */
+  private static final int BATCH_VALUES = 1000;
+
+  private static long[] getBatchValues(Random random) {
+    long[] edgeValues = FixedPointTest.getEdgeValues();
+    long[] values = Arrays.copyOf(edgeValues, edgeValues.length + BATCH_VALUES);
+    for (int i = edgeValues.length; i < values.length; i++) {
+      values[i] = FixedPointTest.nextValue(random);
+    }
+    return values;
+  }
+
+  private static int[] toInts(long[] values) {
+    int[] ints = new int[values.length];
+    for (int i = 0; i < values.length; i++) {
+      ints[i] = (int) values[i];
+    }
+    return ints;
+  }
+
+  /**
+   * Gets the expected content of a destination column after a batch of {@code len} values from {@code srcOff} is
+   * written at {@code destOff}, leaving the rest as it was.
+   */
+  private static String[] expectedColumn(String[] formatted, int srcOff, String[] dest, int destOff, int len) {
+    String[] expected = dest.clone();
+    System.arraycopy(formatted, srcOff, expected, destOff, len);
+    return expected;
+  }
+
+  private static String expectedJoined(String[] formatted, int srcOff, int len, String separator) {
+    return String.join(separator, Arrays.asList(formatted).subList(srcOff, srcOff + len));
+  }
+
+  private static String[] newColumn(int length) {
+    String[] column = new String[length];
+    Arrays.fill(column, "unchanged");
+    return column;
+  }
+
+  @Test
+  public void testFormatDecimalColumns() {
+    Random random = new Random(5);
+    long[] values = getBatchValues(random);
+    int[] ints = toInts(values);
+    for (int scale = 2; scale <= 3; scale++) {
+      String[] formatted = new String[values.length];
+      String[] formattedInts = new String[values.length];
+      for (int i = 0; i < values.length; i++) {
+        formatted[i] = expected(values[i], scale);
+        formattedInts[i] = expected(ints[i], scale);
+      }
+      for (int[] range : new int[][] {{0, 0, values.length}, {3, 7, values.length - 10}, {5, 2, 0}, {values.length, 0, 0}}) {
+        int srcOff = range[0];
+        int destOff = range[1];
+        int len = range[2];
+        String[] dest = newColumn(values.length);
+        String[] destInts = newColumn(values.length);
+        StringBuilder sb = new StringBuilder("prefix:");
+        StringBuilder sbInts = new StringBuilder("prefix:");
+        if (scale == 2) {
+          SQLUtility.formatDecimal2(values, srcOff, dest, destOff, len);
+          SQLUtility.formatDecimal2(ints, srcOff, destInts, destOff, len);
+          SQLUtility.formatDecimal2(values, srcOff, len, ", ", sb);
+          SQLUtility.formatDecimal2(ints, srcOff, len, ", ", sbInts);
+        } else {
+          SQLUtility.formatDecimal3(values, srcOff, dest, destOff, len);
+          SQLUtility.formatDecimal3(ints, srcOff, destInts, destOff, len);
+          SQLUtility.formatDecimal3(values, srcOff, len, ", ", sb);
+          SQLUtility.formatDecimal3(ints, srcOff, len, ", ", sbInts);
+        }
+        assertArrayEquals(expectedColumn(formatted, srcOff, newColumn(values.length), destOff, len), dest);
+        assertArrayEquals(expectedColumn(formattedInts, srcOff, newColumn(values.length), destOff, len), destInts);
+        assertEquals("prefix:" + expectedJoined(formatted, srcOff, len, ", "), sb.toString());
+        assertEquals("prefix:" + expectedJoined(formattedInts, srcOff, len, ", "), sbInts.toString());
+      }
+    }
+  }
+
+  @Test
+  public void testFormatDecimalColumnsOutOfRange() {
+    long[] values = {1, 2, 3, 4};
+    int[] ints = {1, 2, 3, 4};
+    // {srcOff, destOff, len}, each out of range of a source or destination of four
+    for (int[] range : new int[][] {{-1, 0, 1}, {0, -1, 1}, {0, 0, -1}, {1, 0, 4}, {0, 1, 4}, {5, 0, 0}, {0, 5, 0}}) {
+      int srcOff = range[0];
+      int destOff = range[1];
+      int len = range[2];
+      String[] dest = newColumn(4);
+      assertThrows(IndexOutOfBoundsException.class, () -> SQLUtility.formatDecimal2(values, srcOff, dest, destOff, len));
+      assertThrows(IndexOutOfBoundsException.class, () -> SQLUtility.formatDecimal2(ints, srcOff, dest, destOff, len));
+      assertThrows(IndexOutOfBoundsException.class, () -> SQLUtility.formatDecimal3(values, srcOff, dest, destOff, len));
+      assertThrows(IndexOutOfBoundsException.class, () -> SQLUtility.formatDecimal3(ints, srcOff, dest, destOff, len));
+      assertArrayEquals(newColumn(4), dest);
+      if (srcOff < 0 || len < 0 || srcOff + len > values.length) {
+        StringBuilder sb = new StringBuilder("prefix:");
+        assertThrows(IndexOutOfBoundsException.class, () -> SQLUtility.formatDecimal2(values, srcOff, len, ", ", sb));
+        assertThrows(IndexOutOfBoundsException.class, () -> SQLUtility.formatDecimal2(ints, srcOff, len, ", ", sb));
+        assertThrows(IndexOutOfBoundsException.class, () -> SQLUtility.formatDecimal3(values, srcOff, len, ", ", sb));
+        assertThrows(IndexOutOfBoundsException.class, () -> SQLUtility.formatDecimal3(ints, srcOff, len, ", ", sb));
+        assertEquals("prefix:", sb.toString());
+      }
+    }
+  }
+
+  /**
+   * Gets times both within and beyond the years formatted directly, including before the epoch.
+   */
+  private static long[] getBatchTimes(Random random) {
+    long[] times = new long[BATCH_VALUES];
+    int i = 0;
+    times[i++] = 0;
+    times[i++] = -1;
+    times[i++] = Long.MIN_VALUE / 2;
+    times[i++] = Long.MAX_VALUE / 2;
+    // 1582-10-15 00:00:00 UTC, in the calendar fallback
+    times[i++] = -12219292800000L;
+    // 10000-01-01 00:00:00 UTC, in the calendar fallback
+    times[i++] = 253402300800000L;
+    while (i < times.length) {
+      // Years 1500 through 10500
+      times[i++] = -14831769600000L + (long) (random.nextDouble() * 285120000000000L);
+    }
+    return times;
+  }
+
+  @Test
+  public void testFormatDateTimeColumns() {
+    Random random = new Random(6);
+    long[] times = getBatchTimes(random);
+    for (TimeZone timeZone : new TimeZone[] {
+        null,
+        TimeZone.getTimeZone("UTC"),
+        TimeZone.getTimeZone("America/New_York"),
+        TimeZone.getTimeZone("Australia/Lord_Howe")}) {
+      String[] dates = new String[times.length];
+      String[] dateTimes = new String[times.length];
+      String[] timesOfDay = new String[times.length];
+      for (int i = 0; i < times.length; i++) {
+        dates[i] = SQLUtility.formatDate(times[i], timeZone);
+        dateTimes[i] = SQLUtility.formatDateTime(times[i], timeZone);
+        timesOfDay[i] = SQLUtility.formatTime(times[i], timeZone);
+      }
+      for (int[] range : new int[][] {{0, 0, times.length}, {3, 7, times.length - 10}, {5, 2, 0}}) {
+        int srcOff = range[0];
+        int destOff = range[1];
+        int len = range[2];
+        String[] destDates = newColumn(times.length);
+        String[] destDateTimes = newColumn(times.length);
+        String[] destTimes = newColumn(times.length);
+        SQLUtility.formatDate(times, srcOff, destDates, destOff, len, timeZone);
+        SQLUtility.formatDateTime(times, srcOff, destDateTimes, destOff, len, timeZone);
+        SQLUtility.formatTime(times, srcOff, destTimes, destOff, len, timeZone);
+        assertArrayEquals(expectedColumn(dates, srcOff, newColumn(times.length), destOff, len), destDates);
+        assertArrayEquals(expectedColumn(dateTimes, srcOff, newColumn(times.length), destOff, len), destDateTimes);
+        assertArrayEquals(expectedColumn(timesOfDay, srcOff, newColumn(times.length), destOff, len), destTimes);
+        StringBuilder sbDates = new StringBuilder("prefix:");
+        StringBuilder sbDateTimes = new StringBuilder("prefix:");
+        StringBuilder sbTimes = new StringBuilder("prefix:");
+        SQLUtility.formatDate(times, srcOff, len, timeZone, "\t", sbDates);
+        SQLUtility.formatDateTime(times, srcOff, len, timeZone, "\t", sbDateTimes);
+        SQLUtility.formatTime(times, srcOff, len, timeZone, "\t", sbTimes);
+        assertEquals("prefix:" + expectedJoined(dates, srcOff, len, "\t"), sbDates.toString());
+        assertEquals("prefix:" + expectedJoined(dateTimes, srcOff, len, "\t"), sbDateTimes.toString());
+        assertEquals("prefix:" + expectedJoined(timesOfDay, srcOff, len, "\t"), sbTimes.toString());
+      }
+    }
+  }
+
+  @Test
+  public void testFormatDateTimeColumnsOutOfRange() {
+    long[] times = {0, 1, 2, 3};
+    TimeZone timeZone = TimeZone.getTimeZone("UTC");
+    for (int[] range : new int[][] {{-1, 0, 1}, {0, -1, 1}, {0, 0, -1}, {1, 0, 4}, {0, 1, 4}, {5, 0, 0}, {0, 5, 0}}) {
+      int srcOff = range[0];
+      int destOff = range[1];
+      int len = range[2];
+      String[] dest = newColumn(4);
+      assertThrows(IndexOutOfBoundsException.class, () -> SQLUtility.formatDate(times, srcOff, dest, destOff, len, timeZone));
+      assertThrows(IndexOutOfBoundsException.class, () -> SQLUtility.formatDateTime(times, srcOff, dest, destOff, len, timeZone));
+      assertThrows(IndexOutOfBoundsException.class, () -> SQLUtility.formatTime(times, srcOff, dest, destOff, len, timeZone));
+      assertArrayEquals(newColumn(4), dest);
+      if (srcOff < 0 || len < 0 || srcOff + len > times.length) {
+        StringBuilder sb = new StringBuilder("prefix:");
+        assertThrows(IndexOutOfBoundsException.class, () -> SQLUtility.formatDate(times, srcOff, len, timeZone, ", ", sb));
+        assertThrows(IndexOutOfBoundsException.class, () -> SQLUtility.formatDateTime(times, srcOff, len, timeZone, ", ", sb));
+        assertThrows(IndexOutOfBoundsException.class, () -> SQLUtility.formatTime(times, srcOff, len, timeZone, ", ", sb));
+        assertEquals("prefix:", sb.toString());
+      }
+    }
+  }
+
+  @FunctionalInterface
+  private interface DecimalParser {
+    long parse(String value) throws NumberFormatException;
+  }
+
+  private static final DecimalParser[] DECIMAL2_PARSERS = {
+      SQLUtility::parseDecimal2,
+      value -> SQLUtility.parseDecimal2((CharSequence) value),
+      SQLUtility::parseLongDecimal2,
+      value -> SQLUtility.parseLongDecimal2((CharSequence) value)
+  };
+
+  private static final DecimalParser[] DECIMAL3_PARSERS = {
+      SQLUtility::parseDecimal3,
+      value -> SQLUtility.parseDecimal3((CharSequence) value),
+      SQLUtility::parseLongDecimal3,
+      value -> SQLUtility.parseLongDecimal3((CharSequence) value)
+  };
+
+  private static void assertParse(long expected2, long expected3, String value) {
+    for (DecimalParser parser : DECIMAL2_PARSERS) {
+      assertEquals(value, expected2, parser.parse(value));
+    }
+    for (DecimalParser parser : DECIMAL3_PARSERS) {
+      assertEquals(value, expected3, parser.parse(value));
+    }
+    // A region within other characters
+    String padded = "9." + value + "-x";
+    assertEquals(value, expected2, SQLUtility.parseDecimal2(padded, 2, value.length()));
+    assertEquals(value, expected2, SQLUtility.parseLongDecimal2(padded, 2, value.length()));
+    assertEquals(value, expected3, SQLUtility.parseDecimal3(padded, 2, value.length()));
+    assertEquals(value, expected3, SQLUtility.parseLongDecimal3(padded, 2, value.length()));
+  }
+
+  private static void assertNotParsed(DecimalParser[] parsers, String value) {
+    for (DecimalParser parser : parsers) {
+      assertThrows(value, NumberFormatException.class, () -> parser.parse(value));
+    }
+  }
+
+  @Test
+  public void testParseLenientForms() {
+    assertParse(200, 2000, "2");
+    assertParse(200, 2000, "2.");
+    assertParse(230, 2300, "2.3");
+    assertParse(30, 300, ".3");
+    assertParse(-50, -500, "-.5");
+    assertParse(150, 1500, "+1.5");
+    assertParse(-150, -1500, "-1.5");
+    assertParse(0, 0, "0");
+    assertParse(0, 0, "-0");
+    assertParse(0, 0, ".");
+    assertParse(0, 0, "-.");
+    assertParse(1230, 12300, "00012.30");
+    assertParse(1, 10, "0.01");
+    assertParse(-1, -10, "-.01");
+    assertEquals(2340, SQLUtility.parseDecimal3("2.34"));
+    assertEquals(-1, SQLUtility.parseLongDecimal3("-.001"));
+  }
+
+  @Test
+  public void testParseInvalid() {
+    for (String value : new String[] {"", "-", "+", "1..2", "1.2.3", "a", " 1", "1 ", "1e2", "--1", "+-1", "-+1", "1-",
+        "1,5", "0x10", "\u0661"}) {
+      assertNotParsed(DECIMAL2_PARSERS, value);
+      assertNotParsed(DECIMAL3_PARSERS, value);
+    }
+  }
+
+  @Test
+  public void testParseTooManyFractionDigits() {
+    for (String value : new String[] {"1.234", "1.230", "-.001", ".000"}) {
+      assertNotParsed(DECIMAL2_PARSERS, value);
+    }
+    for (String value : new String[] {"1.2345", "1.2340", "-.0001", ".0000"}) {
+      assertNotParsed(DECIMAL3_PARSERS, value);
+    }
+  }
+
+  @Test
+  public void testParseIntBounds() {
+    assertEquals(Integer.MAX_VALUE, SQLUtility.parseDecimal2("21474836.47"));
+    assertEquals(Integer.MIN_VALUE, SQLUtility.parseDecimal2("-21474836.48"));
+    assertEquals(Integer.MAX_VALUE, SQLUtility.parseDecimal3("2147483.647"));
+    assertEquals(Integer.MIN_VALUE, SQLUtility.parseDecimal3("-2147483.648"));
+    for (String value : new String[] {"21474836.48", "-21474836.49", "21474837", "-21474837", "99999999999"}) {
+      assertThrows(value, NumberFormatException.class, () -> SQLUtility.parseDecimal2(value));
+      // Still within a long
+      assertEquals(value, new BigDecimal(value).movePointRight(2).longValueExact(), SQLUtility.parseLongDecimal2(value));
+    }
+    for (String value : new String[] {"2147483.648", "-2147483.649", "2147484", "-2147484", "99999999999"}) {
+      assertThrows(value, NumberFormatException.class, () -> SQLUtility.parseDecimal3(value));
+      assertEquals(value, new BigDecimal(value).movePointRight(3).longValueExact(), SQLUtility.parseLongDecimal3(value));
+    }
+  }
+
+  @Test
+  public void testParseLongBounds() {
+    assertEquals(Long.MAX_VALUE, SQLUtility.parseLongDecimal2("92233720368547758.07"));
+    assertEquals(Long.MIN_VALUE, SQLUtility.parseLongDecimal2("-92233720368547758.08"));
+    assertEquals(Long.MAX_VALUE, SQLUtility.parseLongDecimal3("9223372036854775.807"));
+    assertEquals(Long.MIN_VALUE, SQLUtility.parseLongDecimal3("-9223372036854775.808"));
+    // Out of range in the whole digits, in the last fractional digit, and only once the missing fractional digits are
+    // filled-in
+    for (String value : new String[] {"92233720368547758.08", "-92233720368547758.09", "92233720368547759",
+        "92233720368547759.", "-92233720368547758.1", "99999999999999999999999", "-99999999999999999999999.99"}) {
+      assertThrows(value, NumberFormatException.class, () -> SQLUtility.parseLongDecimal2(value));
+    }
+    for (String value : new String[] {"9223372036854775.808", "-9223372036854775.809", "9223372036854776",
+        "-9223372036854775.81", "99999999999999999999999"}) {
+      assertThrows(value, NumberFormatException.class, () -> SQLUtility.parseLongDecimal3(value));
+    }
+  }
+
+  @Test
+  public void testParseBytesAndBuffers() {
+    byte[] bytes = "x-21474836.48x".getBytes(StandardCharsets.US_ASCII);
+    assertEquals(Integer.MIN_VALUE, SQLUtility.parseDecimal2(bytes, 1, 12));
+    assertEquals(Integer.MIN_VALUE, SQLUtility.parseDecimal2(ByteBuffer.wrap(bytes), 1, 12));
+    assertThrows(NumberFormatException.class, () -> SQLUtility.parseDecimal3(bytes, 1, 12));
+    assertThrows(IndexOutOfBoundsException.class, () -> SQLUtility.parseDecimal2(bytes, 3, 12));
+    assertThrows(IndexOutOfBoundsException.class, () -> SQLUtility.parseDecimal2("1.5", -1, 2));
+  }
+
+  @Test
+  public void testParseRoundTripRandomValues() {
+    Random random = new Random(8);
+    for (int i = 0; i < RANDOM_VALUES; i++) {
+      long value = FixedPointTest.nextValue(random);
+      assertEquals(value, SQLUtility.parseLongDecimal2(expected(value, 2)));
+      assertEquals(value, SQLUtility.parseLongDecimal3(expected(value, 3)));
+      int intValue = (int) value;
+      assertEquals(intValue, SQLUtility.parseDecimal2(expected(intValue, 2)));
+      assertEquals(intValue, SQLUtility.parseDecimal3(expected(intValue, 3)));
+    }
+  }
+}
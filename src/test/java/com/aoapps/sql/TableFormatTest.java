@@ -0,0 +1,258 @@
+/*
+ * ao-sql - SQL and JDBC utilities.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql.
+ *
+ * ao-sql is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.PushbackReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Tests the exact output of each {@link TableFormat}, and that its values are read back unchanged, including escaping,
+ * line breaks, control and non-ASCII characters, and {@code null} versus the empty string.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class TableFormatTest {
+
+  private static final Object[] TITLES = {"id", "name", "note"};
+
+  private static final List<Object[]> ROWS = Arrays.asList(
+      new Object[] {1, "a,b", "say \"hi\""},
+      new Object[] {null, "", "line1\r\nline2"},
+      new Object[] {2.5, "tab\there", "back\\slash"}
+  );
+
+  /**
+   * The characters of the random values, each of which is special to at least one format, plus a surrogate pair.
+   */
+  private static final String[] RANDOM_CHARS = {
+      "a", "N", " ", ",", "\"", "'", "\\", "\t", "\r", "\n", "\r\n", "{", "[", ":", "/", "\u0000", "\u0001", "\b", "\f",
+      "\u001f", "\u007f", "é", "日", "\ud83c\udf4e"
+  };
+
+  private static String print(TableFormat format, Object[] titles, Iterable<? extends Object[]> rows) throws IOException {
+    StringBuilder out = new StringBuilder();
+    SQLUtility.printTable(titles, rows, out, format);
+    return out.toString();
+  }
+
+  private static List<String[]> read(TableFormat format, String text) throws IOException {
+    PushbackReader in = new PushbackReader(new StringReader(text));
+    List<String[]> rows = new ArrayList<>();
+    String[] row;
+    while ((row = format.readRow(in)) != null) {
+      rows.add(row);
+    }
+    return rows;
+  }
+
+  private static String[] toStrings(Object[] row) {
+    String[] strings = new String[row.length];
+    for (int i = 0; i < row.length; i++) {
+      strings[i] = row[i] == null ? null : row[i].toString();
+    }
+    return strings;
+  }
+
+  /**
+   * Prints a table then reads it back, expecting the titles as the first row of the formats that print them.
+   */
+  private static void assertRoundTrip(TableFormat format, Object[] titles, List<Object[]> rows) throws IOException {
+    List<String[]> expected = new ArrayList<>();
+    if (titles != null && format != TableFormat.NDJSON) {
+      expected.add(toStrings(titles));
+    }
+    for (Object[] row : rows) {
+      expected.add(toStrings(row));
+    }
+    List<String[]> actual = read(format, print(format, titles, rows));
+    assertEquals(expected.size(), actual.size());
+    for (int i = 0; i < expected.size(); i++) {
+      assertArrayEquals(expected.get(i), actual.get(i));
+    }
+  }
+
+  @Test
+  public void testCsv() throws IOException {
+    assertEquals(
+        "id,name,note\r\n"
+            + "1,\"a,b\",\"say \"\"hi\"\"\"\r\n"
+            + ",\"\",\"line1\r\nline2\"\r\n"
+            + "2.5,tab\there,back\\slash\r\n",
+        print(TableFormat.CSV, TITLES, ROWS)
+    );
+    assertRoundTrip(TableFormat.CSV, TITLES, ROWS);
+  }
+
+  @Test
+  public void testTsv() throws IOException {
+    assertEquals(
+        "id\tname\tnote\n"
+            + "1\ta,b\tsay \"hi\"\n"
+            + "\\N\t\tline1\\r\\nline2\n"
+            + "2.5\ttab\\there\tback\\\\slash\n",
+        print(TableFormat.TSV, TITLES, ROWS)
+    );
+    assertRoundTrip(TableFormat.TSV, TITLES, ROWS);
+  }
+
+  @Test
+  public void testNdjson() throws IOException {
+    assertEquals(
+        "{\"id\":1,\"name\":\"a,b\",\"note\":\"say \\\"hi\\\"\"}\n"
+            + "{\"id\":null,\"name\":\"\",\"note\":\"line1\\r\\nline2\"}\n"
+            + "{\"id\":2.5,\"name\":\"tab\\there\",\"note\":\"back\\\\slash\"}\n",
+        print(TableFormat.NDJSON, TITLES, ROWS)
+    );
+    assertRoundTrip(TableFormat.NDJSON, TITLES, ROWS);
+    // Without titles, each row is an array
+    assertEquals(
+        "[1,\"a,b\",\"say \\\"hi\\\"\"]\n"
+            + "[null,\"\",\"line1\\r\\nline2\"]\n"
+            + "[2.5,\"tab\\there\",\"back\\\\slash\"]\n",
+        print(TableFormat.NDJSON, null, ROWS)
+    );
+    assertRoundTrip(TableFormat.NDJSON, null, ROWS);
+  }
+
+  @Test
+  public void testNdjsonControlAndNonAscii() throws IOException {
+    List<Object[]> rows = Collections.singletonList(
+        new Object[] {"\u0000\u0001\b\f\u001f\u007f é日\ud83c\udf4e/", true, Double.NaN, Float.POSITIVE_INFINITY, 10L}
+    );
+    assertEquals(
+        "[\"\\u0000\\u0001\\b\\f\\u001f\u007f é日\ud83c\udf4e/\",true,\"NaN\",\"Infinity\",10]\n",
+        print(TableFormat.NDJSON, null, rows)
+    );
+    assertRoundTrip(TableFormat.NDJSON, null, rows);
+    // Escapes that are not written are still read
+    assertArrayEquals(
+        new String[] {"/\u00e9\u65e5", null, "-1.5e3"},
+        TableFormat.NDJSON.readRow(new PushbackReader(new StringReader(" { \"a\" : \"\\/\\u00E9\\u65e5\" , \"b\":null,\"c\":-1.5e3 }\r\n")))
+    );
+  }
+
+  @Test
+  public void testNullVersusEmpty() throws IOException {
+    List<Object[]> rows = Arrays.asList(
+        new Object[] {null},
+        new Object[] {""},
+        new Object[] {null, null},
+        new Object[] {"", ""},
+        new Object[] {null, ""},
+        new Object[] {"", null}
+    );
+    for (TableFormat format : TableFormat.values()) {
+      for (Object[] row : rows) {
+        assertRoundTrip(format, null, Collections.singletonList(row));
+      }
+    }
+    assertEquals("\r\n\"\"\r\n", print(TableFormat.CSV, null, Arrays.asList(rows.get(0), rows.get(1))));
+    assertEquals("\\N\n\n", print(TableFormat.TSV, null, Arrays.asList(rows.get(0), rows.get(1))));
+    assertEquals("[null]\n[\"\"]\n", print(TableFormat.NDJSON, null, Arrays.asList(rows.get(0), rows.get(1))));
+  }
+
+  @Test
+  public void testTsvBackslashes() throws IOException {
+    List<Object[]> rows = Collections.singletonList(new Object[] {"\\N", "\\", "\\\\t", "a\\"});
+    assertEquals("\\\\N\t\\\\\t\\\\\\\\t\ta\\\\\n", print(TableFormat.TSV, null, rows));
+    assertRoundTrip(TableFormat.TSV, null, rows);
+  }
+
+  @Test
+  public void testLineEndings() throws IOException {
+    // CRLF line endings and a missing final line ending are read the same
+    for (TableFormat format : new TableFormat[] {TableFormat.CSV, TableFormat.TSV}) {
+      List<String[]> rows = read(format, format == TableFormat.CSV ? "a,b\r\nc,d\nx,y" : "a\tb\r\nc\td\nx\ty");
+      assertEquals(3, rows.size());
+      assertArrayEquals(new String[] {"a", "b"}, rows.get(0));
+      assertArrayEquals(new String[] {"c", "d"}, rows.get(1));
+      assertArrayEquals(new String[] {"x", "y"}, rows.get(2));
+    }
+  }
+
+  @Test
+  public void testRandomRoundTrip() throws IOException {
+    Random random = new Random(7);
+    for (int t = 0; t < 200; t++) {
+      int numCols = 1 + random.nextInt(4);
+      Object[] titles = null;
+      if (random.nextBoolean()) {
+        titles = new Object[numCols];
+        for (int col = 0; col < numCols; col++) {
+          titles[col] = "title" + col;
+        }
+      }
+      List<Object[]> rows = new ArrayList<>();
+      for (int r = random.nextInt(5); r > 0; r--) {
+        Object[] row = new Object[numCols];
+        for (int col = 0; col < numCols; col++) {
+          if (random.nextInt(5) != 0) {
+            StringBuilder value = new StringBuilder();
+            for (int c = random.nextInt(8); c > 0; c--) {
+              value.append(RANDOM_CHARS[random.nextInt(RANDOM_CHARS.length)]);
+            }
+            row[col] = value.toString();
+          }
+        }
+        rows.add(row);
+      }
+      for (TableFormat format : TableFormat.values()) {
+        assertRoundTrip(format, titles, rows);
+      }
+    }
+  }
+
+  @Test
+  public void testWrongNumberOfColumns() {
+    for (TableFormat format : TableFormat.values()) {
+      assertThrows(IllegalArgumentException.class,
+          () -> print(format, TITLES, Collections.singletonList(new Object[] {1, 2})));
+      assertThrows(IllegalArgumentException.class,
+          () -> print(format, null, Arrays.asList(new Object[] {1, 2}, new Object[] {1})));
+    }
+  }
+
+  @Test
+  public void testMalformed() {
+    for (String csv : new String[] {"\"unterminated", "\"a\"b"}) {
+      assertThrows(IOException.class, () -> read(TableFormat.CSV, csv));
+    }
+    assertThrows(IOException.class, () -> read(TableFormat.TSV, "a\\"));
+    for (String json : new String[] {"x", "[\"a\"", "[\"a\" \"b\"]", "{1:2}", "{\"a\" 1}", "[[1]]", "[,]", "[\"\\x\"]",
+        "[\"\\u12\"]", "[1] 2"}) {
+      assertThrows(IOException.class, () -> read(TableFormat.NDJSON, json));
+    }
+  }
+}
@@ -0,0 +1,186 @@
+/*
+ * ao-sql - SQL and JDBC utilities.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql.
+ *
+ * ao-sql is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.Test;
+
+/**
+ * Tests printing interactive tables with {@link TableOptions}.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class TableOptionsTest {
+
+  private static final String EOL = System.lineSeparator();
+
+  private static String print(Object[] titles, List<Object[]> rows, boolean[] alignRights, TableOptions options) throws IOException {
+    StringBuilder sb = new StringBuilder();
+    SQLUtility.printTable(titles, rows, sb, alignRights, options);
+    return sb.toString();
+  }
+
+  @Test
+  public void testMarkdownEmptyColumnsHaveDelimiters() throws IOException {
+    String table = print(
+        new Object[] {"", ""},
+        Arrays.asList(new Object[] {null, ""}, new Object[] {"", null}),
+        new boolean[] {false, true},
+        TableOptions.builder().style(TableStyle.MARKDOWN).build()
+    );
+    String delimiter = table.split(EOL)[1];
+    assertEquals("| - | -:|", delimiter);
+  }
+
+  @Test
+  public void testMarkdownWithoutTitlesHasDelimiters() throws IOException {
+    String table = print(
+        null,
+        Arrays.<Object[]>asList(new Object[] {null}),
+        new boolean[] {true},
+        TableOptions.builder().style(TableStyle.MARKDOWN).build()
+    );
+    assertTrue(table, table.startsWith("|   |" + EOL + "| -:|" + EOL));
+  }
+
+  @Test
+  public void testWindowedMatchesTwoPassWithMaxWidths() throws IOException {
+    Object[] titles = {"id", "description"};
+    boolean[] alignRights = {true, false};
+    List<Object[]> rows = Arrays.asList(
+        new Object[] {1, "short"},
+        new Object[] {2, "a much longer value that is wrapped onto several lines"},
+        new Object[] {3, null}
+    );
+    for (TableStyle style : new TableStyle[] {TableStyle.UNICODE, TableStyle.ASCII, TableStyle.COMPACT}) {
+      TableOptions.Builder builder = TableOptions.builder().style(style).maxWidths(0, 12).wrap(true);
+      String twoPass = print(titles, rows, alignRights, builder.build());
+      String cached = print(titles, rows, alignRights, builder.cacheCells(true).build());
+      String windowed = print(titles, rows, alignRights, builder.cacheCells(false).window(rows.size()).build());
+      assertEquals(twoPass, cached);
+      assertEquals(twoPass, windowed);
+    }
+  }
+
+  @Test
+  public void testWrapInMarkdown() {
+    TableOptions.Builder builder = TableOptions.builder().style(TableStyle.MARKDOWN).wrap(true);
+    assertThrows(IllegalArgumentException.class, builder::build);
+  }
+
+  /**
+   * An escape at the truncation point is left out whole, instead of being split before the marker.
+   */
+  @Test
+  public void testMarkdownTruncatesBeforeEscapes() throws IOException {
+    String table = print(
+        new Object[] {"v"},
+        Arrays.asList(
+            new Object[] {"abcd|x"},
+            new Object[] {"ab\ncdef"},
+            new Object[] {"ab\r\ncdef"},
+            new Object[] {"a|b|c|d"},
+            new Object[] {"abc|"}
+        ),
+        new boolean[] {false},
+        TableOptions.builder().style(TableStyle.MARKDOWN).maxWidths(6).build()
+    );
+    String[] lines = table.split(EOL);
+    assertEquals("| abcd…  |", lines[2]);
+    assertEquals("| ab…    |", lines[3]);
+    assertEquals("| ab…    |", lines[4]);
+    assertEquals("| a\\|b…  |", lines[5]);
+    // Fits without truncation
+    assertEquals("| abc\\|  |", lines[6]);
+  }
+
+  @Test
+  public void testInvalidOptions() {
+    TableOptions.Builder builder = TableOptions.builder();
+    assertThrows(IllegalArgumentException.class, () -> builder.window(-1));
+    assertThrows(IllegalArgumentException.class, () -> builder.maxWidths(0, 1));
+    assertThrows(IllegalArgumentException.class, () -> builder.style(null));
+  }
+
+  @Test
+  public void testWrongNumberOfMaxWidths() {
+    TableOptions options = TableOptions.builder().maxWidths(10).build();
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> print(null, Arrays.<Object[]>asList(new Object[] {1, 2}), new boolean[2], options)
+    );
+  }
+
+  /**
+   * A value that records each thread converting it to a string.
+   */
+  private static final class ThreadRecorder {
+
+    private final Set<Thread> threads;
+    private final String value;
+
+    private ThreadRecorder(Set<Thread> threads, String value) {
+      this.threads = threads;
+      this.value = value;
+    }
+
+    @Override
+    public String toString() {
+      threads.add(Thread.currentThread());
+      return value;
+    }
+  }
+
+  @Test
+  public void testParallelIsOptIn() throws IOException {
+    Set<Thread> threads = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    List<Object[]> rows = new ArrayList<>(TableRenderer.PARALLEL_THRESHOLD);
+    for (int i = 0; i < TableRenderer.PARALLEL_THRESHOLD; i++) {
+      rows.add(new Object[] {i, new ThreadRecorder(threads, i % 997 == 0 ? "wide value " + i : "v")});
+    }
+    Object[] titles = {"id", "value"};
+    boolean[] alignRights = {true, false};
+    StringBuilder legacy = new StringBuilder();
+    SQLUtility.printTable(titles, rows, legacy, true, alignRights);
+    String sequential = print(titles, rows, alignRights, TableOptions.DEFAULT);
+    String cached = print(titles, rows, alignRights, TableOptions.builder().cacheCells(true).build());
+    assertEquals(Collections.singleton(Thread.currentThread()), threads);
+    assertEquals(sequential, legacy.toString());
+    assertEquals(sequential, cached);
+    TableOptions.Builder parallel = TableOptions.builder().parallel(true);
+    assertTrue(parallel.build().isParallel());
+    assertEquals(sequential, print(titles, rows, alignRights, parallel.build()));
+    assertEquals(sequential, print(titles, rows, alignRights, parallel.cacheCells(true).build()));
+  }
+}
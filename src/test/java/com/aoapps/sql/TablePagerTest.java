@@ -0,0 +1,104 @@
+/*
+ * ao-sql - SQL and JDBC utilities.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql.
+ *
+ * ao-sql is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+/**
+ * Tests the cached column widths of {@link TablePager}.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class TablePagerTest {
+
+  private static final Object[] TITLES = {"id", "name"};
+
+  private static final boolean[] ALIGN_RIGHTS = {true, false};
+
+  private static List<Object[]> getRows(int count) {
+    List<Object[]> rows = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      rows.add(new Object[] {i, "row " + i});
+    }
+    return rows;
+  }
+
+  private static String printPage(TablePager pager, int page) throws IOException {
+    StringBuilder sb = new StringBuilder();
+    pager.printPage(page, sb);
+    return sb.toString();
+  }
+
+  @Test
+  public void testCachedPagesBounded() throws IOException {
+    TablePager pager = new TablePager(TITLES, getRows(TablePager.MAX_CACHED_PAGES + 10), ALIGN_RIGHTS, 1);
+    for (int page = 0; page < pager.getPageCount(); page++) {
+      String first = printPage(pager, page);
+      assertTrue(pager.isCached(page));
+      assertEquals(first, printPage(pager, page));
+      assertEquals(Math.min(page + 1, TablePager.MAX_CACHED_PAGES), pager.getCachedPageCount());
+    }
+    for (int page = 0; page < 10; page++) {
+      assertFalse(pager.isCached(page));
+    }
+    assertTrue(pager.isCached(10));
+  }
+
+  @Test
+  public void testLeastRecentlyPrintedDiscarded() throws IOException {
+    TablePager pager = new TablePager(TITLES, getRows(TablePager.MAX_CACHED_PAGES + 1), ALIGN_RIGHTS, 1);
+    for (int page = 0; page < TablePager.MAX_CACHED_PAGES; page++) {
+      printPage(pager, page);
+    }
+    printPage(pager, 0);
+    printPage(pager, TablePager.MAX_CACHED_PAGES);
+    assertEquals(TablePager.MAX_CACHED_PAGES, pager.getCachedPageCount());
+    assertTrue(pager.isCached(0));
+    assertFalse(pager.isCached(1));
+    assertTrue(pager.isCached(TablePager.MAX_CACHED_PAGES));
+  }
+
+  @Test
+  public void testClear() throws IOException {
+    List<Object[]> rows = getRows(10);
+    TablePager pager = new TablePager(TITLES, rows, ALIGN_RIGHTS, 4);
+    printPage(pager, 0);
+    printPage(pager, 1);
+    assertEquals(2, pager.getCachedPageCount());
+    rows.set(2, new Object[] {2, "a much wider name than before"});
+    pager.clear();
+    assertEquals(0, pager.getCachedPageCount());
+    String expected = printPage(new TablePager(TITLES, rows, ALIGN_RIGHTS, 4), 0);
+    assertEquals(expected, printPage(pager, 0));
+    assertEquals(expected, printPage(pager, 0));
+    assertEquals(1, pager.getCachedPageCount());
+  }
+}
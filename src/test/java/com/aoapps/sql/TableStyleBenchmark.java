@@ -0,0 +1,83 @@
+/*
+ * ao-sql - SQL and JDBC utilities.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql.
+ *
+ * ao-sql is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Times {@link SQLUtility#printTable(java.lang.Object[], java.lang.Iterable, java.lang.Appendable, boolean[], com.aoapps.sql.TableOptions)}
+ * in each {@link TableStyle}, along with the size of its output in characters and in UTF-8 bytes.
+ *
+ * <p>This is not run as a test.  Run its {@link #main(java.lang.String[])} directly and compare the best times and
+ * sizes before and after a change.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public final class TableStyleBenchmark {
+
+  /** Make no instances. */
+  private TableStyleBenchmark() {
+    throw new AssertionError();
+  }
+
+  private static final int ROWS = 20000;
+  private static final int REPETITIONS = 40;
+
+  public static void main(String[] args) throws IOException {
+    Random random = new Random(1);
+    Object[] titles = {"id", "name", "key", "value"};
+    boolean[] alignRights = {true, false, false, true};
+    List<Object[]> rows = new ArrayList<>(ROWS);
+    for (int i = 0; i < ROWS; i++) {
+      rows.add(new Object[] {
+          i,
+          "name " + i + " " + "abcdefghij".repeat(random.nextInt(4)),
+          "id-" + random.nextLong(),
+          random.nextDouble()
+      });
+    }
+    System.out.printf("%d columns x %d rows, best of %d%n", titles.length, ROWS, REPETITIONS);
+    for (TableStyle style : TableStyle.values()) {
+      TableOptions options = TableOptions.builder().style(style).build();
+      long best = Long.MAX_VALUE;
+      int chars = 0;
+      int bytes = 0;
+      for (int rep = 0; rep < REPETITIONS; rep++) {
+        StringBuilder sb = new StringBuilder(1 << 23);
+        long start = System.nanoTime();
+        SQLUtility.printTable(titles, rows, sb, alignRights, options);
+        best = Math.min(best, System.nanoTime() - start);
+        if (rep == 0) {
+          chars = sb.length();
+          bytes = sb.toString().getBytes(StandardCharsets.UTF_8).length;
+        }
+      }
+      System.out.printf("  %-8s %,12d chars %,12d UTF-8 bytes %8.2f ms%n", style, chars, bytes, best / 1e6);
+    }
+  }
+}
@@ -0,0 +1,197 @@
+/*
+ * ao-sql - SQL and JDBC utilities.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql.
+ *
+ * ao-sql is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.Timestamp;
+import org.junit.Test;
+
+/**
+ * Tests {@link TimestampPool}.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class TimestampPoolTest {
+
+  private static void assertCounts(TimestampPool pool, long expectedHits, long expectedMisses) {
+    assertEquals("hits", expectedHits, pool.getHits());
+    assertEquals("misses", expectedMisses, pool.getMisses());
+  }
+
+  @Test
+  public void testCapacity() {
+    assertEquals(1, new TimestampPool(1).getCapacity());
+    assertEquals(64, new TimestampPool(64).getCapacity());
+    assertEquals(128, new TimestampPool(65).getCapacity());
+    assertThrows(IllegalArgumentException.class, () -> new TimestampPool(0));
+    assertThrows(IllegalArgumentException.class, () -> new TimestampPool(TimestampPool.MAX_CAPACITY + 1));
+  }
+
+  @Test
+  public void testEqualValueIsSameInstance() {
+    TimestampPool pool = new TimestampPool(64);
+    UnmodifiableTimestamp ts = pool.intern(1234567890L, 123456789);
+    assertCounts(pool, 0, 1);
+    assertSame(ts, pool.intern(1234567890L, 123456789));
+    assertCounts(pool, 1, 1);
+    assertEquals(1234567890123L, ts.getTime());
+    assertEquals(123456789, ts.getNanos());
+    // Differing only in seconds or only in nanoseconds
+    assertNotSame(ts, pool.intern(1234567891L, 123456789));
+    assertNotSame(ts, pool.intern(1234567890L, 123456788));
+    assertCounts(pool, 1, 3);
+  }
+
+  @Test
+  public void testNegativeSeconds() {
+    TimestampPool pool = new TimestampPool(64);
+    // Half a second before 1969-12-31 23:59:59
+    UnmodifiableTimestamp ts = pool.intern(-2, 500000000);
+    assertEquals(-1500, ts.getTime());
+    assertEquals(500000000, ts.getNanos());
+    assertEquals(new Timestamp(-1500), ts);
+    UnmodifiableTimestamp nanos = pool.intern(-1, 1);
+    assertEquals(-1000, nanos.getTime());
+    assertEquals(1, nanos.getNanos());
+    assertSame(ts, pool.intern(new Timestamp(-1500)));
+    assertSame(nanos, pool.intern(SQLUtility.newTimestamp(-1, 1)));
+  }
+
+  @Test
+  public void testInternTimestampAndSecondsShareGroups() {
+    TimestampPool pool = new TimestampPool(1024);
+    long[] times = {0, 1, 999, 1000, -1, -999, -1000, -1001, 1617463800123L, -12219292800001L};
+    int[] extraNanos = {0, 1, 999999};
+    for (long time : times) {
+      for (int extra : extraNanos) {
+        Timestamp timestamp = new Timestamp(time);
+        timestamp.setNanos(timestamp.getNanos() + extra);
+        long seconds = Math.floorDiv(time, 1000);
+        // Interned by seconds first, then found by timestamp
+        UnmodifiableTimestamp bySeconds = pool.intern(seconds, timestamp.getNanos());
+        assertEquals(timestamp, bySeconds);
+        assertSame(bySeconds, pool.intern(timestamp));
+        assertSame(bySeconds, pool.intern(new UnmodifiableTimestamp(timestamp.getTime(), timestamp.getNanos())));
+      }
+    }
+    TimestampPool other = new TimestampPool(1024);
+    for (long time : times) {
+      // Interned by timestamp first, then found by seconds
+      UnmodifiableTimestamp byTimestamp = other.intern(new Timestamp(time));
+      assertSame(byTimestamp, other.intern(Math.floorDiv(time, 1000), byTimestamp.getNanos()));
+    }
+  }
+
+  @Test
+  public void testInternTimestamp() {
+    TimestampPool pool = new TimestampPool(64);
+    assertEquals(null, pool.intern((Timestamp) null));
+    assertCounts(pool, 0, 0);
+    // An unmodifiable timestamp is added itself
+    UnmodifiableTimestamp unmodifiable = new UnmodifiableTimestamp(1000, 5);
+    assertSame(unmodifiable, pool.intern(unmodifiable));
+    assertSame(unmodifiable, pool.intern(new UnmodifiableTimestamp(1000, 5)));
+    // A modifiable timestamp is copied
+    Timestamp modifiable = new Timestamp(2000);
+    UnmodifiableTimestamp copy = pool.intern(modifiable);
+    assertEquals(modifiable, copy);
+    modifiable.setNanos(7);
+    assertEquals(0, copy.getNanos());
+    assertSame(copy, pool.intern(new Timestamp(2000)));
+    assertCounts(pool, 2, 2);
+  }
+
+  @Test
+  public void testClear() {
+    TimestampPool pool = new TimestampPool(64);
+    UnmodifiableTimestamp ts = pool.intern(60, 0);
+    assertSame(ts, pool.intern(60, 0));
+    pool.clear();
+    UnmodifiableTimestamp afterClear = pool.intern(60, 0);
+    assertNotSame(ts, afterClear);
+    assertEquals(ts, afterClear);
+    assertSame(afterClear, pool.intern(60, 0));
+    // The counters are cumulative
+    assertCounts(pool, 2, 2);
+  }
+
+  @Test
+  public void testOutOfRangeUsesExSupplier() {
+    TimestampPool pool = new TimestampPool(64);
+    for (long[] secondsNanos : new long[][] {
+        {0, -1},
+        {0, 1000000000},
+        {SQLUtility.MAX_TIMESTAMP_SECONDS + 1, 0},
+        {SQLUtility.MIN_TIMESTAMP_SECONDS - 1, 0},
+        {Long.MAX_VALUE, 0},
+        {Long.MIN_VALUE, 0}}) {
+      long seconds = secondsNanos[0];
+      int nanos = (int) secondsNanos[1];
+      IllegalStateException e = assertThrows(IllegalStateException.class, () -> pool.intern(seconds, nanos, IllegalStateException::new));
+      assertTrue(e.getMessage(), e.getMessage().contains(nanos < 0 || nanos > 999999999 ? "nanos" : "seconds"));
+      assertThrows(IllegalArgumentException.class, () -> pool.intern(seconds, nanos));
+    }
+    assertCounts(pool, 0, 0);
+    // The range limits themselves
+    assertEquals(SQLUtility.MIN_TIMESTAMP_SECONDS * 1000, pool.intern(SQLUtility.MIN_TIMESTAMP_SECONDS, 0).getTime());
+    assertEquals(SQLUtility.MAX_TIMESTAMP_SECONDS * 1000, pool.intern(SQLUtility.MAX_TIMESTAMP_SECONDS, 0).getTime());
+  }
+
+  @Test
+  public void testFullGroupsAreReplaced() {
+    TimestampPool pool = new TimestampPool(4);
+    for (int i = 0; i < 1000; i++) {
+      UnmodifiableTimestamp ts = pool.intern(i, i);
+      assertEquals(i * 1000L, ts.getTime());
+      assertEquals(i, ts.getNanos());
+      // The most recent value is always found
+      assertSame(ts, pool.intern(i, i));
+    }
+    assertCounts(pool, 1000, 1000);
+    assertEquals(4, pool.getCapacity());
+  }
+
+  @Test
+  public void testValueOf() {
+    Timestamp modifiable = new Timestamp(3000);
+    UnmodifiableTimestamp unmodifiable = new UnmodifiableTimestamp(4000, 0);
+    // Without a pool, the same as valueOf(Timestamp)
+    assertEquals(null, UnmodifiableTimestamp.valueOf(null, null));
+    assertEquals(modifiable, UnmodifiableTimestamp.valueOf(modifiable, null));
+    assertNotSame(UnmodifiableTimestamp.valueOf(modifiable, null), UnmodifiableTimestamp.valueOf(modifiable, null));
+    assertSame(unmodifiable, UnmodifiableTimestamp.valueOf(unmodifiable, null));
+    // With a pool, shared
+    TimestampPool pool = new TimestampPool(64);
+    UnmodifiableTimestamp pooled = UnmodifiableTimestamp.valueOf(modifiable, pool);
+    assertEquals(modifiable, pooled);
+    assertSame(pooled, UnmodifiableTimestamp.valueOf(new Timestamp(3000), pool));
+    assertSame(unmodifiable, UnmodifiableTimestamp.valueOf(unmodifiable, pool));
+    assertEquals(null, UnmodifiableTimestamp.valueOf(null, pool));
+  }
+}